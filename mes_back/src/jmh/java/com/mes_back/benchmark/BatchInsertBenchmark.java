@@ -0,0 +1,89 @@
+package com.mes_back.benchmark;
+
+import com.mes_back.MesBackApplication;
+import com.mes_back.entity.OrderInbound;
+import com.mes_back.entity.OrderItemRouting;
+import com.mes_back.entity.ProcessTracking;
+import com.mes_back.repository.OrderItemRoutingRepository;
+import com.mes_back.repository.ProcessTrackingRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공정 진행 현황 대량 insert (풀링 채번 + JDBC 배치).
+ * jdbcBatchSize=1 → 행마다 insert 1회 (배치 없음), 50 → 50건씩 묶어서 전송.
+ * 매 호출은 flush 후 롤백하므로 데이터가 쌓이지 않는다.
+ * (내장 H2 는 왕복 비용이 거의 없어 MySQL 보다 차이가 작게 나옴)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchInsertBenchmark {
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    @Param({"500"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate tx;
+    private EntityManager em;
+    private ProcessTrackingRepository processTrackingRepository;
+    private Long orderInboundId;
+    private List<Long> routingIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        // 커맨드라인 인자로 넘겨야 application.yml 의 batch_size 보다 우선 적용됨
+        context = new SpringApplicationBuilder(MesBackApplication.class)
+                .profiles("jmh")
+                .run("--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+
+        orderInboundId = context.getBean(BenchmarkDataSeeder.class).seed(10).sampleOrderInboundId();
+        routingIds = context.getBean(OrderItemRoutingRepository.class).findAllByOrderInboundId(orderInboundId)
+                .stream()
+                .map(OrderItemRouting::getId)
+                .toList();
+
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        em = context.getBean(EntityManager.class);
+        processTrackingRepository = context.getBean(ProcessTrackingRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public int saveAllProcessTracking() {
+        return tx.execute(status -> {
+            OrderInbound inbound = em.getReference(OrderInbound.class, orderInboundId);
+
+            List<ProcessTracking> entities = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                ProcessTracking pt = new ProcessTracking();
+                pt.setOrderInbound(inbound);
+                pt.setOrderItemRouting(em.getReference(OrderItemRouting.class, routingIds.get(i % routingIds.size())));
+                pt.setProcessStatus(0);
+                entities.add(pt);
+            }
+            processTrackingRepository.saveAll(entities);
+            em.flush();
+
+            status.setRollbackOnly();
+            return entities.size();
+        });
+    }
+}
@@ -0,0 +1,198 @@
+package com.mes_back.benchmark;
+
+import com.mes_back.constant.CompanyType;
+import com.mes_back.constant.MaterialCategory;
+import com.mes_back.constant.OrderCategory;
+import com.mes_back.constant.PaintType;
+import com.mes_back.constant.StockMovementType;
+import com.mes_back.entity.*;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 기준정보/이력 데이터 적재.
+ * 수주 입고 N건(건당 출고 2건, 공정 ROUTING_STEPS 단계)과 원자재 입고 N건(품목 100종)을 만든다.
+ */
+@Component
+public class BenchmarkDataSeeder {
+
+    static final int ORDER_ITEM_COUNT = 200;
+    static final int MATERIAL_ITEM_COUNT = 100;
+    static final int ROUTING_STEPS = 8;
+    private static final int FLUSH_SIZE = 500;
+
+    private final EntityManager em;
+    private final TransactionTemplate tx;
+
+    public BenchmarkDataSeeder(EntityManager em, PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    public record Seeded(Long sampleOrderInboundId) {
+    }
+
+    public Seeded seed(int inboundCount) {
+        return tx.execute(status -> {
+            LocalDate today = LocalDate.now();
+
+            Company customer = persist(company("고객사", CompanyType.CUSTOMER));
+            Company purchaser = persist(company("매입처", CompanyType.PURCHASER));
+
+            List<Routing> routings = new ArrayList<>();
+            for (int s = 1; s <= ROUTING_STEPS; s++) {
+                Routing routing = new Routing();
+                routing.setProcessCode("PC-" + s);
+                routing.setProcessName("공정" + s);
+                routing.setProcessTime(10 * s);
+                routings.add(persist(routing));
+            }
+
+            List<OrderItem> orderItems = new ArrayList<>();
+            List<List<OrderItemRouting>> itemRoutings = new ArrayList<>();
+            for (int i = 0; i < ORDER_ITEM_COUNT; i++) {
+                OrderItem item = new OrderItem();
+                item.setCompany(customer);
+                item.setItemName("품목" + i);
+                item.setItemCode("OI-" + i);
+                item.setCategory(OrderCategory.GENERAL);
+                item.setColor("WHITE");
+                item.setUnitPrice(1000L + i);
+                item.setPaintType(PaintType.POWDER);
+                item.setUseYn("Y");
+                item.setStatus("Y");
+                orderItems.add(persist(item));
+
+                List<OrderItemRouting> steps = new ArrayList<>();
+                for (int s = 0; s < ROUTING_STEPS; s++) {
+                    OrderItemRouting oir = new OrderItemRouting();
+                    oir.setOrderItem(item);
+                    oir.setRouting(routings.get(s));
+                    oir.setProcessNo((long) s + 1);
+                    steps.add(persist(oir));
+                }
+                itemRoutings.add(steps);
+            }
+
+            Long sampleOrderInboundId = null;
+            for (int i = 0; i < inboundCount; i++) {
+                OrderItem item = orderItems.get(i % ORDER_ITEM_COUNT);
+                OrderInbound inbound = persist(OrderInbound.builder()
+                        .orderItem(item)
+                        .company(customer)
+                        .customerName(customer.getCompanyName())
+                        .itemName(item.getItemName())
+                        .itemCode(item.getItemCode())
+                        .qty(100L)
+                        .shippedQty(60L)
+                        .category(OrderCategory.GENERAL)
+                        .inboundDate(today.minusDays(i % 365))
+                        .lotNo("LOT-B-" + i)
+                        .paintType(PaintType.POWDER)
+                        .build());
+                if (sampleOrderInboundId == null) {
+                    sampleOrderInboundId = inbound.getOrderInboundId();
+                }
+
+                for (int o = 0; o < 2; o++) {
+                    persist(OrderOutbound.builder()
+                            .orderInbound(inbound)
+                            .customerName(inbound.getCustomerName())
+                            .itemName(inbound.getItemName())
+                            .itemCode(inbound.getItemCode())
+                            .qty(30L)
+                            .category(OrderCategory.GENERAL)
+                            .outboundNo("OUT-B-" + i + "-" + o)
+                            .outboundDate(inbound.getInboundDate())
+                            .remainingQuantity(70L - 30L * o)
+                            .build());
+                }
+
+                for (OrderItemRouting step : itemRoutings.get(i % ORDER_ITEM_COUNT)) {
+                    ProcessTracking pt = new ProcessTracking();
+                    pt.setOrderInbound(inbound);
+                    pt.setOrderItemRouting(step);
+                    pt.setProcessStatus(step.getProcessNo() <= 4 ? 2 : 0);
+                    pt.setProcessStartTime(step.getProcessNo() <= 4 ? LocalDateTime.now() : null);
+                    persist(pt);
+                }
+            }
+
+            List<MaterialItem> materialItems = new ArrayList<>();
+            for (int i = 0; i < MATERIAL_ITEM_COUNT; i++) {
+                MaterialItem item = new MaterialItem();
+                item.setCompany(purchaser);
+                item.setItemName("원자재" + i);
+                item.setItemCode("MI-" + i);
+                item.setCategory(MaterialCategory.PAINT);
+                item.setSpecQty(20L);
+                item.setSpecUnit("KG");
+                item.setManufacturer("제조사");
+                item.setUseYn("Y");
+                materialItems.add(persist(item));
+            }
+
+            for (int i = 0; i < inboundCount; i++) {
+                MaterialItem item = materialItems.get(i % MATERIAL_ITEM_COUNT);
+                MaterialInbound inbound = persist(MaterialInbound.builder()
+                        .materialItem(item)
+                        .supplierName(purchaser.getCompanyName())
+                        .itemName(item.getItemName())
+                        .itemCode(item.getItemCode())
+                        .specQty(item.getSpecQty())
+                        .specUnit(item.getSpecUnit())
+                        .manufacturer(item.getManufacturer())
+                        .manufacteDate(today.minusDays(30))
+                        .qty(5L)
+                        .inboundDate(today.minusDays(i % 365))
+                        .inboundNo("MINC-B-" + i)
+                        .totalQty(100L)
+                        .build());
+
+                MaterialStock stock = new MaterialStock();
+                stock.setMaterialInbound(inbound);
+                stock.setTotalQty(100L);
+                stock.setUnit(item.getSpecUnit());
+                persist(stock);
+                persist(MaterialStockMovement.builder() // 재고 원장 (품목별 재고는 원장에서 집계)
+                        .materialItemId(inbound.getMaterialItem().getMaterialItemId())
+                        .materialInboundId(inbound.getId())
+                        .movementType(StockMovementType.INBOUND)
+                        .delta(100L)
+                        .build());
+            }
+
+            em.flush();
+            em.clear();
+            return new Seeded(sampleOrderInboundId);
+        });
+    }
+
+    private int pending;
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        if (++pending % FLUSH_SIZE == 0) {
+            em.flush();
+        }
+        return entity;
+    }
+
+    private static Company company(String name, CompanyType type) {
+        return Company.builder()
+                .type(type)
+                .companyName(name)
+                .ceoName("대표")
+                .address("주소")
+                .bizRegNo("123-45-67890")
+                .status("Y")
+                .build();
+    }
+}
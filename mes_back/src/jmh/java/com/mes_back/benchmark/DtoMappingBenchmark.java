@@ -0,0 +1,120 @@
+package com.mes_back.benchmark;
+
+import com.mes_back.constant.MaterialCategory;
+import com.mes_back.constant.OrderCategory;
+import com.mes_back.constant.PaintType;
+import com.mes_back.dto.MaterialItemDTO;
+import com.mes_back.dto.OrderItemDTO;
+import com.mes_back.dto.OrderItemRequestDTO;
+import com.mes_back.entity.Company;
+import com.mes_back.entity.MaterialItem;
+import com.mes_back.entity.OrderItem;
+import com.mes_back.mapper.MaterialItemMapper;
+import com.mes_back.mapper.OrderItemMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 품목 1건당 Entity → DTO 매핑 비용 비교 (기존 리플렉션 ModelMapper vs MapStruct 생성 매퍼).
+ * ModelMapper 는 제거 전 ModelMapperConfig 와 같은 설정(STRICT, private 필드 접근)으로 구성.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private OrderItemMapper orderItemMapper;
+    private MaterialItemMapper materialItemMapper;
+
+    private OrderItem orderItem;
+    private MaterialItem materialItem;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+
+        orderItemMapper = Mappers.getMapper(OrderItemMapper.class);
+        materialItemMapper = Mappers.getMapper(MaterialItemMapper.class);
+
+        Company company = Company.builder()
+                .companyId(1L)
+                .companyName("트리플제이")
+                .status("Y")
+                .build();
+
+        orderItem = new OrderItem();
+        orderItem.setOrderItemId(100L);
+        orderItem.setCompany(company);
+        orderItem.setItemName("도장 품목");
+        orderItem.setItemCode("OI-0100");
+        orderItem.setCategory(OrderCategory.GENERAL);
+        orderItem.setColor("WHITE");
+        orderItem.setUnitPrice(12000L);
+        orderItem.setPaintType(PaintType.POWDER);
+        orderItem.setNote("벤치마크");
+        orderItem.setUseYn("Y");
+        orderItem.setStatus("Y");
+
+        materialItem = new MaterialItem();
+        materialItem.setMaterialItemId(200L);
+        materialItem.setCompany(company);
+        materialItem.setItemName("분체 도료");
+        materialItem.setItemCode("MI-0200");
+        materialItem.setCategory(MaterialCategory.PAINT);
+        materialItem.setColor("WHITE");
+        materialItem.setSpecQty(20L);
+        materialItem.setSpecUnit("KG");
+        materialItem.setManufacturer("제조사");
+        materialItem.setNote("벤치마크");
+        materialItem.setUseYn("Y");
+    }
+
+    // ===== 수주 품목 → OrderItemDTO =====
+    @Benchmark
+    public OrderItemDTO orderItemDto_modelMapper() {
+        OrderItemDTO dto = modelMapper.map(orderItem, OrderItemDTO.class);
+        dto.setCompanyId(orderItem.getCompany().getCompanyId());
+        return dto;
+    }
+
+    @Benchmark
+    public OrderItemDTO orderItemDto_mapStruct() {
+        return orderItemMapper.toDto(orderItem);
+    }
+
+    // ===== 수주 품목 → 목록/상세 화면 DTO =====
+    @Benchmark
+    public OrderItemRequestDTO orderItemRequestDto_modelMapper() {
+        OrderItemRequestDTO dto = modelMapper.map(orderItem, OrderItemRequestDTO.class);
+        dto.setCompanyName(orderItem.getCompany().getCompanyName());
+        dto.setStatus(orderItem.getCompany().getStatus());
+        return dto;
+    }
+
+    @Benchmark
+    public OrderItemRequestDTO orderItemRequestDto_mapStruct() {
+        return orderItemMapper.toRequestDto(orderItem);
+    }
+
+    // ===== 원자재 품목 → MaterialItemDTO =====
+    @Benchmark
+    public MaterialItemDTO materialItemDto_modelMapper() {
+        MaterialItemDTO dto = modelMapper.map(materialItem, MaterialItemDTO.class);
+        dto.setCompanyId(materialItem.getCompany().getCompanyId());
+        return dto;
+    }
+
+    @Benchmark
+    public MaterialItemDTO materialItemDto_mapStruct() {
+        return materialItemMapper.toDto(materialItem);
+    }
+}
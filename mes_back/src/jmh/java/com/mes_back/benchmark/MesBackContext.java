@@ -0,0 +1,43 @@
+package com.mes_back.benchmark;
+
+import com.mes_back.MesBackApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크 1회(trial)마다 jmh 프로필로 스프링 컨텍스트를 띄우고 H2에 데이터를 적재한다.
+ * 데이터 규모는 -p inboundCount=... 로 조정.
+ */
+@State(Scope.Benchmark)
+public class MesBackContext {
+
+    @Param({"2000"})
+    public int inboundCount;
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkDataSeeder.Seeded seeded;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(MesBackApplication.class)
+                .profiles("jmh")
+                .run();
+        seeded = context.getBean(BenchmarkDataSeeder.class).seed(inboundCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public BenchmarkDataSeeder.Seeded seeded() {
+        return seeded;
+    }
+}
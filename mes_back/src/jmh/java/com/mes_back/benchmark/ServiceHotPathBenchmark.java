@@ -0,0 +1,90 @@
+package com.mes_back.benchmark;
+
+import com.mes_back.constant.DocumentType;
+import com.mes_back.dto.MaterialStockDTO;
+import com.mes_back.dto.OrderInboundDTO;
+import com.mes_back.dto.OrderOutboundDto;
+import com.mes_back.dto.ProcessTrackingDTO;
+import com.mes_back.repository.OrderInboundRepository;
+import com.mes_back.service.DocumentNumberService;
+import com.mes_back.service.MaterialStockService;
+import com.mes_back.service.OrderInboundProcessTrackingService;
+import com.mes_back.service.OrderOutboundService;
+import com.mes_back.service.OutboundEligibilityIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층 핫패스 (내장 H2 + 실제 스프링 빈).
+ * 매핑 단독 비용은 DtoMappingBenchmark 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceHotPathBenchmark {
+
+    private OrderOutboundService orderOutboundService;
+    private MaterialStockService materialStockService;
+    private DocumentNumberService documentNumberService;
+    private OrderInboundProcessTrackingService processTrackingService;
+    private OrderInboundRepository orderInboundRepository;
+    private OutboundEligibilityIndex outboundEligibilityIndex;
+    private Long sampleOrderInboundId;
+
+    @Setup(Level.Trial)
+    public void setUp(MesBackContext ctx) {
+        orderOutboundService = ctx.bean(OrderOutboundService.class);
+        materialStockService = ctx.bean(MaterialStockService.class);
+        documentNumberService = ctx.bean(DocumentNumberService.class);
+        processTrackingService = ctx.bean(OrderInboundProcessTrackingService.class);
+        orderInboundRepository = ctx.bean(OrderInboundRepository.class);
+        outboundEligibilityIndex = ctx.bean(OutboundEligibilityIndex.class);
+        sampleOrderInboundId = ctx.seeded().sampleOrderInboundId();
+    }
+
+    // 출고 이력 전체 조회 + DTO 변환
+    @Benchmark
+    public List<OrderOutboundDto> orderOutboundFindAll() {
+        return orderOutboundService.findAll();
+    }
+
+    // 원자재 품목별 재고 합계 (재고 원장 집계)
+    @Benchmark
+    public List<MaterialStockDTO> materialStockTotalsByItem() {
+        return materialStockService.findTotalQtyByItem(null);
+    }
+
+    // 출고번호 채번 (블록 소진 시에만 DB 카운터 잠금)
+    @Benchmark
+    public String documentNumberNext() {
+        return documentNumberService.next(DocumentType.ORDER_OUTBOUND, LocalDate.now());
+    }
+
+    // 동시 단말 채번
+    @Benchmark
+    @Threads(8)
+    public String documentNumberNextContended() {
+        return documentNumberService.next(DocumentType.ORDER_OUTBOUND, LocalDate.now());
+    }
+
+    // 출고 대상 LOT - 상관 서브쿼리 집계 (인덱스 도입 전 방식)
+    @Benchmark
+    public List<OrderInboundDTO> outboundCandidatesQuery() {
+        return orderInboundRepository.findInboundHistoriesForOutbound();
+    }
+
+    // 출고 대상 LOT - 인메모리 인덱스
+    @Benchmark
+    public List<OrderInboundDTO> outboundCandidatesIndex() {
+        return outboundEligibilityIndex.findAll();
+    }
+
+    // LOT 1건의 공정 진행 현황 조회 + DTO 변환
+    @Benchmark
+    public List<ProcessTrackingDTO> processTrackingForLot() {
+        return processTrackingService.getProcessTracking(sampleOrderInboundId);
+    }
+}
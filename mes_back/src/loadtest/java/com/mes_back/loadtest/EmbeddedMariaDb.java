@@ -0,0 +1,43 @@
+package com.mes_back.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * 부하 테스트 / 실행 계획 점검용 내장 MariaDB (MariaDB4j, 빈 포트 자동 선택).
+ * 운영과 같은 MySQL 드라이버 URL 로 접속하며 스키마는 애플리케이션 기동 시 Flyway 가 만든다.
+ */
+public class EmbeddedMariaDb implements AutoCloseable {
+
+    private final DB db;
+    private final String databaseName;
+
+    private EmbeddedMariaDb(DB db, String databaseName) {
+        this.db = db;
+        this.databaseName = databaseName;
+    }
+
+    public static EmbeddedMariaDb start(String databaseName) throws ManagedProcessException {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0); // 빈 포트 자동 선택
+        config.addArg("--character-set-server=utf8mb4");
+        config.addArg("--collation-server=utf8mb4_general_ci");
+        config.addArg("--max-connections=500");
+        config.addArg("--innodb-buffer-pool-size=512M"); // 대량 적재 데이터셋 대응
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB(databaseName);
+        return new EmbeddedMariaDb(db, databaseName);
+    }
+
+    public String jdbcUrl() {
+        return "jdbc:mysql://localhost:" + db.getConfiguration().getPort() + "/" + databaseName
+                + "?useCursorFetch=true&rewriteBatchedStatements=true";
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        db.stop();
+    }
+}
@@ -0,0 +1,72 @@
+package com.mes_back.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 엔드포인트별 응답 시간/상태 집계.
+ * 단말 스레드들이 동시에 기록하므로 record 는 synchronized (측정 구간 외 비용은 무시 가능 수준).
+ */
+public class EndpointStats {
+
+    private final String endpoint;
+    private long[] latencies = new long[1024]; // 나노초
+    private int count;
+    private long errors;    // 5xx, 연결 실패 등 (409 제외한 2xx 외 응답)
+    private long conflicts; // 409 (재고 부족 등 경합으로 인한 거절)
+    private long queries;   // X-Query-Count 합계 (query-count.enabled=true 일 때만 헤더가 붙음)
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public synchronized void record(long nanos, int status, long queryCount) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (status == 409) {
+            conflicts++;
+        } else if (status < 200 || status >= 300) {
+            errors++;
+        }
+        queries += queryCount;
+    }
+
+    public synchronized String format(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return String.format(Locale.ROOT, "%-40s %8d %9.1f %9.1f %9.1f %9.1f %7.2f%% %7.2f%% %7.1f",
+                endpoint,
+                count,
+                count / elapsedSeconds,
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.99)),
+                millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                ratio(errors),
+                ratio(conflicts),
+                count == 0 ? 0.0 : (double) queries / count);
+    }
+
+    public static String header() {
+        return String.format(Locale.ROOT, "%-40s %8s %9s %9s %9s %9s %8s %8s %7s",
+                "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "error", "conflict", "sql/req");
+    }
+
+    private double ratio(long n) {
+        return count == 0 ? 0.0 : 100.0 * n / count;
+    }
+
+    // nearest-rank 방식
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
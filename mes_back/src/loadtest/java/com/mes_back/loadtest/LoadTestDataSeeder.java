@@ -0,0 +1,208 @@
+package com.mes_back.loadtest;
+
+import com.mes_back.constant.CompanyType;
+import com.mes_back.constant.MaterialCategory;
+import com.mes_back.constant.OrderCategory;
+import com.mes_back.constant.PaintType;
+import com.mes_back.constant.StockMovementType;
+import com.mes_back.entity.*;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 시작 전 기준정보와 진행 중인 LOT 을 적재한다.
+ * - 수주 품목 ORDER_ITEM_COUNT 종 (품목당 ROUTING_STEPS 단계 공정)
+ * - LOT lotCount 건 (공정 진행 단계는 무작위, 진행 중 LOT 이 골고루 섞이도록)
+ * - 원자재 입고 MATERIAL_LOT_COUNT 건 (LOT 당 재고 MATERIAL_STOCK_QTY → 소진되면 재고 부족 응답)
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder {
+
+    static final int CUSTOMER_COUNT = 20;
+    static final int ORDER_ITEM_COUNT = 200;
+    static final int ROUTING_STEPS = 6;
+    static final int MATERIAL_ITEM_COUNT = 100;
+    static final int MATERIAL_LOT_COUNT = 1000;
+    static final long MATERIAL_STOCK_QTY = 200L;
+    private static final int FLUSH_SIZE = 500;
+
+    private final EntityManager em;
+    private final TransactionTemplate tx;
+
+    public LoadTestDataSeeder(EntityManager em, PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /** 시나리오에서 대상으로 고를 id 목록 */
+    public record Seeded(List<OrderItemRef> orderItems, List<Long> lotIds, List<Long> materialInboundIds) {
+    }
+
+    /** LOT 등록 요청 본문을 만들 때 필요한 수주 품목 정보 */
+    public record OrderItemRef(Long orderItemId, String customerName, String itemName, String itemCode) {
+    }
+
+    public Seeded seed(int lotCount) {
+        return tx.execute(status -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            LocalDate today = LocalDate.now();
+
+            List<Company> customers = new ArrayList<>();
+            for (int i = 0; i < CUSTOMER_COUNT; i++) {
+                customers.add(persist(company("고객사" + i, CompanyType.CUSTOMER)));
+            }
+            Company purchaser = persist(company("매입처", CompanyType.PURCHASER));
+
+            List<Routing> routings = new ArrayList<>();
+            for (int s = 1; s <= ROUTING_STEPS; s++) {
+                Routing routing = new Routing();
+                routing.setProcessCode("LT-PC-" + s);
+                routing.setProcessName("공정" + s);
+                routing.setProcessTime(10 * s);
+                routings.add(persist(routing));
+            }
+
+            List<OrderItem> orderItems = new ArrayList<>();
+            List<List<OrderItemRouting>> itemRoutings = new ArrayList<>();
+            for (int i = 0; i < ORDER_ITEM_COUNT; i++) {
+                OrderItem item = new OrderItem();
+                item.setCompany(customers.get(i % CUSTOMER_COUNT));
+                item.setItemName("품목" + i);
+                item.setItemCode("LT-OI-" + i);
+                item.setCategory(OrderCategory.GENERAL);
+                item.setColor("WHITE");
+                item.setUnitPrice(1000L + i);
+                item.setPaintType(PaintType.POWDER);
+                item.setUseYn("Y");
+                item.setStatus("Y");
+                orderItems.add(persist(item));
+
+                List<OrderItemRouting> steps = new ArrayList<>();
+                for (int s = 0; s < ROUTING_STEPS; s++) {
+                    OrderItemRouting oir = new OrderItemRouting();
+                    oir.setOrderItem(item);
+                    oir.setRouting(routings.get(s));
+                    oir.setProcessNo((long) s + 1);
+                    steps.add(persist(oir));
+                }
+                itemRoutings.add(steps);
+            }
+
+            List<OrderInbound> lots = new ArrayList<>();
+            for (int i = 0; i < lotCount; i++) {
+                OrderItem item = orderItems.get(i % ORDER_ITEM_COUNT);
+                OrderInbound lot = persist(OrderInbound.builder()
+                        .orderItem(item)
+                        .company(item.getCompany())
+                        .customerName(item.getCompany().getCompanyName())
+                        .itemName(item.getItemName())
+                        .itemCode(item.getItemCode())
+                        .qty(100L)
+                        .category(OrderCategory.GENERAL)
+                        .inboundDate(today.minusDays(i % 90))
+                        .lotNo("LOT-LT-" + i)
+                        .paintType(PaintType.POWDER)
+                        .build());
+                lots.add(lot);
+
+                // 완료 단계 수 0 ~ ROUTING_STEPS (전 공정 완료 LOT 은 바로 출고 대상)
+                int done = random.nextInt(ROUTING_STEPS + 1);
+                for (OrderItemRouting step : itemRoutings.get(i % ORDER_ITEM_COUNT)) {
+                    ProcessTracking pt = new ProcessTracking();
+                    pt.setOrderInbound(lot);
+                    pt.setOrderItemRouting(step);
+                    pt.setProcessStatus(step.getProcessNo() <= done ? 2 : 0);
+                    pt.setProcessStartTime(step.getProcessNo() <= done ? LocalDateTime.now().minusHours(done - step.getProcessNo() + 1) : null);
+                    persist(pt);
+                }
+            }
+
+            List<MaterialItem> materialItems = new ArrayList<>();
+            for (int i = 0; i < MATERIAL_ITEM_COUNT; i++) {
+                MaterialItem item = new MaterialItem();
+                item.setCompany(purchaser);
+                item.setItemName("원자재" + i);
+                item.setItemCode("LT-MI-" + i);
+                item.setCategory(MaterialCategory.PAINT);
+                item.setSpecQty(20L);
+                item.setSpecUnit("KG");
+                item.setManufacturer("제조사");
+                item.setUseYn("Y");
+                materialItems.add(persist(item));
+            }
+
+            List<MaterialInbound> materialLots = new ArrayList<>();
+            for (int i = 0; i < MATERIAL_LOT_COUNT; i++) {
+                MaterialItem item = materialItems.get(i % MATERIAL_ITEM_COUNT);
+                MaterialInbound inbound = persist(MaterialInbound.builder()
+                        .materialItem(item)
+                        .supplierName(purchaser.getCompanyName())
+                        .itemName(item.getItemName())
+                        .itemCode(item.getItemCode())
+                        .specQty(item.getSpecQty())
+                        .specUnit(item.getSpecUnit())
+                        .manufacturer(item.getManufacturer())
+                        .manufacteDate(today.minusDays(30))
+                        .qty(10L)
+                        .inboundDate(today.minusDays(i % 365))
+                        .inboundNo("MINC-LT-" + i)
+                        .totalQty(MATERIAL_STOCK_QTY)
+                        .build());
+                materialLots.add(inbound);
+
+                MaterialStock stock = new MaterialStock();
+                stock.setMaterialInbound(inbound);
+                stock.setTotalQty(MATERIAL_STOCK_QTY);
+                stock.setUnit(item.getSpecUnit());
+                persist(stock);
+                persist(MaterialStockMovement.builder() // 재고 원장 (품목별 재고는 원장에서 집계)
+                        .materialItemId(inbound.getMaterialItem().getMaterialItemId())
+                        .materialInboundId(inbound.getId())
+                        .movementType(StockMovementType.INBOUND)
+                        .delta(MATERIAL_STOCK_QTY)
+                        .build());
+            }
+
+            em.flush();
+            em.clear();
+
+            return new Seeded(
+                    orderItems.stream()
+                            .map(item -> new OrderItemRef(item.getOrderItemId(), item.getCompany().getCompanyName(), item.getItemName(), item.getItemCode()))
+                            .toList(),
+                    lots.stream().map(OrderInbound::getOrderInboundId).toList(),
+                    materialLots.stream().map(MaterialInbound::getId).toList());
+        });
+    }
+
+    private int pending;
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        if (++pending % FLUSH_SIZE == 0) {
+            em.flush();
+        }
+        return entity;
+    }
+
+    private static Company company(String name, CompanyType type) {
+        return Company.builder()
+                .type(type)
+                .companyName(name)
+                .ceoName("대표")
+                .address("주소")
+                .bizRegNo("123-45-67890")
+                .status("Y")
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.mes_back.loadtest;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실제로 실행된 SQL 을 가로채(datasource-proxy) 같은 파라미터로 EXPLAIN 을 떠 보는 도구.
+ * QueryCountConfig 가 감싼 ProxyDataSource 의 리스너 체인에 붙어서, capture() 안에서 실행된 문장만 모은다.
+ */
+public class QueryPlanInspector implements QueryExecutionListener {
+
+    // Hibernate 가 만든 "from order_inbound oi1_0" / "join company c1_0" / "update material_stock ms1_0" → 별칭 ↔ 테이블
+    private static final Pattern TABLE_ALIAS = Pattern.compile(
+            "\\b(?:from|join|update)\\s+([a-z_][a-z0-9_]*)\\s+(?:as\\s+)?([a-z_][a-z0-9_]*)", Pattern.CASE_INSENSITIVE);
+
+    private final DataSource dataSource;
+    private final ThreadLocal<List<CapturedSql>> sink = new ThreadLocal<>();
+
+    public QueryPlanInspector(DataSource dataSource) {
+        if (!(dataSource instanceof ProxyDataSource proxy)) {
+            throw new IllegalStateException("datasource-proxy 로 감싼 DataSource 가 아닙니다 (query-count.enabled=true 로 실행해야 함)");
+        }
+        ((ChainListener) proxy.getProxyConfig().getQueryListener()).addListener(this);
+        this.dataSource = dataSource;
+    }
+
+    /** 실행된 SQL 한 건 (첫 번째 파라미터 묶음) */
+    public record CapturedSql(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    /** EXPLAIN 결과 한 행 (table 은 별칭을 실제 테이블명으로 바꾼 값) */
+    public record PlanRow(String sql, String table, String type, String key, long rows, String extra) {
+
+        public boolean fullScan() {
+            return "ALL".equals(type);
+        }
+
+        public boolean filesort() {
+            return extra != null && extra.contains("Using filesort");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("table=%s type=%s key=%s rows=%d extra=%s", table, type, key, rows, extra);
+        }
+    }
+
+    /** action 실행 중 나간 SQL 을 문장별로 하나씩 (같은 문장이 반복되면 처음 것만) 모은다 */
+    public <T> List<CapturedSql> capture(Supplier<T> action) {
+        List<CapturedSql> captured = new ArrayList<>();
+        sink.set(captured);
+        try {
+            action.get();
+        } finally {
+            sink.remove();
+        }
+        Map<String, CapturedSql> distinct = new LinkedHashMap<>();
+        captured.forEach(c -> distinct.putIfAbsent(c.sql(), c));
+        return new ArrayList<>(distinct.values());
+    }
+
+    /** 같은 파라미터로 EXPLAIN (현재 트랜잭션의 커넥션 사용 → 롤백 예정인 변경도 보임) */
+    public List<PlanRow> explain(CapturedSql captured) {
+        Map<String, String> aliases = aliases(captured.sql());
+        Connection conn = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement ps = conn.prepareStatement("EXPLAIN " + captured.sql())) {
+            for (ParameterSetOperation op : captured.parameters()) {
+                op.getMethod().invoke(ps, op.getArgs());
+            }
+            List<PlanRow> rows = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table");
+                    rows.add(new PlanRow(captured.sql(), aliases.getOrDefault(table, table), rs.getString("type"),
+                            rs.getString("key"), rs.getLong("rows"), rs.getString("Extra")));
+                }
+            }
+            return rows;
+        } catch (SQLException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("EXPLAIN 실패: " + captured.sql(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(conn, dataSource);
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<CapturedSql> captured = sink.get();
+        if (captured == null) {
+            return;
+        }
+        for (QueryInfo query : queryInfoList) {
+            List<List<ParameterSetOperation>> parameters = query.getParametersList();
+            captured.add(new CapturedSql(query.getQuery(), parameters.isEmpty() ? List.of() : List.copyOf(parameters.get(0))));
+        }
+    }
+
+    private static Map<String, String> aliases(String sql) {
+        Map<String, String> aliases = new HashMap<>();
+        Matcher m = TABLE_ALIAS.matcher(sql);
+        while (m.find()) {
+            aliases.put(m.group(2), m.group(1));
+        }
+        return aliases;
+    }
+}
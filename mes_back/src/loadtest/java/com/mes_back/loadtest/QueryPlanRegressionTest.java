@@ -0,0 +1,331 @@
+package com.mes_back.loadtest;
+
+import com.mes_back.MesBackApplication;
+import com.mes_back.dto.CursorPageDTO;
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.PageCursor;
+import com.mes_back.entity.MaterialInbound;
+import com.mes_back.entity.OrderItem;
+import com.mes_back.repository.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * com.mes_back.repository 의 모든 쿼리(파생/@Query/QueryDSL)를 운영 규모 데이터(ScaleDatasetGenerator) 위에서 실행하고
+ * 실제로 나간 SQL 의 EXPLAIN 을 점검한다. 행 수가 LARGE_ROWS 이상인 테이블에서
+ * - 전체 스캔(type = ALL)
+ * - 파일 정렬(Extra: Using filesort)
+ * 이 나오면 실패. 목록 전체 반환/내보내기/재적재처럼 의도된 경우만 케이스에 사유와 함께 허용한다.
+ *
+ * 실행: ./gradlew queryPlanTest (데이터 규모: -Pqueryplan.scale=0.02, 기본 LOT 2만 건)
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final long LARGE_ROWS = 1_000;
+    private static final DateTimeFormatter NO_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private EmbeddedMariaDb db;
+    private ConfigurableApplicationContext context;
+    private QueryPlanInspector inspector;
+    private TransactionTemplate tx;
+
+    @BeforeAll
+    void startDatabase() throws Exception {
+        db = EmbeddedMariaDb.start("mesdb_plan");
+        context = new SpringApplicationBuilder(MesBackApplication.class)
+                .profiles("loadtest")
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=" + db.jdbcUrl())
+                .run();
+
+        double scale = Double.parseDouble(System.getProperty("queryplan.scale", "0.02"));
+        new ScaleDatasetGenerator(context.getBean(DataSource.class), scale).generate();
+
+        inspector = new QueryPlanInspector(context.getBean(DataSource.class));
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @AfterAll
+    void stopDatabase() throws Exception {
+        if (context != null) {
+            context.close();
+        }
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueryPlans() {
+        return cases().stream().map(c -> DynamicTest.dynamicTest(c.query, () -> verify(c)));
+    }
+
+    // 새 쿼리 메서드를 추가하면 여기 케이스도 추가해야 함
+    @Test
+    void everyRepositoryQueryHasAPlanCase() {
+        Set<String> covered = cases().stream().map(c -> c.query).collect(Collectors.toSet());
+
+        Set<String> declared = new TreeSet<>();
+        for (Object repository : context.getBeansOfType(Repository.class).values()) {
+            for (Class<?> type : repository.getClass().getInterfaces()) {
+                collectDeclaredQueries(type, declared);
+            }
+        }
+
+        assertThat(declared).isNotEmpty();
+        assertThat(covered).containsAll(declared);
+    }
+
+    private static void collectDeclaredQueries(Class<?> type, Set<String> declared) {
+        if (!type.getPackageName().equals(OrderInboundRepository.class.getPackageName())) {
+            return;
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            if (!method.isDefault() && !Modifier.isStatic(method.getModifiers())) {
+                declared.add(type.getSimpleName() + "." + method.getName());
+            }
+        }
+        for (Class<?> parent : type.getInterfaces()) {
+            collectDeclaredQueries(parent, declared);
+        }
+    }
+
+    private void verify(PlanCase planCase) {
+        List<String> violations = new ArrayList<>();
+        List<String> plans = new ArrayList<>();
+
+        tx.executeWithoutResult(status -> {
+            List<QueryPlanInspector.CapturedSql> statements = inspector.capture(planCase.call);
+            assertThat(statements).as("%s 실행 시 SQL 이 나가지 않음", planCase.query).isNotEmpty();
+
+            for (QueryPlanInspector.CapturedSql statement : statements) {
+                for (QueryPlanInspector.PlanRow row : inspector.explain(statement)) {
+                    plans.add(row + "  <- " + statement.sql());
+                    if (row.rows() < LARGE_ROWS) {
+                        continue;
+                    }
+                    // <derived2>, <union2,3> 같은 임시 결과는 항상 전체 읽기 - 원본 테이블 접근은 각자 행으로 점검됨
+                    boolean derived = row.table() != null && row.table().startsWith("<");
+                    if (row.fullScan() && !derived && !planCase.allowedFullScans.contains(row.table())) {
+                        violations.add("전체 스캔: " + row + "\n    " + statement.sql());
+                    }
+                    if (row.filesort() && !planCase.filesortAllowed) {
+                        violations.add("파일 정렬: " + row + "\n    " + statement.sql());
+                    }
+                }
+            }
+            status.setRollbackOnly(); // 재고 차감/출고수량 갱신 같은 UPDATE 케이스도 데이터는 그대로
+        });
+
+        if (Boolean.getBoolean("queryplan.print")) {
+            System.out.println("[" + planCase.query + "]");
+            plans.forEach(p -> System.out.println("  " + p));
+        }
+        assertThat(violations).as("%s 실행 계획 회귀", planCase.query).isEmpty();
+    }
+
+    // ===== 케이스 (인자는 ScaleDatasetGenerator 가 만든 id/번호 체계 기준) =====
+
+    private List<PlanCase> cases() {
+        CompanyRepository companies = bean(CompanyRepository.class);
+        MasterDataOrderItemsRepository orderItemsMaster = bean(MasterDataOrderItemsRepository.class);
+        MasterDataRawItemsRepository rawItemsMaster = bean(MasterDataRawItemsRepository.class);
+        MaterialInboundRepository materialInbounds = bean(MaterialInboundRepository.class);
+        MaterialItemRepository materialItems = bean(MaterialItemRepository.class);
+        MaterialStockRepository materialStocks = bean(MaterialStockRepository.class);
+        MaterialStockMovementRepository stockMovements = bean(MaterialStockMovementRepository.class);
+        MaterialStockSnapshotRepository stockSnapshots = bean(MaterialStockSnapshotRepository.class);
+        OrderInboundRepository orderInbounds = bean(OrderInboundRepository.class);
+        OrderItemImgRepository orderItemImgs = bean(OrderItemImgRepository.class);
+        OrderItemRepository orderItems = bean(OrderItemRepository.class);
+        OrderItemRoutingRepository orderItemRoutings = bean(OrderItemRoutingRepository.class);
+        OrderOutboundRepository orderOutbounds = bean(OrderOutboundRepository.class);
+        OutboundIndexChangeRepository outboundIndexChanges = bean(OutboundIndexChangeRepository.class);
+        ProcessTrackingRepository processTrackings = bean(ProcessTrackingRepository.class);
+        RawOutboundRepository rawOutbounds = bean(RawOutboundRepository.class);
+        RoutingRepository routings = bean(RoutingRepository.class);
+
+        LocalDate today = LocalDate.now();
+        String todayNo = today.format(NO_DATE);
+        HistorySearchDTO all = new HistorySearchDTO();
+        HistorySearchDTO lastMonth = new HistorySearchDTO();
+        lastMonth.setFromDate(today.minusMonths(1));
+        lastMonth.setToDate(today);
+        PageCursor cursor = new PageCursor(today.minusDays(100), Long.MAX_VALUE);
+        List<Long> someIds = LongStream.rangeClosed(1, 100).boxed().toList();
+        Supplier<OrderItem> orderItem = () -> orderItems.findById(1L).orElseThrow();
+        Supplier<MaterialInbound> materialInbound = () -> materialInbounds.findById(1L).orElseThrow();
+
+        return List.of(
+                // 기준정보
+                check("CompanyRepository.findByStatusAndActiveTrue", () -> companies.findByStatusAndActiveTrue("Y"))
+                        .allowFullScan("거래중 업체 목록 - 대부분의 업체를 반환", "company"),
+                check("CompanyRepository.findByActiveTrue", companies::findByActiveTrue)
+                        .allowFullScan("업체 목록 - 삭제되지 않은 업체 전체 반환", "company"),
+                check("CompanyRepository.findByActiveFalse", companies::findByActiveFalse),
+                check("CompanyRepository.findByCompanyName", () -> companies.findByCompanyName("고객사0001")),
+                check("RoutingRepository.existsByProcessCode", () -> routings.existsByProcessCode("SC-PC-01")),
+                check("MasterDataOrderItemsRepository.findByIdWithImagesAndRoutings", () -> orderItemsMaster.findByIdWithImagesAndRoutings(1L)),
+                check("MasterDataOrderItemsRepository.findByIdWithImages", () -> orderItemsMaster.findByIdWithImages(1L)),
+                check("MasterDataOrderItemsRepository.findByIdWithRoutings", () -> orderItemsMaster.findByIdWithRoutings(1L)),
+                check("MasterDataOrderItemsRepository.findByCompanyStatus", () -> orderItemsMaster.findByCompanyStatus("Y"))
+                        .allowFullScan("품목 목록 - 거래중 업체 품목 전체 반환", "order_item", "company"),
+                check("MasterDataOrderItemsRepository.findAllActive", orderItemsMaster::findAllActive)
+                        .allowFullScan("품목 목록 - 거래중 업체 품목 전체 반환", "order_item", "company"),
+                check("MasterDataOrderItemsRepositoryCustom.findAllForList", orderItemsMaster::findAllForList)
+                        .allowFullScan("품목 목록 화면 - 전체 품목 반환", "order_item", "company"),
+                check("MasterDataOrderItemsRepositoryCustom.findImagesByOrderItemIds", () -> orderItemsMaster.findImagesByOrderItemIds(someIds)),
+                check("MasterDataRawItemsRepository.findAll", rawItemsMaster::findAll)
+                        .allowFullScan("원자재 품목 목록 - 전체 반환", "material_item", "company"),
+                check("MaterialItemRepository.findFirstByItemCode", () -> materialItems.findFirstByItemCode("MI-00001")),
+                check("OrderItemImgRepository.findByOrderItem", () -> orderItemImgs.findByOrderItem(orderItem.get())),
+                check("OrderItemRoutingRepository.findByOrderItem", () -> orderItemRoutings.findByOrderItem(orderItem.get())),
+                check("OrderItemRoutingRepository.findByOrderInboundId", () -> orderItemRoutings.findByOrderInboundId(1L)),
+                check("OrderItemRoutingRepository.findAllByOrderInboundId", () -> orderItemRoutings.findAllByOrderInboundId(1L)),
+                check("OrderItemRepository.findAllWithCompanyByIdIn", () -> orderItems.findAllWithCompanyByIdIn(someIds)),
+
+                // 수주 입고 / 공정
+                check("OrderInboundRepository.findByActiveTrue", orderInbounds::findByActiveTrue)
+                        .allowFullScan("입고 이력 전체 조회 API (화면은 페이지 API 사용)", "order_inbound"),
+                check("OrderInboundRepository.addShippedQty", () -> orderInbounds.addShippedQty(1L, 0L)),
+                check("OrderInboundRepository.updateQtyAndInboundDate", () -> orderInbounds.updateQtyAndInboundDate(1L, Long.MAX_VALUE, today)),
+                check("OrderInboundRepositoryCustom.findInboundHistoriesForOutbound", orderInbounds::findInboundHistoriesForOutbound)
+                        .allowFullScan("출고 대상 인덱스 전체 재적재 전용 (기동 시 + 10분 주기)", "order_inbound", "process_tracking")
+                        .allowFilesort("LOT 단위 GROUP BY"),
+                check("OrderInboundRepositoryCustom.findOutboundCandidatesByIds", () -> orderInbounds.findOutboundCandidatesByIds(someIds)),
+                check("OrderInboundRepositoryCustom.findLastLotNoByInboundDate", () -> orderInbounds.findLastLotNoByInboundDate(todayNo)),
+                check("OrderInboundRepositoryCustom.findHistoryPage", () -> {
+                    orderInbounds.findHistoryPage(all, null, 50);
+                    orderInbounds.findHistoryPage(all, cursor, 50);
+                    return orderInbounds.findHistoryPage(lastMonth, null, 50);
+                }),
+                check("OrderInboundRepositoryCustom.countHistory", () -> orderInbounds.countHistory(lastMonth, CursorPageDTO.COUNT_LIMIT + 1)),
+                check("OrderInboundRepositoryCustom.streamHistory", () -> consume(orderInbounds.streamHistory(all)))
+                        .allowFullScan("엑셀/CSV 전체 내보내기", "order_inbound").allowFilesort("엑셀/CSV 전체 내보내기"),
+                check("ProcessTrackingRepository.findProcessTrackingWithOrderItem", () -> processTrackings.findProcessTrackingWithOrderItem(1L)),
+                check("ProcessTrackingRepository.findLotProcessTrackingByIdIn", () -> processTrackings.findLotProcessTrackingByIdIn(List.of(1L, 2L, 3L))),
+                check("OutboundIndexChangeRepository.findByCreatedAtGreaterThanEqual",
+                        () -> outboundIndexChanges.findByCreatedAtGreaterThanEqual(LocalDateTime.now().minusSeconds(30))),
+                check("OutboundIndexChangeRepository.findLatestCreatedAt", outboundIndexChanges::findLatestCreatedAt),
+                check("OutboundIndexChangeRepository.deleteCreatedBefore", () -> outboundIndexChanges.deleteCreatedBefore(LocalDateTime.now().minusDays(1))),
+                check("ProcessTrackingRepository.countOpenLotsByProcess", processTrackings::countOpenLotsByProcess)
+                        .allowFilesort("공정 단위 GROUP BY (결과는 공정 수만큼)"),
+
+                // 수주 출고
+                check("OrderOutboundRepository.findAll", orderOutbounds::findAll)
+                        .allowFullScan("출고 이력 전체 조회 API (화면은 페이지 API 사용)", "order_outbound"),
+                check("OrderOutboundRepository.findMaxOutboundNoNative", () -> orderOutbounds.findMaxOutboundNoNative("OUT-" + todayNo + "-")),
+                check("OrderOutboundRepository.findByOrderInbound_OrderInboundId", () -> orderOutbounds.findByOrderInbound_OrderInboundId(1L)),
+                check("OrderOutboundRepositoryCustom.findHistoryPage", () -> {
+                    orderOutbounds.findHistoryPage(all, null, 50);
+                    orderOutbounds.findHistoryPage(all, cursor, 50);
+                    return orderOutbounds.findHistoryPage(lastMonth, null, 50);
+                }),
+                check("OrderOutboundRepositoryCustom.countHistory", () -> orderOutbounds.countHistory(lastMonth, CursorPageDTO.COUNT_LIMIT + 1)),
+                check("OrderOutboundRepositoryCustom.streamHistory", () -> consume(orderOutbounds.streamHistory(all)))
+                        .allowFullScan("엑셀/CSV 전체 내보내기", "order_outbound", "order_inbound", "order_item")
+                        .allowFilesort("엑셀/CSV 전체 내보내기"),
+
+                // 원자재
+                check("MaterialInboundRepository.findMaxInboundNoNative", () -> materialInbounds.findMaxInboundNoNative("MINC-" + todayNo + "-")),
+                check("MaterialInboundRepository.findAllByActiveTrue", materialInbounds::findAllByActiveTrue)
+                        .allowFullScan("원자재 입고 전체 조회 API (화면은 페이지 API 사용)", "material_inbound"),
+                check("MaterialInboundRepositoryCustom.findHistoryPage", () -> {
+                    materialInbounds.findHistoryPage(all, null, 50);
+                    materialInbounds.findHistoryPage(all, cursor, 50);
+                    return materialInbounds.findHistoryPage(lastMonth, null, 50);
+                }),
+                check("MaterialInboundRepositoryCustom.countHistory", () -> materialInbounds.countHistory(lastMonth, CursorPageDTO.COUNT_LIMIT + 1)),
+                check("MaterialInboundRepositoryCustom.streamHistory", () -> consume(materialInbounds.streamHistory(all)))
+                        .allowFullScan("엑셀/CSV 전체 내보내기", "material_inbound").allowFilesort("엑셀/CSV 전체 내보내기"),
+                check("MaterialStockRepository.findByMaterialInbound", () -> materialStocks.findByMaterialInbound(materialInbound.get())),
+                check("MaterialStockRepository.existsByMaterialInbound_Id", () -> materialStocks.existsByMaterialInbound_Id(1L)),
+                check("MaterialStockRepository.decreaseTotalQty", () -> materialStocks.decreaseTotalQty(1L, 1L)),
+                check("MaterialStockRepository.increaseTotalQty", () -> materialStocks.increaseTotalQty(1L, 1L)),
+                check("MaterialStockRepositoryCustom.streamStock", () -> consume(materialStocks.streamStock(all)))
+                        .allowFullScan("재고 엑셀/CSV 전체 내보내기", "material_stock", "material_inbound", "material_item", "company")
+                        .allowFilesort("재고 엑셀/CSV 전체 내보내기 (품목코드 순)"),
+                check("MaterialStockMovementRepository.findBalancesAsOf", () -> {
+                    stockMovements.findBalancesAsOf(today.minusMonths(6));
+                    return stockMovements.findBalancesAsOf(today);
+                }).allowFilesort("품목 단위 집계 결과 정렬 (결과는 품목 수만큼)"),
+                check("MaterialStockSnapshotRepository.findLatestSnapshotDate", () -> stockSnapshots.findLatestSnapshotDate(today)),
+                check("RawOutboundRepository.countByDateRange", () -> rawOutbounds.countByDateRange(LocalDateTime.now().minusDays(30), LocalDateTime.now())),
+                check("RawOutboundRepository.findMaxOutboundNoNative", () -> rawOutbounds.findMaxOutboundNoNative("MOUT-" + todayNo + "-")),
+                check("RawOutboundRepositoryCustom.findHistoryPage", () -> {
+                    rawOutbounds.findHistoryPage(all, null, 50);
+                    rawOutbounds.findHistoryPage(all, cursor, 50);
+                    return rawOutbounds.findHistoryPage(lastMonth, null, 50);
+                }),
+                check("RawOutboundRepositoryCustom.countHistory", () -> rawOutbounds.countHistory(lastMonth, CursorPageDTO.COUNT_LIMIT + 1)),
+                check("RawOutboundRepositoryCustom.streamHistory", () -> consume(rawOutbounds.streamHistory(all)))
+                        .allowFullScan("엑셀/CSV 전체 내보내기", "material_outbound", "material_inbound", "material_item")
+                        .allowFilesort("엑셀/CSV 전체 내보내기")
+        );
+    }
+
+    private <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // 스트리밍 조회는 첫 행만 읽고 닫음 (SQL 은 스트림 생성 시점에 실행됨)
+    private static long consume(Stream<?> stream) {
+        try (stream) {
+            return stream.limit(1).count();
+        }
+    }
+
+    private static PlanCase check(String query, Supplier<?> call) {
+        return new PlanCase(query, call);
+    }
+
+    /** 쿼리 하나의 점검 케이스 - 허용하는 전체 스캔 테이블/파일 정렬은 사유와 함께 명시 */
+    private static final class PlanCase {
+        private final String query;
+        private final Supplier<?> call;
+        private final Set<String> allowedFullScans = new HashSet<>();
+        private boolean filesortAllowed;
+
+        private PlanCase(String query, Supplier<?> call) {
+            this.query = query;
+            this.call = call;
+        }
+
+        PlanCase allowFullScan(String reason, String... tables) {
+            Objects.requireNonNull(reason);
+            allowedFullScans.addAll(Arrays.asList(tables));
+            return this;
+        }
+
+        PlanCase allowFilesort(String reason) {
+            Objects.requireNonNull(reason);
+            filesortAllowed = true;
+            return this;
+        }
+    }
+}
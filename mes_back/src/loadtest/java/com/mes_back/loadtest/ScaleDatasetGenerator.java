@@ -0,0 +1,409 @@
+package com.mes_back.loadtest;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 운영 규모 데이터셋 생성기 (Flyway 로 만든 빈 스키마 대상, JDBC 배치 insert).
+ * scale = 1.0 기준:
+ * - 업체 2,000 / 수주 품목 5,000 (품목당 공정 4~8단계) / 원자재 품목 2,000
+ * - 수주 입고(LOT) 1,000,000 건 (최근 YEARS 년에 고르게 분포) → 공정 진행 약 6,000,000 건, 출고 약 1,400,000 건
+ * - 원자재 입고 200,000 LOT (재고 1건씩) → 원자재 출고 약 300,000 건, 재고 원장 약 500,000 건 + 월말 스냅샷
+ * 기준정보 건수는 scale 과 무관하게 고정, 이력성 테이블만 scale 에 비례한다.
+ * 30일보다 오래된 LOT 은 전 공정 완료 + 출고, 최근 LOT 은 공정 진행 단계가 섞여 있고, 약 3% 는 소프트 삭제 상태.
+ *
+ * 실행 (별도 DB 에 적재): ./gradlew generateScaleDataset -Pscale.args="url=jdbc:mysql://localhost:3306/mesdb_scale user=root password=1234 scale=1.0"
+ * (URL 에 rewriteBatchedStatements=true 가 없으면 자동으로 붙임)
+ */
+public class ScaleDatasetGenerator {
+
+    static final int COMPANY_COUNT = 2_000;
+    static final int ORDER_ITEM_COUNT = 5_000;
+    static final int ROUTING_COUNT = 20;
+    static final int MATERIAL_ITEM_COUNT = 2_000;
+    static final int LOT_COUNT = 1_000_000;
+    static final int MATERIAL_LOT_COUNT = 200_000;
+    static final int YEARS = 3;
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int COMMIT_EVERY = 20_000;
+    private static final DateTimeFormatter NO_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String[] ORDER_CATEGORIES = {"DEFENSE", "GENERAL", "AUTOMOTIVE", "SHIPBUILDING"};
+    private static final String[] MATERIAL_CATEGORIES = {"PAINT", "THINNER", "CLEANER", "HARDENER"};
+    private static final String[] PAINT_TYPES = {"POWDER", "LIQUID"};
+
+    private final DataSource dataSource;
+    private final double scale;
+    private final LocalDate today;
+    private final SplittableRandom random = new SplittableRandom(20251018L); // 실행마다 같은 데이터
+
+    // 문서번호 일자별 일련번호 (LOT-20251018-001)
+    private final Map<String, Integer> documentSeq = new HashMap<>();
+
+    private String[] companyNames;
+    private long[] orderItemCompany;
+    private String[] orderItemCodes;
+    private long[][] itemRoutingIds; // 품목별 order_item_routing id (공정 순서대로)
+
+    public ScaleDatasetGenerator(DataSource dataSource, double scale) {
+        this.dataSource = dataSource;
+        this.scale = scale;
+        this.today = LocalDate.now();
+    }
+
+    /** 생성 결과 건수 (테이블 → 행 수) */
+    public Map<String, Long> generate() throws SQLException {
+        Map<String, Long> counts = new HashMap<>();
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            setForeignKeyChecks(conn, false); // 대량 적재 중에는 FK 검사 생략 (자식 행은 생성한 부모 id 만 참조)
+            counts.put("company", companies(conn));
+            counts.put("routing", routings(conn));
+            counts.put("order_item", orderItems(conn));
+            counts.putAll(lots(conn, Math.max(1, (int) (LOT_COUNT * scale))));
+            counts.put("material_item", materialItems(conn));
+            counts.putAll(materialLots(conn, Math.max(1, (int) (MATERIAL_LOT_COUNT * scale))));
+            counts.put("material_stock_snapshot", stockSnapshots(conn));
+            syncIdGenerator(conn);
+            conn.commit();
+            setForeignKeyChecks(conn, true);
+
+            // 옵티마이저 통계 갱신 (실행 계획 점검 전 필수)
+            try (Statement st = conn.createStatement()) {
+                st.execute("ANALYZE TABLE company, routing, order_item, order_item_img, order_item_routing, order_inbound, "
+                        + "process_tracking, order_outbound, material_item, material_inbound, material_stock, material_outbound, "
+                        + "material_stock_movement, material_stock_snapshot");
+            }
+        }
+        return counts;
+    }
+
+    private long companies(Connection conn) throws SQLException {
+        companyNames = new String[COMPANY_COUNT + 1];
+        try (Batch batch = new Batch(conn, "INSERT INTO company (company_id, type, company_name, ceo_name, address, biz_reg_no, status, deleted_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= COMPANY_COUNT; id++) {
+                boolean customer = id % 4 != 0; // 3/4 고객사, 1/4 매입처
+                companyNames[id] = (customer ? "고객사" : "매입처") + String.format("%04d", id);
+                batch.add(id, customer ? "CUSTOMER" : "PURCHASER", companyNames[id], "대표" + id % 100, "주소 " + id,
+                        String.format("%03d-%02d-%05d", id % 1000, id % 100, id), random.nextInt(10) == 0 ? "N" : "Y",
+                        random.nextInt(33) == 0 ? Timestamp.valueOf(LocalDateTime.now().minusDays(random.nextInt(365))) : null);
+            }
+            return batch.total();
+        }
+    }
+
+    private long routings(Connection conn) throws SQLException {
+        try (Batch batch = new Batch(conn, "INSERT INTO routing (routing_id, process_code, process_name, process_time) VALUES (?, ?, ?, ?)")) {
+            for (int id = 1; id <= ROUTING_COUNT; id++) {
+                batch.add(id, String.format("SC-PC-%02d", id), "공정" + id, 10 + id * 5);
+            }
+            return batch.total();
+        }
+    }
+
+    private long orderItems(Connection conn) throws SQLException {
+        orderItemCompany = new long[ORDER_ITEM_COUNT + 1];
+        orderItemCodes = new String[ORDER_ITEM_COUNT + 1];
+        itemRoutingIds = new long[ORDER_ITEM_COUNT + 1][];
+
+        long routingRowId = 1;
+        try (Batch items = new Batch(conn, "INSERT INTO order_item (order_item_id, company_id, item_name, item_code, category, color, unit_price, paint_type, use_yn, status) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch steps = new Batch(conn, "INSERT INTO order_item_routing (id, order_item_id, routing_id, process_no) VALUES (?, ?, ?, ?)");
+             Batch images = new Batch(conn, "INSERT INTO order_item_img (order_item_img_id, order_item_id, img_url, img_ori_name, img_name, reg_yn) "
+                     + "VALUES (?, ?, ?, ?, ?, ?)")) {
+            long imageId = 1;
+            for (int id = 1; id <= ORDER_ITEM_COUNT; id++) {
+                orderItemCompany[id] = customerCompany();
+                orderItemCodes[id] = String.format("OI-%05d", id);
+                items.add(id, orderItemCompany[id], "품목" + id, orderItemCodes[id], ORDER_CATEGORIES[id % ORDER_CATEGORIES.length],
+                        "COLOR" + id % 30, 1_000L + random.nextInt(100_000), PAINT_TYPES[id % 2], "Y", "Y");
+
+                // 공정 4~8 단계 - routing 1~ROUTING_COUNT 중 중복 없이 오름차순으로 선택
+                int stepCount = 4 + random.nextInt(5);
+                long[] ids = new long[stepCount];
+                for (int routingId = 1, s = 0; s < stepCount; routingId++) {
+                    if (random.nextInt(ROUTING_COUNT - routingId + 1) < stepCount - s) {
+                        ids[s] = routingRowId++;
+                        steps.add(ids[s], id, routingId, s + 1);
+                        s++;
+                    }
+                }
+                itemRoutingIds[id] = ids;
+
+                int imageCount = random.nextInt(3); // 이미지 0~2장
+                for (int n = 0; n < imageCount; n++) {
+                    String name = "scale_" + id + "_" + n + ".jpg";
+                    images.add(imageId++, id, "http://localhost:8080/uploads/order_items/" + name, name, name, n == 0 ? "Y" : "N");
+                }
+            }
+            return items.total();
+        }
+    }
+
+    private Map<String, Long> lots(Connection conn, int lotCount) throws SQLException {
+        long days = YEARS * 365L;
+        long trackingId = 1;
+        long outboundId = 1;
+
+        try (Batch inbound = new Batch(conn, "INSERT INTO order_inbound (order_inbound_id, order_item_id, company_id, customer_name, item_name, item_code, qty, "
+                + "category, inbound_date, lot_no, paint_type, deleted_at, shipped_qty) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch tracking = new Batch(conn, "INSERT INTO process_tracking (id, order_inbound_id, order_item_routing_id, process_start_time, process_status) "
+                     + "VALUES (?, ?, ?, ?, ?)");
+             Batch outbound = new Batch(conn, "INSERT INTO order_outbound (id, order_inbound_id, customer_name, item_name, item_code, qty, category, "
+                     + "outbound_no, outbound_date, deleted_at, remaining_quantity) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= lotCount; id++) {
+                int itemId = 1 + random.nextInt(ORDER_ITEM_COUNT);
+                long companyId = orderItemCompany[itemId];
+                LocalDate inboundDate = today.minusDays(days - (days * id / lotCount)); // 오래된 LOT 부터
+                long qty = 100L * (1 + random.nextInt(10));
+                boolean deleted = random.nextInt(33) == 0;
+                long ageDays = today.toEpochDay() - inboundDate.toEpochDay();
+
+                long[] steps = itemRoutingIds[itemId];
+                int done = ageDays > 30 ? steps.length : random.nextInt(steps.length + 1);
+                boolean inProgress = done < steps.length && random.nextBoolean();
+
+                // 전 공정 완료 LOT 은 1~2회에 걸쳐 출고 (마지막 출고 후 잔량이 남는 LOT 도 일부)
+                int shipments = done == steps.length ? 1 + random.nextInt(2) : 0;
+                long shipped = shipments == 0 ? 0 : (random.nextInt(5) == 0 ? qty / 2 : qty);
+
+                inbound.add(id, itemId, companyId, companyNames[(int) companyId], "품목" + itemId, orderItemCodes[itemId], qty,
+                        ORDER_CATEGORIES[itemId % ORDER_CATEGORIES.length], inboundDate, documentNo("LOT", inboundDate), PAINT_TYPES[itemId % 2],
+                        deleted ? Timestamp.valueOf(inboundDate.plusDays(1).atStartOfDay()) : null, shipped);
+
+                LocalDateTime start = inboundDate.atTime(8, 0);
+                for (int s = 0; s < steps.length; s++) {
+                    int status = s < done ? 2 : (s == done && inProgress ? 1 : 0);
+                    tracking.add(trackingId++, id, steps[s], status == 0 ? null : Timestamp.valueOf(start.plusHours(s * 3L)), status);
+                }
+
+                long remaining = qty;
+                for (int o = 0; o < shipments; o++) {
+                    long outQty = o == shipments - 1 ? shipped - (qty - remaining) : shipped / shipments;
+                    remaining -= outQty;
+                    LocalDate outboundDate = inboundDate.plusDays(1 + random.nextInt(5) + o);
+                    outbound.add(outboundId++, id, companyNames[(int) companyId], "품목" + itemId, orderItemCodes[itemId], outQty,
+                            ORDER_CATEGORIES[itemId % ORDER_CATEGORIES.length], documentNo("OUT", outboundDate), outboundDate,
+                            deleted ? Timestamp.valueOf(inboundDate.plusDays(1).atStartOfDay()) : null, remaining);
+                }
+
+                if (id % COMMIT_EVERY == 0) {
+                    inbound.flush();
+                    tracking.flush();
+                    outbound.flush();
+                    conn.commit();
+                }
+            }
+            return Map.of("order_inbound", inbound.total(), "process_tracking", tracking.total(), "order_outbound", outbound.total());
+        }
+    }
+
+    private long materialItems(Connection conn) throws SQLException {
+        try (Batch batch = new Batch(conn, "INSERT INTO material_item (material_item_id, company_id, item_name, item_code, category, spec_qty, spec_unit, manufacturer, use_yn) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= MATERIAL_ITEM_COUNT; id++) {
+                batch.add(id, purchaserCompany(), "원자재" + id, String.format("MI-%05d", id), MATERIAL_CATEGORIES[id % MATERIAL_CATEGORIES.length],
+                        20L, "KG", "제조사" + id % 50, "Y");
+            }
+            return batch.total();
+        }
+    }
+
+    private Map<String, Long> materialLots(Connection conn, int lotCount) throws SQLException {
+        long days = YEARS * 365L;
+        long outboundId = 1;
+        long movementId = 1;
+
+        try (Batch inbound = new Batch(conn, "INSERT INTO material_inbound (id, material_item_id, supplier_name, item_name, item_code, spec_qty, spec_unit, "
+                + "manufacturer, manufacte_date, qty, inbound_date, inbound_no, total_qty, deleted_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch stock = new Batch(conn, "INSERT INTO material_stock (id, material_inbound_id, total_qty, unit) VALUES (?, ?, ?, ?)");
+             Batch outbound = new Batch(conn, "INSERT INTO material_outbound (id, material_inbound_id, spec_qty, manufacturer, qty, outbound_date, outbound_no) "
+                     + "VALUES (?, ?, ?, ?, ?, ?, ?)");
+             Batch movement = new Batch(conn, "INSERT INTO material_stock_movement (id, material_item_id, material_inbound_id, movement_type, delta, "
+                     + "movement_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= lotCount; id++) {
+                int itemId = 1 + random.nextInt(MATERIAL_ITEM_COUNT);
+                LocalDate inboundDate = today.minusDays(days - (days * id / lotCount));
+                long qty = 5L * (1 + random.nextInt(20));
+                long totalQty = qty * 20L;
+                boolean deleted = random.nextInt(50) == 0;
+
+                inbound.add(id, itemId, "매입처", "원자재" + itemId, String.format("MI-%05d", itemId), 20L, "KG", "제조사" + itemId % 50,
+                        inboundDate.minusDays(30), qty, inboundDate, documentNo("MINC", inboundDate), totalQty,
+                        deleted ? Timestamp.valueOf(inboundDate.plusDays(1).atStartOfDay()) : null);
+
+                movement.add(movementId++, itemId, id, "INBOUND", totalQty, inboundDate, Timestamp.valueOf(inboundDate.atStartOfDay()));
+
+                long remaining = totalQty;
+                int issues = deleted ? 0 : random.nextInt(4);
+                for (int o = 0; o < issues && remaining > 0; o++) {
+                    long outQty = Math.min(remaining, 10L * (1 + random.nextInt(20)));
+                    remaining -= outQty;
+                    LocalDate outboundDate = inboundDate.plusDays(1 + random.nextInt(60));
+                    outbound.add(outboundId++, id, 20L, "제조사" + itemId % 50, outQty, outboundDate, documentNo("MOUT", outboundDate));
+                    LocalDate recorded = outboundDate.isAfter(today) ? today : outboundDate; // 원장은 미래 일자로 기록하지 않음
+                    movement.add(movementId++, itemId, id, "OUTBOUND", -outQty, recorded, Timestamp.valueOf(recorded.atStartOfDay()));
+                }
+                stock.add(id, id, remaining, "KG");
+
+                if (id % COMMIT_EVERY == 0) {
+                    inbound.flush();
+                    stock.flush();
+                    outbound.flush();
+                    movement.flush();
+                    conn.commit();
+                }
+            }
+            return Map.of("material_inbound", inbound.total(), "material_stock", stock.total(), "material_outbound", outbound.total(),
+                    "material_stock_movement", movement.total());
+        }
+    }
+
+    // 재고 원장 월말 스냅샷 (운영의 일 마감 스냅샷 대신 월 1회 - 기준일 조회는 스냅샷 + 꼬리 구간으로 동작)
+    private long stockSnapshots(Connection conn) throws SQLException {
+        long total = 0;
+        LocalDate monthEnd = today.minusYears(YEARS).withDayOfMonth(1).minusDays(1);
+        try (PreparedStatement ps = conn.prepareStatement("INSERT INTO material_stock_snapshot "
+                + "(id, snapshot_date, material_item_id, qty, created_at) "
+                + "SELECT ? + ROW_NUMBER() OVER (ORDER BY m.material_item_id), ?, m.material_item_id, SUM(m.delta), ? "
+                + "FROM material_stock_movement m WHERE m.movement_date <= ? GROUP BY m.material_item_id")) {
+            for (; monthEnd.isBefore(today); monthEnd = monthEnd.plusDays(1).plusMonths(1).minusDays(1)) {
+                ps.setLong(1, total);
+                ps.setDate(2, Date.valueOf(monthEnd));
+                ps.setTimestamp(3, Timestamp.valueOf(monthEnd.plusDays(1).atTime(0, 10)));
+                ps.setDate(4, Date.valueOf(monthEnd));
+                total += ps.executeUpdate();
+                conn.commit();
+            }
+        }
+        return total;
+    }
+
+    // 풀링 채번(V3) 엔티티의 다음 블록이 생성한 행과 겹치지 않도록 (MAX + 51)
+    private static void syncIdGenerator(Connection conn) throws SQLException {
+        String[][] tables = {
+                {"order_inbound", "order_inbound_id"}, {"order_outbound", "id"}, {"process_tracking", "id"},
+                {"order_item_img", "order_item_img_id"}, {"material_inbound", "id"}, {"material_stock", "id"}, {"material_outbound", "id"},
+                {"material_stock_movement", "id"}, {"material_stock_snapshot", "id"}
+        };
+        try (Statement st = conn.createStatement()) {
+            for (String[] t : tables) {
+                st.executeUpdate("UPDATE id_generator SET next_val = (SELECT COALESCE(MAX(" + t[1] + "), 0) + 51 FROM " + t[0] + ") "
+                        + "WHERE seq_name = '" + t[0] + "'");
+            }
+        }
+    }
+
+    private static void setForeignKeyChecks(Connection conn, boolean enabled) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute("SET FOREIGN_KEY_CHECKS = " + (enabled ? 1 : 0));
+        }
+    }
+
+    private long customerCompany() {
+        long id;
+        do {
+            id = 1 + random.nextInt(COMPANY_COUNT);
+        } while (id % 4 == 0);
+        return id;
+    }
+
+    private long purchaserCompany() {
+        return 4L * (1 + random.nextInt(COMPANY_COUNT / 4));
+    }
+
+    private String documentNo(String prefix, LocalDate date) {
+        String key = prefix + "-" + date.format(NO_DATE);
+        int seq = documentSeq.merge(key, 1, Integer::sum);
+        return String.format("%s-%03d", key, seq);
+    }
+
+    // 배치 insert 도우미 (BATCH_SIZE 마다 전송, 총 건수 집계)
+    private static final class Batch implements AutoCloseable {
+        private final PreparedStatement ps;
+        private int pending;
+        private long total;
+
+        private Batch(Connection conn, String sql) throws SQLException {
+            this.ps = conn.prepareStatement(sql);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    ps.setNull(i + 1, Types.NULL);
+                } else if (value instanceof LocalDate date) {
+                    ps.setObject(i + 1, Date.valueOf(date));
+                } else {
+                    ps.setObject(i + 1, value);
+                }
+            }
+            ps.addBatch();
+            total++;
+            if (++pending >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                ps.executeBatch();
+                pending = 0;
+            }
+        }
+
+        long total() {
+            return total;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            flush();
+            ps.close();
+        }
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                int idx = token.indexOf('=');
+                if (idx > 0) {
+                    options.put(token.substring(0, idx), token.substring(idx + 1));
+                }
+            }
+        }
+        String url = options.getOrDefault("url", "jdbc:mysql://localhost:3306/mesdb_scale");
+        if (!url.contains("rewriteBatchedStatements")) {
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+        String user = options.getOrDefault("user", "root");
+        String password = options.getOrDefault("password", "");
+        double scale = Double.parseDouble(options.getOrDefault("scale", "1.0"));
+
+        DataSource dataSource = new DriverManagerDataSource(url, user, password);
+        long start = System.currentTimeMillis();
+        Map<String, Long> counts = new ScaleDatasetGenerator(dataSource, scale).generate();
+        System.out.printf("데이터셋 생성 완료 (scale=%.3f, %ds)%n", scale, (System.currentTimeMillis() - start) / 1000);
+        counts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> System.out.printf("  %-20s %,12d%n", e.getKey(), e.getValue()));
+    }
+}
@@ -0,0 +1,244 @@
+package com.mes_back.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mes_back.constant.OrderCategory;
+import com.mes_back.constant.PaintType;
+import com.mes_back.dto.MaterialOutboundDTO;
+import com.mes_back.dto.OrderInboundDTO;
+import com.mes_back.dto.OrderOutboundDto;
+import com.mes_back.dto.ProcessTrackingDTO;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 현장 단말 1대의 작업 흐름을 흉내 낸다. (가상 스레드 1개 = 단말 1대)
+ * 동작 비율은 Action 의 weight 를 따르고, 동작 사이에는 thinkTime 전후로 쉰다.
+ */
+public class ShopFloorTerminal implements Runnable {
+
+    enum Action {
+        REGISTER_LOT(10),   // LOT 등록
+        UPDATE_PROCESS(35), // 공정 진행 화면 조회 → 다음 공정 시작/완료
+        SHIP(10),           // 출고 대상 조회 → 출고 등록
+        ISSUE_MATERIAL(15), // 원자재 출고 (재고 차감)
+        REFRESH_LISTS(30);  // 이력/재고 목록 화면 새로고침
+
+        private final int weight;
+
+        Action(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final int TOTAL_WEIGHT = Arrays.stream(Action.values()).mapToInt(a -> a.weight).sum();
+
+    private static final List<String> LIST_SCREENS = List.of(
+            "/orders/inbound/history/page?size=50",
+            "/orderitem/outbound/page?size=50",
+            "/materials/inbound/page?size=50",
+            "/raw/outbound/page?size=50",
+            "/raw-materials/inventory");
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final LoadTestDataSeeder.Seeded seeded;
+    private final Map<String, EndpointStats> stats;
+    private final long measureFrom; // 이 시각(nanoTime) 이후 응답만 집계 (워밍업 제외)
+    private final long stopAt;
+    private final Duration thinkTime;
+
+    public ShopFloorTerminal(HttpClient http, ObjectMapper objectMapper, String baseUrl, LoadTestDataSeeder.Seeded seeded,
+                             Map<String, EndpointStats> stats, long measureFrom, long stopAt, Duration thinkTime) {
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.seeded = seeded;
+        this.stats = stats;
+        this.measureFrom = measureFrom;
+        this.stopAt = stopAt;
+        this.thinkTime = thinkTime;
+    }
+
+    @Override
+    public void run() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < stopAt) {
+            switch (pick(random)) {
+                case REGISTER_LOT -> registerLot(random);
+                case UPDATE_PROCESS -> updateProcess(random);
+                case SHIP -> ship(random);
+                case ISSUE_MATERIAL -> issueMaterial(random);
+                case REFRESH_LISTS -> refreshList(random);
+            }
+            if (!think(random)) {
+                return;
+            }
+        }
+    }
+
+    private void registerLot(ThreadLocalRandom random) {
+        LoadTestDataSeeder.OrderItemRef item = any(seeded.orderItems(), random);
+        OrderInboundDTO body = OrderInboundDTO.builder()
+                .orderItemId(item.orderItemId())
+                .customerName(item.customerName())
+                .itemName(item.itemName())
+                .itemCode(item.itemCode())
+                .category(OrderCategory.GENERAL)
+                .paintType(PaintType.POWDER)
+                .inboundDate(LocalDate.now())
+                .qty(100L)
+                .build();
+        send("POST /orders/inbound/items", post("/orders/inbound/items", body), null);
+    }
+
+    private void updateProcess(ThreadLocalRandom random) {
+        Long lotId = any(seeded.lotIds(), random);
+        List<ProcessTrackingDTO> steps = send("GET /orders/inbound/process/{id}",
+                get("/orders/inbound/process/" + lotId), new TypeReference<>() {});
+        if (steps == null) {
+            return;
+        }
+
+        // 아직 끝나지 않은 첫 공정: 대기(0) → 진행(1), 진행(1) → 완료(2)
+        steps.stream()
+                .filter(step -> step.getProcessStatus() == null || step.getProcessStatus() != 2)
+                .min(Comparator.comparing(ProcessTrackingDTO::getProcessNo, Comparator.nullsLast(Comparator.naturalOrder())))
+                .ifPresent(step -> {
+                    ProcessTrackingDTO change = new ProcessTrackingDTO();
+                    change.setId(step.getId());
+                    change.setProcessStatus(Integer.valueOf(1).equals(step.getProcessStatus()) ? 2 : 1);
+                    send("PUT /orders/inbound/process/batch", put("/orders/inbound/process/batch", List.of(change)), null);
+                });
+    }
+
+    private void ship(ThreadLocalRandom random) {
+        List<OrderInboundDTO> candidates = send("GET /orders/inbound/orderoutbound",
+                get("/orders/inbound/orderoutbound"), new TypeReference<>() {});
+        if (candidates == null || candidates.isEmpty()) {
+            return;
+        }
+
+        OrderInboundDTO lot = any(candidates, random);
+        OrderOutboundDto body = OrderOutboundDto.builder()
+                .orderInboundId(lot.getOrderInboundId())
+                .customerName(lot.getCustomerName())
+                .itemName(lot.getItemName())
+                .itemCode(lot.getItemCode())
+                .category(lot.getCategory())
+                .qty(random.nextLong(1, 11))
+                .build();
+        send("POST /orderitem/outbound/new", post("/orderitem/outbound/new", body), null);
+    }
+
+    private void issueMaterial(ThreadLocalRandom random) {
+        MaterialOutboundDTO body = new MaterialOutboundDTO();
+        body.setMaterialInboundId(any(seeded.materialInboundIds(), random));
+        body.setQty(random.nextLong(1, 11));
+        body.setOutboundDate(LocalDate.now());
+        send("POST /raw/outbound", post("/raw/outbound", body), null);
+    }
+
+    private void refreshList(ThreadLocalRandom random) {
+        String path = any(LIST_SCREENS, random);
+        String label = "GET " + (path.contains("?") ? path.substring(0, path.indexOf('?')) : path);
+        send(label, get(path), null);
+    }
+
+    // 응답 시간/상태 기록, 2xx 이면 본문을 type 으로 변환해 반환 (type == null 이면 본문 무시)
+    private <T> T send(String label, HttpRequest request, TypeReference<T> type) {
+        long start = System.nanoTime();
+        int status = 0;
+        long queryCount = 0;
+        T body = null;
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            queryCount = response.headers().firstValueAsLong("X-Query-Count").orElse(0);
+            if (type != null && status >= 200 && status < 300) {
+                body = objectMapper.readValue(response.body(), type);
+            }
+        } catch (IOException e) {
+            // 연결 실패/타임아웃 → status 0 (오류로 집계)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        long end = System.nanoTime();
+        if (start >= measureFrom && end <= stopAt) {
+            stats.computeIfAbsent(label, EndpointStats::new).record(end - start, status, queryCount);
+        }
+        return body;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path, HttpRequest.Builder::GET);
+    }
+
+    private HttpRequest post(String path, Object body) {
+        return request(path, builder -> builder.POST(json(body)));
+    }
+
+    private HttpRequest put(String path, Object body) {
+        return request(path, builder -> builder.PUT(json(body)));
+    }
+
+    private HttpRequest request(String path, Function<HttpRequest.Builder, HttpRequest.Builder> method) {
+        return method.apply(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .header("Accept", "application/json"))
+                .build();
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalStateException("요청 본문 변환 실패", e);
+        }
+    }
+
+    private boolean think(ThreadLocalRandom random) {
+        long millis = thinkTime.toMillis();
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(random.nextLong(millis / 2, millis * 3 / 2 + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Action pick(ThreadLocalRandom random) {
+        int r = random.nextInt(TOTAL_WEIGHT);
+        for (Action action : Action.values()) {
+            r -= action.weight;
+            if (r < 0) {
+                return action;
+            }
+        }
+        return Action.REFRESH_LISTS;
+    }
+
+    private static <T> T any(List<T> list, ThreadLocalRandom random) {
+        return list.get(random.nextInt(list.size()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.mes_back.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mes_back.MesBackApplication;
+import com.mes_back.service.OutboundEligibilityIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 현장 단말 동시 작업 재현 부하 테스트.
+ * 내장 MariaDB(MariaDB4j) 를 띄우고 Flyway 마이그레이션으로 스키마를 만든 뒤, 실제 웹 서버(랜덤 포트)에
+ * 단말 terminals 대가 LOT 등록 / 공정 일괄 갱신 / 출고 / 원자재 출고 / 목록 새로고침을 섞어서 요청한다.
+ * 워밍업 이후 구간의 엔드포인트별 처리량, p50/p99, 오류율/경합(409)율, 요청당 SQL 수를 출력한다.
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.args="terminals=50 duration=120s warmup=15s lots=5000 think=200ms"
+ */
+public class WorkloadReplay {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int terminals = Integer.parseInt(options.getOrDefault("terminals", "50"));
+        Duration duration = duration(options.getOrDefault("duration", "60s"));
+        Duration warmup = duration(options.getOrDefault("warmup", "10s"));
+        int lots = Integer.parseInt(options.getOrDefault("lots", "2000"));
+        Duration thinkTime = duration(options.getOrDefault("think", "100ms"));
+
+        EmbeddedMariaDb db = EmbeddedMariaDb.start("mesdb");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MesBackApplication.class)
+                .profiles("loadtest")
+                .properties("spring.datasource.url=" + db.jdbcUrl())
+                .run();
+        try {
+            LoadTestDataSeeder.Seeded seeded = context.getBean(LoadTestDataSeeder.class).seed(lots);
+            context.getBean(OutboundEligibilityIndex.class).rebuild(); // 기동 시 적재된 빈 인덱스를 적재 데이터 기준으로 재구성
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+            System.out.printf("부하 테스트 시작: terminals=%d, duration=%s, warmup=%s, lots=%d, think=%s%n",
+                    terminals, duration, warmup, lots, thinkTime);
+
+            long start = System.nanoTime();
+            long measureFrom = start + warmup.toNanos();
+            long stopAt = measureFrom + duration.toNanos();
+
+            // 자원은 역순으로 닫힘 → 단말(executor) 종료를 모두 기다린 뒤 HttpClient 를 닫는다
+            try (HttpClient http = HttpClient.newBuilder()
+                         .version(HttpClient.Version.HTTP_1_1)
+                         .connectTimeout(Duration.ofSeconds(5))
+                         .build();
+                 ExecutorService terminalExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < terminals; i++) {
+                    terminalExecutor.submit(new ShopFloorTerminal(http, objectMapper, baseUrl, seeded, stats, measureFrom, stopAt, thinkTime));
+                }
+            }
+
+            report(new TreeMap<>(stats), duration.toMillis() / 1000.0);
+        } finally {
+            context.close();
+            db.close();
+        }
+    }
+
+    private static void report(Map<String, EndpointStats> stats, double elapsedSeconds) {
+        System.out.println();
+        System.out.println(EndpointStats.header());
+        stats.values().forEach(s -> System.out.println(s.format(elapsedSeconds)));
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                int idx = token.indexOf('=');
+                if (idx > 0) {
+                    options.put(token.substring(0, idx), token.substring(idx + 1));
+                }
+            }
+        }
+        return options;
+    }
+
+    // 10s, 500ms, 2m 형식
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("지원하지 않는 시간 형식입니다: " + value);
+        };
+    }
+}
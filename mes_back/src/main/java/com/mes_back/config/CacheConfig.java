@@ -0,0 +1,45 @@
+package com.mes_back.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 기준정보(업체/공정/원자재 품목) 인메모리 캐시.
+ * - 캐시별 최대 건수 + 쓰기 후 TTL 로 제한
+ * - 트랜잭션 안에서의 evict/put 은 커밋 이후에 반영 (롤백 시 캐시 오염 방지)
+ * - recordStats → actuator /actuator/metrics/cache.gets 에서 hit/miss 확인
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String COMPANY_BY_NAME = "companyByName";
+    public static final String COMPANY_ACTIVE_LIST = "companyActiveList";
+    public static final String ROUTING_BY_ID = "routingById";
+    public static final String ROUTING_LIST = "routingList";
+    public static final String MATERIAL_ITEM_BY_ID = "materialItemById";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${master-data-cache.maximum-size:1000}") long maximumSize,
+                                     @Value("${master-data-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(
+                COMPANY_BY_NAME, COMPANY_ACTIVE_LIST,
+                ROUTING_BY_ID, ROUTING_LIST,
+                MATERIAL_ITEM_BY_ID);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        caffeineCacheManager.setAllowNullValues(false);
+
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,42 @@
+package com.mes_back.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 지표 설정 (Prometheus 형식: /actuator/prometheus).
+ * Hikari 기본 지표(hikaricp.connections.active/pending/...)는 Spring Boot 가 등록하고,
+ * 여기서는 알람 기준으로 쓰기 쉬운 풀 포화도(사용 중 / 최대)를 추가로 노출한다.
+ * (DataSource 가 datasource-proxy 로 감싸져 있어도 unwrap 으로 HikariDataSource 를 찾음)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder hikariPoolSaturation(DataSource dataSource) {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        return registry -> {
+            if (hikari == null) {
+                return;
+            }
+            Gauge.builder("mes.db.pool.saturation", hikari, MetricsConfig::saturation)
+                    .description("DB 커넥션 풀 사용률 (active / maximumPoolSize)")
+                    .register(registry);
+        };
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean(); // 첫 커넥션 요청 전에는 null
+        if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+}
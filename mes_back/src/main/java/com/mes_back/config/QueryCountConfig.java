@@ -0,0 +1,51 @@
+package com.mes_back.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.ThreadQueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 실행 횟수 / JDBC 소요 시간 계측 (query-count.enabled=true 일 때만, 기본 꺼짐).
+ * DataSource 를 datasource-proxy 로 감싸 스레드별로 쿼리를 세고,
+ * QueryCountFilter 가 요청 단위로 집계해 메트릭(http.server.requests.queries / .jdbc)으로 남긴다.
+ * 응답 헤더(X-Query-Count, X-Query-Time-Ms)는 QueryCountHeaderAdvice 에서 추가.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "query-count", name = "enabled", havingValue = "true")
+public class QueryCountConfig {
+
+    public static final String DATA_SOURCE_NAME = "mesdb";
+
+    // static → 다른 BeanPostProcessor 보다 먼저 등록되어 DataSource 생성 시점에 적용
+    @Bean
+    public static BeanPostProcessor queryCountDataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(DATA_SOURCE_NAME)
+                            .countQuery(new ThreadQueryCountHolder())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(new QueryCountFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mes_back.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 요청 시작 시 스레드별 쿼리 카운터 초기화 → 종료 시 엔드포인트(URI 패턴)별 메트릭 기록
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountHolder.clear();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, QueryCountHolder.getGrandTotal());
+            QueryCountHolder.clear();
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCount count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청당 SQL 실행 횟수")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(count.getTotal());
+        Timer.builder("http.server.requests.jdbc")
+                .description("요청당 JDBC 실행 시간")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(count.getTime(), TimeUnit.MILLISECONDS);
+    }
+}
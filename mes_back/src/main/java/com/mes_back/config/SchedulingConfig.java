@@ -0,0 +1,10 @@
+package com.mes_back.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (출고 대상 인덱스 정합성 점검 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
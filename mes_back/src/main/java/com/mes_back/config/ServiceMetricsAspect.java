@@ -0,0 +1,62 @@
+package com.mes_back.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * com.mes_back.service 패키지의 모든 public 메서드 실행 시간을 히스토그램 타이머(mes.service)로 기록.
+ * 태그: class, method, exception(정상 종료 시 none)
+ * → Prometheus 에서 histogram_quantile(0.99, sum by (le, class, method) (rate(mes_service_seconds_bucket[5m])))
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "mes.service";
+
+    private final MeterRegistry meterRegistry;
+
+    // 호출마다 Timer.builder → 레지스트리 조회를 하지 않도록 (클래스, 메서드, 예외) 별 타이머를 보관
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.mes_back.service..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            TimerKey key = new TimerKey(joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    joinPoint.getSignature().getName(), exception);
+            timers.computeIfAbsent(key, this::register).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(METRIC_NAME)
+                .description("서비스 메서드 실행 시간")
+                .tag("class", key.className())
+                .tag("method", key.method())
+                .tag("exception", key.exception())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String className, String method, String exception) {
+    }
+}
@@ -22,6 +22,8 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // /uploads/order_items/** 는 OrderItemImageController 가 처리 (immutable 캐시, Range, sendfile)
+        // → 컨트롤러 매핑이 리소스 핸들러보다 우선하므로 여기서는 그 외 폴더만 해당
         registry.addResourceHandler("/uploads/**")
                 // 실제 파일 위치: file:///C:/upload/image/
                 // (boardFileLocation 경로의 파일을 URL로 접근 가능하게 함)
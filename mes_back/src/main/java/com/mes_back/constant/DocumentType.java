@@ -0,0 +1,18 @@
+package com.mes_back.constant;
+
+public enum DocumentType {
+    LOT("LOT"),                 // 수주 입고 LOT번호
+    MATERIAL_INBOUND("MINC"),   // 원자재 입고번호
+    ORDER_OUTBOUND("OUT"),      // 수주 출고번호
+    MATERIAL_OUTBOUND("MOUT");  // 원자재 출고번호
+
+    private final String prefix;
+
+    DocumentType(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+}
@@ -0,0 +1,31 @@
+package com.mes_back.constant;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ImageVariant {
+    THUMB("thumb", 200),    // 목록/그리드 썸네일
+    MEDIUM("medium", 800);  // 상세 화면 미리보기
+
+    private final String dirName;
+    private final int maxSize; // 긴 변 기준 최대 픽셀
+
+    ImageVariant(String dirName, int maxSize) {
+        this.dirName = dirName;
+        this.maxSize = maxSize;
+    }
+
+    public String getDirName() {
+        return dirName;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public static Optional<ImageVariant> fromDirName(String dirName) {
+        return Arrays.stream(values())
+                .filter(v -> v.dirName.equals(dirName))
+                .findFirst();
+    }
+}
@@ -0,0 +1,23 @@
+package com.mes_back.constant;
+
+// 스프레드시트 파일 형식 (이력 다운로드/원자재 입고 업로드 공용)
+public enum SheetFormat {
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    CSV("csv", "text/csv; charset=UTF-8");
+
+    private final String extension;
+    private final String contentType;
+
+    SheetFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,10 @@
+package com.mes_back.constant;
+
+// 원자재 재고 변동 유형 (material_stock_movement.movement_type)
+public enum StockMovementType {
+    OPENING,         // 원장 도입 시 기초 재고
+    INBOUND,         // 입고 (+)
+    INBOUND_ADJUST,  // 입고 수량 수정 (±)
+    OUTBOUND,        // 출고 / 출고 수량 증가 (-)
+    OUTBOUND_CANCEL  // 출고 삭제 / 출고 수량 감소 (+)
+}
@@ -0,0 +1,33 @@
+package com.mes_back.controller;
+
+import com.mes_back.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+// 현황판 단말용 변경 피드 (폴링 대신 구독)
+@RestController
+@RequestMapping("/changes")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    // 공정 상태 변경: /changes/process?orderInboundId=1&orderInboundId=2
+    @GetMapping(value = "/process", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeProcess(@RequestParam(name = "orderInboundId", required = false) Set<Long> orderInboundIds) {
+        return changeFeedService.subscribeProcess(orderInboundIds != null ? orderInboundIds : Set.of());
+    }
+
+    // 원자재 재고 변경: /changes/stock?itemCode=RM-001
+    @GetMapping(value = "/stock", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeStock(@RequestParam(name = "itemCode", required = false) Set<String> itemCodes) {
+        return changeFeedService.subscribeStock(itemCodes != null ? itemCodes : Set.of());
+    }
+}
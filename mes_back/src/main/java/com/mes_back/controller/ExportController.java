@@ -0,0 +1,64 @@
+package com.mes_back.controller;
+
+import com.mes_back.constant.SheetFormat;
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+// 이력/재고 엑셀(CSV) 다운로드 - ?format=XLSX|CSV + 목록 화면과 같은 검색 조건
+@RestController
+@RequestMapping("/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/orders/inbound")
+    public ResponseEntity<StreamingResponseBody> exportOrderInbound(@ModelAttribute HistorySearchDTO search,
+                                                                    @RequestParam(defaultValue = "XLSX") SheetFormat format) {
+        return download("수주입고이력", format, out -> exportService.exportOrderInbound(search, format, out));
+    }
+
+    @GetMapping("/orders/outbound")
+    public ResponseEntity<StreamingResponseBody> exportOrderOutbound(@ModelAttribute HistorySearchDTO search,
+                                                                     @RequestParam(defaultValue = "XLSX") SheetFormat format) {
+        return download("수주출고이력", format, out -> exportService.exportOrderOutbound(search, format, out));
+    }
+
+    @GetMapping("/materials/inbound")
+    public ResponseEntity<StreamingResponseBody> exportMaterialInbound(@ModelAttribute HistorySearchDTO search,
+                                                                       @RequestParam(defaultValue = "XLSX") SheetFormat format) {
+        return download("원자재입고이력", format, out -> exportService.exportMaterialInbound(search, format, out));
+    }
+
+    @GetMapping("/materials/outbound")
+    public ResponseEntity<StreamingResponseBody> exportMaterialOutbound(@ModelAttribute HistorySearchDTO search,
+                                                                        @RequestParam(defaultValue = "XLSX") SheetFormat format) {
+        return download("원자재출고이력", format, out -> exportService.exportMaterialOutbound(search, format, out));
+    }
+
+    @GetMapping("/materials/stock")
+    public ResponseEntity<StreamingResponseBody> exportMaterialStock(@ModelAttribute HistorySearchDTO search,
+                                                                     @RequestParam(defaultValue = "XLSX") SheetFormat format) {
+        return download("원자재재고", format, out -> exportService.exportMaterialStock(search, format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> download(String name, SheetFormat format, StreamingResponseBody body) {
+        String fileName = name + "_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mes_back.dto.OrderItemDTO;
 import com.mes_back.dto.OrderItemRequestDTO;
 import com.mes_back.dto.OrderItemRoutingDTO;
+import com.mes_back.service.ImageStorageService;
+import com.mes_back.service.ImageStorageService.StagedImage;
 import com.mes_back.service.MasterDataOrderItemsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,7 @@ import java.util.List;
 public class MasterDataOrderItemsController {
 
     private final MasterDataOrderItemsService masterDataOrderItemsService;
+    private final ImageStorageService imageStorageService;
 
     // 수주 대상 품목 조회
     @GetMapping("/order")
@@ -61,10 +64,12 @@ public class MasterDataOrderItemsController {
             requestDTO.setRouting(routingList);
         }
 
+        // 파일은 트랜잭션 밖에서 staging 폴더에 먼저 받아둠 (DB 커넥션 점유 시간 단축)
+        List<StagedImage> staged = imageStorageService.stage(images);
         OrderItemDTO savedItem = masterDataOrderItemsService.createOrderItemWithFiles(
                 requestDTO,
                 requestDTO.getRouting(),
-                images
+                staged
         );
 
         return ResponseEntity.ok(savedItem);
@@ -78,7 +83,8 @@ public class MasterDataOrderItemsController {
             @RequestPart(value = "routing", required = false) List<OrderItemRoutingDTO> routingList,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) throws IOException {
-        OrderItemDTO updatedItem = masterDataOrderItemsService.updateOrderItemWithFiles(id, requestDTO, routingList, images);
+        List<StagedImage> staged = imageStorageService.stage(images);
+        OrderItemDTO updatedItem = masterDataOrderItemsService.updateOrderItemWithFiles(id, requestDTO, routingList, staged);
         return ResponseEntity.ok(updatedItem);
     }
 
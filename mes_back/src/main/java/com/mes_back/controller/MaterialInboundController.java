@@ -1,12 +1,22 @@
 package com.mes_back.controller;
 
+import com.mes_back.dto.CursorPageDTO;
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.ImportLineErrorDTO;
 import com.mes_back.dto.MaterialInboundDTO;
+import com.mes_back.dto.MaterialInboundImportResultDTO;
 import com.mes_back.entity.MaterialInbound;
+import com.mes_back.exception.InvalidImportFileException;
 import com.mes_back.repository.MaterialInboundRepository;
+import com.mes_back.service.MaterialInboundImportService;
 import com.mes_back.service.MaterialInboundService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,17 +26,39 @@ import java.util.List;
 public class MaterialInboundController {
 
     private final MaterialInboundService materialInboundService;
+    private final MaterialInboundImportService materialInboundImportService;
 
     @GetMapping("")
     public List<MaterialInboundDTO> getMaterialInbound() {
         return materialInboundService.getMaterialInbound();
     }
 
+    @GetMapping("/page")
+    public CursorPageDTO<MaterialInboundDTO> getMaterialInboundPage(@ModelAttribute HistorySearchDTO search,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "50") int size) {
+        return materialInboundService.findHistoryPage(search, cursor, size);
+    }
+
     @PostMapping("/new")
     public MaterialInboundDTO addMaterialInbound(@RequestBody MaterialInboundDTO materialInboundDto) {
         return materialInboundService.addMaterialInbound(materialInboundDto);
     }
 
+    // 매입처 납품서 일괄 입고 (CSV/XLSX, 헤더: 품목코드, 입고수량, 입고일자, 제조일자, 매입처명)
+    // 실패 행은 건너뛰고 행별 사유를 돌려줌
+    // 파일 자체를 읽을 수 없으면 (형식/헤더/필수 컬럼) 400 + 사유
+    @PostMapping("/import")
+    public ResponseEntity<MaterialInboundImportResultDTO> importMaterialInbound(@RequestPart("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(materialInboundImportService.importFile(file.getOriginalFilename(), in));
+        } catch (InvalidImportFileException e) {
+            MaterialInboundImportResultDTO result = new MaterialInboundImportResultDTO();
+            result.getErrors().add(new ImportLineErrorDTO(e.getLine(), e.getMessage()));
+            return ResponseEntity.badRequest().body(result);
+        }
+    }
+
     @PatchMapping("")
     public MaterialInboundDTO updateMaterialInbound(@RequestBody MaterialInboundDTO materialInboundDto) {
         return materialInboundService.updateMaterialInbound(materialInboundDto);
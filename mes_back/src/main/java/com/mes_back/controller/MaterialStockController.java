@@ -5,11 +5,14 @@ import com.mes_back.service.MaterialStockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -20,9 +23,11 @@ public class MaterialStockController {
 
     private final MaterialStockService materialStockService;
 
+    // 품목별 재고 (?asOf=2025-10-01 → 해당 일자 마감 기준)
     @GetMapping("/inventory")
-    public ResponseEntity<List<MaterialStockDTO>> findTotalInventory() {
-        List<MaterialStockDTO> totalStockDTOS = materialStockService.findTotalQtyByItem();
+    public ResponseEntity<List<MaterialStockDTO>> findTotalInventory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        List<MaterialStockDTO> totalStockDTOS = materialStockService.findTotalQtyByItem(asOf);
         return ResponseEntity.ok(totalStockDTOS);
     }
 }
@@ -1,11 +1,15 @@
 package com.mes_back.controller;
 
 
+import com.mes_back.dto.CursorPageDTO;
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.OrderInboundBulkResultDTO;
 import com.mes_back.dto.OrderInboundDTO;
 import com.mes_back.service.OrderInboundService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -36,12 +40,30 @@ public class OrderInboundController {
         return ResponseEntity.ok().build();
     }
 
+    // 일괄 입고 등록 (트럭 1대분) - 한 행이라도 검증 실패 시 전체 미등록 + 400 과 행별 사유
+    @PostMapping("/items/bulk")
+    public ResponseEntity<List<OrderInboundBulkResultDTO>> registerInboundBulk(@RequestBody List<OrderInboundDTO> dtos) {
+        List<OrderInboundBulkResultDTO> results = orderInboundService.saveAll(dtos);
+        if (results.stream().anyMatch(r -> !r.isSuccess())) {
+            return ResponseEntity.badRequest().body(results);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(results);
+    }
+
     @GetMapping("/history")
     public ResponseEntity<List<OrderInboundDTO>> findAllHistory() {
         List<OrderInboundDTO> orderInboundDTOS = orderInboundService.findAllByOrderInbound(); // ✅ 수정된 메서드 호출
         return ResponseEntity.ok(orderInboundDTOS);
     }
 
+    // 입고 이력 페이지 조회 (?cursor=2025-10-18_123&size=50&itemName=...)
+    @GetMapping("/history/page")
+    public ResponseEntity<CursorPageDTO<OrderInboundDTO>> findHistoryPage(
+            @ModelAttribute HistorySearchDTO search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(orderInboundService.findHistoryPage(search, cursor, size));
+    }
 
     @DeleteMapping("/history/{id}")
     public ResponseEntity<Void> deleteHistory(@PathVariable Long id) {
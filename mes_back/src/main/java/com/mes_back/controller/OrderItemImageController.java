@@ -0,0 +1,187 @@
+package com.mes_back.controller;
+
+import com.mes_back.constant.ImageVariant;
+import com.mes_back.service.ImageDeliveryService;
+import com.mes_back.service.ImageDeliveryService.ImageFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 수주 품목 이미지 원본/파생본 제공.
+ * - 파일명이 바뀌지 않으므로 1년 immutable 캐시 + 강한 ETag (If-None-Match → 304)
+ * - Range 요청(단일 구간) → 206 부분 응답
+ * - 본문은 Tomcat sendfile 또는 FileChannel.transferTo 로 힙 복사 없이 전송
+ */
+@RestController
+@RequiredArgsConstructor
+public class OrderItemImageController {
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageDeliveryService imageDeliveryService;
+
+    // 원본
+    @GetMapping("/uploads/order_items/{fileName:.+}")
+    public void getOriginal(@PathVariable String fileName,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        serve(imageDeliveryService.findOriginal(fileName), request, response);
+    }
+
+    // 썸네일/중간 크기: 파생본이 없으면(도입 이전 업로드 등) 원본에서 만들어서 응답
+    @GetMapping("/uploads/order_items/{variant}/{fileName:.+}")
+    public void getVariant(@PathVariable String variant,
+                           @PathVariable String fileName,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        Optional<ImageVariant> imageVariant = ImageVariant.fromDirName(variant);
+        Optional<ImageFile> file = imageVariant.isPresent()
+                ? imageDeliveryService.findVariant(imageVariant.get(), fileName)
+                : Optional.empty();
+        serve(file, request, response);
+    }
+
+    private void serve(Optional<ImageFile> found,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        ImageFile file = found.get();
+
+        response.setHeader(HttpHeaders.ETAG, file.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, file.lastModified());
+
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), file.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = file.size() - 1;
+
+        // If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체 전송
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(file.etag()))) {
+            ByteRange byteRange = ByteRange.parse(range, file.size());
+            if (byteRange != null && !byteRange.satisfiable()) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (byteRange != null) {
+                start = byteRange.start();
+                end = byteRange.end();
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.size());
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(file.contentType().toString());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length <= 0) {
+            return;
+        }
+
+        // 커넥터가 지원하면 응답 본문을 Tomcat 에 맡김 (커널 sendfile)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1); // end 는 배타적
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (NoSuchFileException e) {
+            // 캐시된 정보와 달리 파일이 지워진 경우
+            imageDeliveryService.evict(file);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            }
+        }
+    }
+
+    // If-None-Match: "a", "b" / W/"a" / * (약한 비교)
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    /**
+     * Range 헤더의 단일 바이트 구간 (bytes=0-99, bytes=100-, bytes=-100).
+     * 여러 구간 요청이나 형식이 잘못된 헤더는 null → 전체 전송.
+     */
+    private record ByteRange(long start, long end, boolean satisfiable) {
+
+        private static final ByteRange UNSATISFIABLE = new ByteRange(0, -1, false);
+
+        static ByteRange parse(String header, long size) {
+            if (!header.startsWith("bytes=") || header.contains(",")) {
+                return null;
+            }
+            String spec = header.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+
+            try {
+                String first = spec.substring(0, dash).trim();
+                String last = spec.substring(dash + 1).trim();
+                if (first.isEmpty()) {
+                    // 마지막 n 바이트
+                    long suffix = Long.parseLong(last);
+                    if (suffix <= 0 || size == 0) return UNSATISFIABLE;
+                    return new ByteRange(Math.max(0, size - suffix), size - 1, true);
+                }
+
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+                if (start >= size || end < start) return UNSATISFIABLE;
+                return new ByteRange(start, end, true);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
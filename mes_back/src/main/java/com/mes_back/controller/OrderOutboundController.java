@@ -1,5 +1,7 @@
 package com.mes_back.controller;
 
+import com.mes_back.dto.CursorPageDTO;
+import com.mes_back.dto.HistorySearchDTO;
 import com.mes_back.dto.OrderOutboundDto;
 import com.mes_back.entity.OrderOutbound;
 import com.mes_back.service.OrderOutboundService;
@@ -26,6 +28,13 @@ public class OrderOutboundController {
         return orderOutboundService.findAll();
     }
 
+    @GetMapping("/page")
+    public CursorPageDTO<OrderOutboundDto> getOrderOutboundPage(@ModelAttribute HistorySearchDTO search,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "50") int size){
+        return orderOutboundService.findHistoryPage(search, cursor, size);
+    }
+
     @PatchMapping("")
     public OrderOutboundDto updateOrderOutbound(@RequestBody OrderOutboundDto orderOutboundDto){
         return orderOutboundService.updateOrderOutbound(orderOutboundDto);
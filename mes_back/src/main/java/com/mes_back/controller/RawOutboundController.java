@@ -1,5 +1,7 @@
 package com.mes_back.controller;
 
+import com.mes_back.dto.CursorPageDTO;
+import com.mes_back.dto.HistorySearchDTO;
 import com.mes_back.dto.MaterialOutboundDTO;
 import com.mes_back.service.RawOutboundService;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,15 @@ public class RawOutboundController {
         return ResponseEntity.ok(outboundService.getAll());
     }
 
+    // ✅ 페이지 조회 (키셋 커서 + 검색 조건)
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<MaterialOutboundDTO>> getPage(
+            @ModelAttribute HistorySearchDTO search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(outboundService.findHistoryPage(search, cursor, size));
+    }
+
     // ✅ 등록
     @PostMapping
     public ResponseEntity<Void> add(@RequestBody MaterialOutboundDTO dto) {
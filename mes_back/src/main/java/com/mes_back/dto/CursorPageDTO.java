@@ -0,0 +1,51 @@
+package com.mes_back.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이지 응답 (content + 다음 페이지 커서)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> content;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor; // 마지막 페이지면 null
+
+    @JsonProperty("has_next")
+    private boolean hasNext;
+
+    @JsonProperty("total_count")
+    private Long totalCount;   // 첫 페이지 요청일 때만 계산 (이후 페이지는 null → 프론트가 첫 값을 유지)
+
+    @JsonProperty("total_count_capped")
+    private boolean totalCountCapped; // true 면 실제 건수는 total_count(COUNT_LIMIT) 이상 → "1,000+" 표시
+
+    public static final int MAX_SIZE = 200;
+
+    // 첫 페이지 건수 상한 - 검색어는 부분 일치(%like%)라 인덱스로 좁힐 수 없어 정확한 COUNT(*) 는 조건에 맞는 행을 전부 읽는다.
+    // 상한 + 1 건을 찾으면 멈추고 "상한 이상"으로만 알려준다.
+    public static final long COUNT_LIMIT = 1_000;
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * size + 1 건 조회한 결과로 페이지 구성 (초과분이 있으면 다음 페이지 존재)
+     * totalCount 는 COUNT_LIMIT + 1 건까지 센 값 (이후 페이지는 null)
+     */
+    public static <T> CursorPageDTO<T> of(List<T> rows, int size, Function<T, PageCursor> cursorOf, Long totalCount) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        boolean capped = totalCount != null && totalCount > COUNT_LIMIT;
+        return new CursorPageDTO<>(content, nextCursor, hasNext, capped ? COUNT_LIMIT : totalCount, capped);
+    }
+}
@@ -0,0 +1,25 @@
+package com.mes_back.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 이력 화면 공통 검색 조건 (입고/출고 이력 목록, 엑셀 다운로드)
+@Getter
+@Setter
+@NoArgsConstructor
+public class HistorySearchDTO {
+    private String customerName; // 거래처명 / 매입처명
+    private String itemCode;     // 품목코드
+    private String itemName;     // 품목명
+    private String documentNo;   // LOT번호 / 입고번호 / 출고번호
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;  // 입고일자 / 출고일자 시작
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;    // 입고일자 / 출고일자 종료
+}
@@ -0,0 +1,14 @@
+package com.mes_back.dto;
+
+import lombok.*;
+
+// 업로드 파일 행별 검증 오류
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportLineErrorDTO {
+    private int line;       // 파일 기준 행 번호 (헤더 = 1)
+    private String message; // 오류 사유
+}
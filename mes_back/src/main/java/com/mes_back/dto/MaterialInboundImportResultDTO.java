@@ -0,0 +1,23 @@
+package com.mes_back.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 원자재 입고 파일 업로드 결과
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialInboundImportResultDTO {
+    private int totalRows;      // 헤더/빈 행 제외 데이터 행 수
+    private int importedRows;   // 입고 등록된 행 수
+    private int failedRows;     // 검증 실패 행 수
+    private String firstInboundNo;
+    private String lastInboundNo;
+
+    @Builder.Default
+    private List<ImportLineErrorDTO> errors = new ArrayList<>(); // 앞에서부터 최대 MAX_REPORTED_ERRORS 건
+}
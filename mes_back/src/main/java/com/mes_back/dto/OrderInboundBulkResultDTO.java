@@ -0,0 +1,28 @@
+package com.mes_back.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+// 일괄 입고 등록 결과 (요청 배열 순서대로 1행씩)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderInboundBulkResultDTO {
+
+    @JsonProperty("line")
+    private Integer line; // 요청 행 번호 (1부터)
+
+    @JsonProperty("success")
+    private boolean success; // 검증 통과 여부
+
+    @JsonProperty("order_inbound_id")
+    private Long orderInboundId; // 등록된 입고 PK (실패/미등록 시 null)
+
+    @JsonProperty("lot_no")
+    private String lotNo; // 발급된 로트번호 (실패/미등록 시 null)
+
+    @JsonProperty("message")
+    private String message; // 실패 사유
+}
@@ -24,4 +24,11 @@ public class OrderItemImgDTO {
 
     @JsonProperty("reg_yn")
     private String regYn;
+
+    // 목록/상세 화면용 축소본 URL (원본은 img_url)
+    @JsonProperty("thumb_url")
+    private String thumbUrl;
+
+    @JsonProperty("medium_url")
+    private String mediumUrl;
 }
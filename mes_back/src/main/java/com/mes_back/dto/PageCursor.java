@@ -0,0 +1,40 @@
+package com.mes_back.dto;
+
+import com.mes_back.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+// 키셋 페이지네이션 커서 - (일자, id) 내림차순에서 마지막으로 내려간 행의 위치 ("2025-10-18_123")
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+    private LocalDate date;
+    private Long id;
+
+    // 형식이 맞지 않으면 InvalidCursorException (400)
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int idx = cursor.lastIndexOf('_');
+        if (idx <= 0 || idx == cursor.length() - 1) {
+            throw new InvalidCursorException(cursor, null);
+        }
+        try {
+            PageCursor decoded = new PageCursor(LocalDate.parse(cursor.substring(0, idx)), Long.parseLong(cursor.substring(idx + 1)));
+            if (decoded.id <= 0) {
+                throw new InvalidCursorException(cursor, null);
+            }
+            return decoded;
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+
+    public String encode() {
+        return date + "_" + id;
+    }
+}
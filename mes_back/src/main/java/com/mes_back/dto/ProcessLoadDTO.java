@@ -0,0 +1,13 @@
+package com.mes_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 공정별 진행 중(process_status = 1) LOT 수 - 지표(mes.process.open_lots) 집계용
+@Getter
+@AllArgsConstructor
+public class ProcessLoadDTO {
+    private String processCode;
+    private String processName;
+    private Long openLots;
+}
@@ -12,7 +12,10 @@ import org.hibernate.annotations.SQLDelete;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "company")
+@Table(name = "company", indexes = {
+        @Index(name = "idx_company_company_name", columnList = "company_name"),
+        @Index(name = "idx_company_active_status", columnList = "active, status")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -80,6 +83,11 @@ public class Company {
     @Column(name = "deleted_at", columnDefinition = "TIMESTAMP(0)", nullable = true)
     private LocalDateTime deletedAt;
 
+    // 활성 행 여부 (deleted_at IS NULL 생성 컬럼) - 조회 전용, 소프트 삭제 필터 인덱스용
+    @Column(name = "active", insertable = false, updatable = false,
+            columnDefinition = "BOOLEAN GENERATED ALWAYS AS (deleted_at IS NULL)")
+    private Boolean active;
+
     public void restore() {
         this.deletedAt = null;
     }
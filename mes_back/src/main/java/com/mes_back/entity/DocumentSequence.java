@@ -0,0 +1,33 @@
+package com.mes_back.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 문서번호(LOT/입고/출고) 채번용 카운터 - (prefix, 일자) 당 한 행
+// 읽기/쓰기는 DocumentNumberService 가 전용 커넥션 풀에서 JDBC 로 직접 (엔티티는 스키마 정의용)
+@Entity
+@Table(name = "document_sequence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentSequence {
+
+    // ex) LOT-20251018
+    @Id
+    @Column(name = "seq_key", length = 30)
+    private String seqKey;
+
+    @Column(nullable = false, length = 10)
+    private String prefix;
+
+    @Column(name = "seq_date", nullable = false)
+    private LocalDate seqDate;
+
+    // 다음에 발급할 번호 (이미 다른 인스턴스에 할당된 블록은 건너뜀)
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -8,7 +8,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "material_inbound")
+@Table(name = "material_inbound", indexes = {
+        @Index(name = "idx_material_inbound_inbound_no", columnList = "inbound_no"),
+        @Index(name = "idx_material_inbound_active_date", columnList = "active, inbound_date, id"),
+        @Index(name = "idx_material_inbound_item_date", columnList = "material_item_id, inbound_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +21,9 @@ import java.time.LocalDateTime;
 public class MaterialInbound {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "material_inbound_id")
+    @TableGenerator(name = "material_inbound_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "material_inbound", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -60,6 +66,11 @@ public class MaterialInbound {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 활성 행 여부 (deleted_at IS NULL 생성 컬럼) - 조회 전용, 소프트 삭제 필터 인덱스용
+    @Column(name = "active", insertable = false, updatable = false,
+            columnDefinition = "BOOLEAN GENERATED ALWAYS AS (deleted_at IS NULL)")
+    private Boolean active;
+
     public void updateMaterialInbound(MaterialInboundDTO materialInboundDto) {
         this.specQty = materialInboundDto.getSpecQty();
         this.specUnit = materialInboundDto.getSpecUnit();
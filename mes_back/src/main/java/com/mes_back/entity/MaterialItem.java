@@ -6,7 +6,9 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "material_item")
+@Table(name = "material_item", indexes = {
+        @Index(name = "idx_material_item_item_code", columnList = "item_code")
+})
 @Getter
 @Setter
 public class MaterialItem {
@@ -7,13 +7,18 @@ import lombok.Setter;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "material_outbound")
+@Table(name = "material_outbound", indexes = {
+        @Index(name = "idx_material_outbound_outbound_no", columnList = "outbound_no"),
+        @Index(name = "idx_material_outbound_date", columnList = "outbound_date, id")
+})
 @Getter
 @Setter
 public class MaterialOutbound {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "material_outbound_id")
+    @TableGenerator(name = "material_outbound_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "material_outbound", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -13,7 +13,9 @@ import lombok.*;
 public class MaterialStock {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "material_stock_id")
+    @TableGenerator(name = "material_stock_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "material_stock", allocationSize = 50)
     private Long id;
 
     @ManyToOne
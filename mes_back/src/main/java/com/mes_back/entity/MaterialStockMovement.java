@@ -0,0 +1,50 @@
+package com.mes_back.entity;
+
+import com.mes_back.constant.StockMovementType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 원자재 재고 원장 - 추가 전용 (수정/삭제 없음), 재고 변동 1건 = 1행
+// 연관관계 대신 id 만 보관 → 기록 시 품목/입고 엔티티를 다시 읽지 않음
+@Entity
+@Table(name = "material_stock_movement", indexes = {
+        @Index(name = "idx_stock_movement_date_item", columnList = "movement_date, material_item_id, delta, material_inbound_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialStockMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "material_stock_movement_id")
+    @TableGenerator(name = "material_stock_movement_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "material_stock_movement", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "material_item_id", nullable = false)
+    private Long materialItemId;
+
+    @Column(name = "material_inbound_id", nullable = false)
+    private Long materialInboundId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 20)
+    private StockMovementType movementType;
+
+    // 증감량 (입고 +, 출고 -)
+    @Column(nullable = false)
+    private Long delta;
+
+    // 기록 일자 - 스냅샷 경계, insert 시 DB 가 채움 (앱 서버 시계 대신 DB 시계 하나로 통일)
+    @Column(name = "movement_date", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "DATE DEFAULT (CURRENT_DATE)")
+    private LocalDate movementDate;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.mes_back.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 품목별 일 마감 재고 스냅샷 - snapshotDate 까지(포함)의 원장 누계, 마감일마다 원장에 한 번이라도 등장한 전 품목 한 벌
+@Entity
+@Table(name = "material_stock_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_snapshot_date_item", columnNames = {"snapshot_date", "material_item_id"})
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialStockSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "material_stock_snapshot_id")
+    @TableGenerator(name = "material_stock_snapshot_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "material_stock_snapshot", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "material_item_id", nullable = false)
+    private Long materialItemId;
+
+    @Column(nullable = false)
+    private Long qty;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
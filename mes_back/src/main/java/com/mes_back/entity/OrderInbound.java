@@ -4,6 +4,8 @@ import com.mes_back.constant.OrderCategory;
 import com.mes_back.constant.PaintType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,11 +17,17 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @ToString
 @Builder
-@Table(name = "order_inbound")
+@DynamicUpdate // 변경된 컬럼만 UPDATE (소프트 삭제 등이 읽어 둔 qty 로 다른 트랜잭션의 수정을 덮어쓰지 않도록)
+@Table(name = "order_inbound", indexes = {
+        @Index(name = "idx_order_inbound_lot_no", columnList = "lot_no"),
+        @Index(name = "idx_order_inbound_active_date", columnList = "active, inbound_date, order_inbound_id")
+})
 public class OrderInbound {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_inbound_id")
+    @TableGenerator(name = "order_inbound_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "order_inbound", allocationSize = 50)
     @Column(name = "order_inbound_id")
     private Long orderInboundId;
 
@@ -63,4 +71,21 @@ public class OrderInbound {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 활성 행 여부 (deleted_at IS NULL 생성 컬럼) - 조회 전용, 소프트 삭제 필터 인덱스용
+    @Column(name = "active", insertable = false, updatable = false,
+            columnDefinition = "BOOLEAN GENERATED ALWAYS AS (deleted_at IS NULL)")
+    private Boolean active;
+
+    // 누적 출고수량 (출고 등록/수정/삭제 시 OrderInboundRepository.addShippedQty 조건부 UPDATE 로만 변경)
+    // 엔티티 저장 시에는 쓰지 않음 → 읽어 둔 값으로 그 사이 커밋된 출고를 덮어쓰지 않는다
+    @Column(name = "shipped_qty", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long shippedQty = 0L;
+
+    // 출고 가능 잔여수량
+    public Long getRemainingQty() {
+        return qty - shippedQty;
+    }
+
 }
@@ -11,7 +11,9 @@ import lombok.Setter;
 public class OrderItemImg {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_item_img_id")
+    @TableGenerator(name = "order_item_img_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "order_item_img", allocationSize = 50)
     @Column(name = "order_item_img_id")
     private Long orderItemImgId;
 
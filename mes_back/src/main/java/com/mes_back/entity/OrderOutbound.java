@@ -62,17 +62,22 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "order_outbound")
+@Table(name = "order_outbound", indexes = {
+        @Index(name = "idx_order_outbound_outbound_no", columnList = "outbound_no"),
+        @Index(name = "idx_order_outbound_active_date", columnList = "active, outbound_date, id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @SQLDelete(sql = "UPDATE order_outbound SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
-@Where(clause = "deleted_at IS NULL")
+@Where(clause = "active = true")
 public class OrderOutbound {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_outbound_id")
+    @TableGenerator(name = "order_outbound_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "order_outbound", allocationSize = 50)
     private Long id;
 
     // ✅ (수정) fetch = FetchType.LAZY 추가
@@ -106,6 +111,11 @@ public class OrderOutbound {
     @Column(name = "deleted_at", columnDefinition = "TIMESTAMP(0)", nullable = true)
     private LocalDateTime deletedAt;
 
+    // 활성 행 여부 (deleted_at IS NULL 생성 컬럼) - 조회 전용, 소프트 삭제 필터 인덱스용
+    @Column(name = "active", insertable = false, updatable = false,
+            columnDefinition = "BOOLEAN GENERATED ALWAYS AS (deleted_at IS NULL)")
+    private Boolean active;
+
     @Setter
     @Column(name = "remaining_quantity")
     private Long remainingQuantity;
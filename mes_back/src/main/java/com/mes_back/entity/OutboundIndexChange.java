@@ -0,0 +1,31 @@
+package com.mes_back.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 출고 대상 인덱스 변경 로그 - 수주 입고 LOT 변경 1건 = 1행 (다른 인스턴스가 폴링해 해당 LOT 만 갱신)
+// 트랜잭션당 한두 건이라 배치 insert 대상이 아니므로 IDENTITY 채번
+@Entity
+@Table(name = "outbound_index_change", indexes = {
+        @Index(name = "idx_outbound_index_change_created", columnList = "created_at, id, order_inbound_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboundIndexChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_inbound_id", nullable = false)
+    private Long orderInboundId;
+
+    // 기록 시각 - DB 시계 (폴링 기준, 인스턴스 간 시계 차이 무관)
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime createdAt;
+}
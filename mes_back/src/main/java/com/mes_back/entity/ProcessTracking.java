@@ -7,13 +7,18 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "process_tracking")
+@Table(name = "process_tracking", indexes = {
+        @Index(name = "idx_process_tracking_inbound_start", columnList = "order_inbound_id, process_start_time"),
+        @Index(name = "idx_process_tracking_status", columnList = "process_status, order_item_routing_id, order_inbound_id")
+})
 @Getter
 @Setter
 public class ProcessTracking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "process_tracking_id")
+    @TableGenerator(name = "process_tracking_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "process_tracking", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -0,0 +1,5 @@
+package com.mes_back.event;
+
+// 수주 입고 LOT 의 수량/누적 출고/삭제/공정 구성 변경 (출고 대상 인덱스 갱신용)
+public record OrderInboundChangedEvent(Long orderInboundId) {
+}
@@ -0,0 +1,20 @@
+package com.mes_back.event;
+
+import com.mes_back.entity.ProcessTracking;
+
+import java.time.LocalDateTime;
+
+// 공정 단계 상태 변경 (커밋 후 변경 피드로 전달)
+public record ProcessStatusChangedEvent(Long orderInboundId,
+                                        Long processTrackingId,
+                                        Integer processStatus,
+                                        LocalDateTime processStartTime) {
+
+    public static ProcessStatusChangedEvent of(ProcessTracking pt) {
+        return new ProcessStatusChangedEvent(
+                pt.getOrderInbound().getOrderInboundId(),
+                pt.getId(),
+                pt.getProcessStatus(),
+                pt.getProcessStartTime());
+    }
+}
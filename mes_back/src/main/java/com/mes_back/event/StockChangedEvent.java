@@ -0,0 +1,8 @@
+package com.mes_back.event;
+
+// 원자재 재고 증감 (입고 LOT 단위 delta, 커밋 후 변경 피드로 전달)
+public record StockChangedEvent(Long materialInboundId,
+                                Long materialItemId,
+                                String itemCode,
+                                long delta) {
+}
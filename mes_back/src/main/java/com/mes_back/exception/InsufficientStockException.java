@@ -0,0 +1,20 @@
+package com.mes_back.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 원자재 재고 부족 (동시 출고로 잔량이 먼저 소진된 경우 포함) → 409
+@Getter
+@ResponseStatus(value = HttpStatus.CONFLICT, reason = "재고 수량이 부족합니다.")
+public class InsufficientStockException extends RuntimeException {
+
+    private final Long materialInboundId;
+    private final long requestedQty;
+
+    public InsufficientStockException(Long materialInboundId, long requestedQty) {
+        super("재고 수량이 부족합니다. materialInboundId=" + materialInboundId + ", 요청 수량=" + requestedQty);
+        this.materialInboundId = materialInboundId;
+        this.requestedQty = requestedQty;
+    }
+}
@@ -0,0 +1,13 @@
+package com.mes_back.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 페이지 커서 형식 오류 (클라이언트가 넘긴 값) → 400
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "잘못된 커서 값입니다.")
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("잘못된 커서 값입니다: " + cursor, cause);
+    }
+}
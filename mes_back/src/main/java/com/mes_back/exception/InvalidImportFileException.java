@@ -0,0 +1,23 @@
+package com.mes_back.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 업로드 파일 자체를 읽을 수 없음 (지원하지 않는 형식, 헤더/필수 컬럼 누락, 손상된 엑셀) → 400
+@Getter
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "업로드 파일 형식이 올바르지 않습니다.")
+public class InvalidImportFileException extends IllegalArgumentException {
+
+    private final int line; // 문제가 된 행 번호 (파일 단위 오류는 0)
+
+    public InvalidImportFileException(int line, String message) {
+        super(message);
+        this.line = line;
+    }
+
+    public InvalidImportFileException(String message, Throwable cause) {
+        super(message, cause);
+        this.line = 0;
+    }
+}
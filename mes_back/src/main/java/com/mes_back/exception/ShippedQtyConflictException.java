@@ -0,0 +1,20 @@
+package com.mes_back.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 누적 출고수량 조건부 UPDATE 거부 (동시 출고로 잔여 수량이 먼저 소진된 경우 포함) → 409
+@Getter
+@ResponseStatus(value = HttpStatus.CONFLICT, reason = "출고 가능 수량을 벗어났습니다.")
+public class ShippedQtyConflictException extends RuntimeException {
+
+    private final Long orderInboundId;
+    private final long delta;
+
+    public ShippedQtyConflictException(Long orderInboundId, long delta, String message) {
+        super(message + " orderInboundId=" + orderInboundId + ", 증감 수량=" + delta);
+        this.orderInboundId = orderInboundId;
+        this.delta = delta;
+    }
+}
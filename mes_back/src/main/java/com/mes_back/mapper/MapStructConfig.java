@@ -0,0 +1,9 @@
+package com.mes_back.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+// 공통 매퍼 설정: 스프링 빈으로 등록, 매핑되지 않은 대상 필드가 있으면 컴파일 에러
+@MapperConfig(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface MapStructConfig {
+}
@@ -0,0 +1,29 @@
+package com.mes_back.mapper;
+
+import com.mes_back.dto.MaterialItemDTO;
+import com.mes_back.dto.MaterialItemRequestDTO;
+import com.mes_back.entity.MaterialItem;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+// 원자재 품목 Entity ↔ DTO 변환 (컴파일 시 구현체 생성)
+@Mapper(config = MapStructConfig.class)
+public interface MaterialItemMapper {
+
+    @Mapping(target = "companyId", source = "company.companyId")
+    MaterialItemDTO toDto(MaterialItem materialItem);
+
+    @Mapping(target = "companyName", source = "company.companyName")
+    MaterialItemRequestDTO toRequestDto(MaterialItem materialItem);
+
+    // 등록용: 업체는 서비스에서 업체명으로 조회해 설정
+    @Mapping(target = "materialItemId", ignore = true)
+    @Mapping(target = "company", ignore = true)
+    MaterialItem toEntity(MaterialItemRequestDTO requestDTO);
+
+    // 수정용: 식별자/업체를 제외한 필드 덮어쓰기
+    @Mapping(target = "materialItemId", ignore = true)
+    @Mapping(target = "company", ignore = true)
+    void updateEntity(MaterialItemRequestDTO requestDTO, @MappingTarget MaterialItem materialItem);
+}
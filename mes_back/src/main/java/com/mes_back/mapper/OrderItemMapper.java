@@ -0,0 +1,44 @@
+package com.mes_back.mapper;
+
+import com.mes_back.dto.OrderItemDTO;
+import com.mes_back.dto.OrderItemImgDTO;
+import com.mes_back.dto.OrderItemRequestDTO;
+import com.mes_back.dto.OrderItemRoutingDTO;
+import com.mes_back.entity.OrderItem;
+import com.mes_back.entity.OrderItemImg;
+import com.mes_back.entity.OrderItemRouting;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+// 수주 품목 Entity ↔ DTO 변환 (컴파일 시 구현체 생성)
+@Mapper(config = MapStructConfig.class)
+public interface OrderItemMapper {
+
+    @Mapping(target = "companyId", source = "company.companyId")
+    OrderItemDTO toDto(OrderItem orderItem);
+
+    // 화면용: 거래상태는 업체 기준, 라우팅/이미지는 서비스에서 채움
+    @Mapping(target = "companyName", source = "company.companyName")
+    @Mapping(target = "status", source = "company.status")
+    @Mapping(target = "routing", ignore = true)
+    @Mapping(target = "image", ignore = true)
+    OrderItemRequestDTO toRequestDto(OrderItem orderItem);
+
+    // 등록용: 업체/거래상태/연관 컬렉션은 서비스에서 설정
+    @Mapping(target = "orderItemId", ignore = true)
+    @Mapping(target = "company", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "images", ignore = true)
+    @Mapping(target = "routings", ignore = true)
+    @Mapping(target = "inbounds", ignore = true)
+    OrderItem toEntity(OrderItemRequestDTO requestDTO);
+
+    // 파생본 URL 은 저장 경로 규칙을 아는 서비스에서 채움
+    @Mapping(target = "orderItemId", source = "orderItem.orderItemId")
+    @Mapping(target = "thumbUrl", ignore = true)
+    @Mapping(target = "mediumUrl", ignore = true)
+    OrderItemImgDTO toImgDto(OrderItemImg orderItemImg);
+
+    // routingId/processCode 등은 OrderItemRouting 의 헬퍼 getter 로 매핑
+    OrderItemRoutingDTO toRoutingDto(OrderItemRouting orderItemRouting);
+}
@@ -8,7 +8,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface MasterDataOrderItemsRepository extends JpaRepository<OrderItem, Long> {
+public interface MasterDataOrderItemsRepository extends JpaRepository<OrderItem, Long>, MasterDataOrderItemsRepositoryCustom {
 
     @Query("SELECT o FROM OrderItem o " +
             "LEFT JOIN FETCH o.images " +
@@ -32,6 +32,6 @@ public interface MasterDataOrderItemsRepository extends JpaRepository<OrderItem,
     List<OrderItem> findByCompanyStatus(@Param("status") String status);
 
     // 거래중인 업체의 OrderItem만 조회
-    @Query("SELECT oi FROM OrderItem oi WHERE oi.company.status = 'Y' AND oi.company.deletedAt IS NULL")
+    @Query("SELECT oi FROM OrderItem oi WHERE oi.company.status = 'Y' AND oi.company.active = true")
     List<OrderItem> findAllActive();
 }
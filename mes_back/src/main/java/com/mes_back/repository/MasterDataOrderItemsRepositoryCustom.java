@@ -0,0 +1,16 @@
+package com.mes_back.repository;
+
+import com.mes_back.dto.OrderItemImgDTO;
+import com.mes_back.dto.OrderItemRequestDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MasterDataOrderItemsRepositoryCustom {
+
+    // 품목 목록 화면용 프로젝션 (업체명/거래상태 포함, 엔티티 그래프 로딩 없음)
+    List<OrderItemRequestDTO> findAllForList();
+
+    // 여러 품목의 이미지를 한 번에 조회 (품목별 대표 이미지가 먼저 오도록 정렬)
+    List<OrderItemImgDTO> findImagesByOrderItemIds(Collection<Long> orderItemIds);
+}
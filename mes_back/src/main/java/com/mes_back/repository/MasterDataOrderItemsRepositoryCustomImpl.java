@@ -0,0 +1,76 @@
+package com.mes_back.repository;
+
+import com.mes_back.dto.OrderItemImgDTO;
+import com.mes_back.dto.OrderItemRequestDTO;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.mes_back.entity.QCompany.company;
+import static com.mes_back.entity.QOrderItem.orderItem;
+import static com.mes_back.entity.QOrderItemImg.orderItemImg;
+
+@RequiredArgsConstructor
+public class MasterDataOrderItemsRepositoryCustomImpl implements MasterDataOrderItemsRepositoryCustom {
+
+    // IN 절 하나에 넣을 최대 id 개수
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<OrderItemRequestDTO> findAllForList() {
+        return queryFactory
+                .select(Projections.fields(OrderItemRequestDTO.class,
+                        orderItem.orderItemId,
+                        company.companyName,
+                        orderItem.itemName,
+                        orderItem.itemCode,
+                        orderItem.category,
+                        orderItem.color,
+                        orderItem.unitPrice,
+                        orderItem.paintType,
+                        orderItem.note,
+                        orderItem.useYn,
+                        company.status.as("status") // 거래상태는 업체 기준
+                ))
+                .from(orderItem)
+                .join(orderItem.company, company)
+                .orderBy(orderItem.orderItemId.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<OrderItemImgDTO> findImagesByOrderItemIds(Collection<Long> orderItemIds) {
+        List<Long> ids = new ArrayList<>(orderItemIds);
+        List<OrderItemImgDTO> result = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            result.addAll(queryFactory
+                    .select(Projections.fields(OrderItemImgDTO.class,
+                            orderItemImg.orderItemImgId,
+                            orderItemImg.orderItem.orderItemId.as("orderItemId"),
+                            orderItemImg.imgUrl,
+                            orderItemImg.imgOriName,
+                            orderItemImg.imgName,
+                            orderItemImg.regYn
+                    ))
+                    .from(orderItemImg)
+                    .where(orderItemImg.orderItem.orderItemId.in(chunk))
+                    .orderBy(
+                            orderItemImg.orderItem.orderItemId.asc(),
+                            // 대표 이미지(reg_yn = 'Y')를 맨 앞으로
+                            new CaseBuilder().when(orderItemImg.regYn.equalsIgnoreCase("Y")).then(0).otherwise(1).asc(),
+                            orderItemImg.orderItemImgId.asc()
+                    )
+                    .fetch());
+        }
+        return result;
+    }
+}
@@ -1,11 +1,17 @@
 package com.mes_back.repository;
 
 import com.mes_back.entity.MaterialItem;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface MasterDataRawItemsRepository extends JpaRepository<MaterialItem, Long> {
 
+    // 목록 조회 시 업체를 함께 조회 (품목별 업체 단건 조회 방지)
+    @Override
+    @EntityGraph(attributePaths = "company")
+    List<MaterialItem> findAll();
+
 //    List<MaterialItem> getMaterialItem();
 }
@@ -8,10 +8,11 @@ import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 import java.util.List;
 
-public interface MaterialInboundRepository extends JpaRepository<MaterialInbound, Long> {
+public interface MaterialInboundRepository extends JpaRepository<MaterialInbound, Long>, MaterialInboundRepositoryCustom {
 
-    @Query(value = "SELECT MAX(inbound_no) FROM material_inbound WHERE inbound_no LIKE :prefix%", nativeQuery = true)
+    // 채번 카운터 초기값 산정용
+    @Query(value = "SELECT MAX(inbound_no) FROM material_inbound WHERE inbound_no LIKE CONCAT(:prefix, '%')", nativeQuery = true)
     Optional<String> findMaxInboundNoNative(@Param("prefix") String prefix);
 
-    List<MaterialInbound> findAllByDeletedAtIsNull();
+    List<MaterialInbound> findAllByActiveTrue();
 }
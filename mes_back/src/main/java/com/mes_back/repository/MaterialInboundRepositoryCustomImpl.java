@@ -0,0 +1,83 @@
+package com.mes_back.repository;
+
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.MaterialInboundDTO;
+import com.mes_back.dto.PageCursor;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.mes_back.entity.QMaterialInbound.materialInbound;
+
+@RequiredArgsConstructor
+public class MaterialInboundRepositoryCustomImpl implements MaterialInboundRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<MaterialInboundDTO> findHistoryPage(HistorySearchDTO search, PageCursor cursor, int limit) {
+        return historyQuery(search)
+                .where(QuerydslPredicates.keysetBefore(materialInbound.inboundDate, materialInbound.id, cursor))
+                .orderBy(QuerydslPredicates.latestFirst(materialInbound.inboundDate, materialInbound.id))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Stream<MaterialInboundDTO> streamHistory(HistorySearchDTO search) {
+        return historyQuery(search)
+                .orderBy(QuerydslPredicates.latestFirst(materialInbound.inboundDate, materialInbound.id))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, QuerydslPredicates.STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    private JPAQuery<MaterialInboundDTO> historyQuery(HistorySearchDTO search) {
+        return queryFactory
+                .select(Projections.fields(MaterialInboundDTO.class,
+                        materialInbound.id,
+                        materialInbound.materialItem.materialItemId.as("materialItemId"),
+                        materialInbound.supplierName,
+                        materialInbound.itemName,
+                        materialInbound.itemCode,
+                        materialInbound.specQty,
+                        materialInbound.specUnit,
+                        materialInbound.manufacturer,
+                        materialInbound.manufacteDate,
+                        materialInbound.qty,
+                        materialInbound.inboundDate,
+                        materialInbound.inboundNo,
+                        materialInbound.totalQty
+                ))
+                .from(materialInbound)
+                .where(historyCondition(search));
+    }
+
+    @Override
+    public long countHistory(HistorySearchDTO search, long limit) {
+        return queryFactory
+                .select(materialInbound.id)
+                .from(materialInbound)
+                .where(historyCondition(search))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    // 원자재 입고 이력 화면 검색 조건 (삭제되지 않은 입고 + 검색어)
+    private Predicate[] historyCondition(HistorySearchDTO search) {
+        return new Predicate[]{
+                materialInbound.active.isTrue(),
+                QuerydslPredicates.containsIgnoreCase(materialInbound.supplierName, search.getCustomerName()),
+                QuerydslPredicates.containsIgnoreCase(materialInbound.itemCode, search.getItemCode()),
+                QuerydslPredicates.containsIgnoreCase(materialInbound.itemName, search.getItemName()),
+                QuerydslPredicates.containsIgnoreCase(materialInbound.inboundNo, search.getDocumentNo()),
+                QuerydslPredicates.dateBetween(materialInbound.inboundDate, search.getFromDate(), search.getToDate())
+        };
+    }
+}
@@ -3,5 +3,9 @@ package com.mes_back.repository;
 import com.mes_back.entity.MaterialItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface MaterialItemRepository extends JpaRepository<MaterialItem, Long> {
+
+    Optional<MaterialItem> findFirstByItemCode(String itemCode);
 }
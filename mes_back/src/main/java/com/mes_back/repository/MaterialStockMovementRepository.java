@@ -0,0 +1,50 @@
+package com.mes_back.repository;
+
+import com.mes_back.entity.MaterialStockMovement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MaterialStockMovementRepository extends JpaRepository<MaterialStockMovement, Long> {
+
+    // 품목별 재고 한 행 (기준일 마감 기준)
+    interface ItemStockBalance {
+        Long getMaterialItemId();
+        String getCompanyName();
+        String getItemCode();
+        String getItemName();
+        String getUnit();
+        String getManufacturer();
+        Long getQty();
+        Long getLastMaterialInboundId(); // 기준일까지 입고일이 가장 늦은 LOT (같은 입고일이면 id 큰 쪽)
+    }
+
+    // 기준일(포함) 품목별 재고 = 기준일 이전 가장 최근 스냅샷 + (스냅샷 다음 날 ~ 기준일) 변동분, 품목/업체 정보 포함 한 번에 조회
+    // 스냅샷이 없으면 원장 처음부터 합산, 최근 입고 LOT 은 품목별 (material_item_id, inbound_date, id) 인덱스 역순 1건
+    @Query(value = "SELECT b.material_item_id AS materialItemId, c.company_name AS companyName, mi.item_code AS itemCode, " +
+            "       mi.item_name AS itemName, mi.spec_unit AS unit, mi.manufacturer AS manufacturer, b.qty AS qty, " +
+            "       (SELECT i.id FROM material_inbound i " +
+            "        WHERE i.material_item_id = b.material_item_id AND i.inbound_date <= :date " +
+            "        ORDER BY i.inbound_date DESC, i.id DESC LIMIT 1) AS lastMaterialInboundId " +
+            "FROM (" +
+            "    SELECT t.material_item_id, SUM(t.qty) AS qty " +
+            "    FROM (" +
+            "        SELECT s.material_item_id, s.qty " +
+            "        FROM material_stock_snapshot s " +
+            "        WHERE s.snapshot_date = (SELECT MAX(s2.snapshot_date) FROM material_stock_snapshot s2 WHERE s2.snapshot_date <= :date) " +
+            "        UNION ALL " +
+            "        SELECT m.material_item_id, m.delta " +
+            "        FROM material_stock_movement m " +
+            "        WHERE m.movement_date > COALESCE((SELECT MAX(s3.snapshot_date) FROM material_stock_snapshot s3 WHERE s3.snapshot_date <= :date), DATE '1000-01-01') " +
+            "          AND m.movement_date <= :date" +
+            "    ) t " +
+            "    GROUP BY t.material_item_id" +
+            ") b " +
+            "JOIN material_item mi ON mi.material_item_id = b.material_item_id " +
+            "JOIN company c ON c.company_id = mi.company_id " +
+            "ORDER BY mi.item_code", nativeQuery = true)
+    List<ItemStockBalance> findBalancesAsOf(@Param("date") LocalDate date);
+}
@@ -4,9 +4,25 @@ import com.mes_back.entity.MaterialInbound;
 import com.mes_back.entity.MaterialItem;
 import com.mes_back.entity.MaterialStock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface MaterialStockRepository extends JpaRepository<MaterialStock, Long> {
+public interface MaterialStockRepository extends JpaRepository<MaterialStock, Long>, MaterialStockRepositoryCustom {
     Optional<MaterialStock> findByMaterialInbound(MaterialInbound materialInbound);
+
+    boolean existsByMaterialInbound_Id(Long materialInboundId);
+
+    // 재고 차감: 잔량 확인과 차감을 한 문장으로 처리 (잔량 부족 시 0건 반영)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MaterialStock ms SET ms.totalQty = ms.totalQty - :qty " +
+            "WHERE ms.materialInbound.id = :materialInboundId AND ms.totalQty >= :qty")
+    int decreaseTotalQty(@Param("materialInboundId") Long materialInboundId, @Param("qty") long qty);
+
+    // 재고 복원
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MaterialStock ms SET ms.totalQty = ms.totalQty + :qty WHERE ms.materialInbound.id = :materialInboundId")
+    int increaseTotalQty(@Param("materialInboundId") Long materialInboundId, @Param("qty") long qty);
 }
\ No newline at end of file
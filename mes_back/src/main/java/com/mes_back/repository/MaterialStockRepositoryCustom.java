@@ -0,0 +1,12 @@
+package com.mes_back.repository;
+
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.MaterialStockDTO;
+
+import java.util.stream.Stream;
+
+public interface MaterialStockRepositoryCustom {
+
+    // 엑셀/CSV 다운로드용 입고 LOT별 재고 스트리밍 조회 (업체명/품목코드/품목명 검색)
+    Stream<MaterialStockDTO> streamStock(HistorySearchDTO search);
+}
@@ -0,0 +1,48 @@
+package com.mes_back.repository;
+
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.MaterialStockDTO;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+import static com.mes_back.entity.QCompany.company;
+import static com.mes_back.entity.QMaterialInbound.materialInbound;
+import static com.mes_back.entity.QMaterialItem.materialItem;
+import static com.mes_back.entity.QMaterialStock.materialStock;
+
+@RequiredArgsConstructor
+public class MaterialStockRepositoryCustomImpl implements MaterialStockRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Stream<MaterialStockDTO> streamStock(HistorySearchDTO search) {
+        return queryFactory
+                .select(Projections.fields(MaterialStockDTO.class,
+                        materialStock.id,
+                        company.companyName,
+                        materialItem.itemCode,
+                        materialInbound.itemName,
+                        materialStock.totalQty,
+                        materialStock.unit,
+                        materialInbound.manufacturer,
+                        materialInbound.id.as("materialInboundId")
+                ))
+                .from(materialStock)
+                .join(materialStock.materialInbound, materialInbound)
+                .join(materialInbound.materialItem, materialItem)
+                .join(materialItem.company, company)
+                .where(
+                        QuerydslPredicates.containsIgnoreCase(company.companyName, search.getCustomerName()),
+                        QuerydslPredicates.containsIgnoreCase(materialItem.itemCode, search.getItemCode()),
+                        QuerydslPredicates.containsIgnoreCase(materialInbound.itemName, search.getItemName())
+                )
+                .orderBy(materialItem.itemCode.asc(), materialInbound.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, QuerydslPredicates.STREAM_FETCH_SIZE)
+                .stream();
+    }
+}
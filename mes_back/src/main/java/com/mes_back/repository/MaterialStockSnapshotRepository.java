@@ -0,0 +1,16 @@
+package com.mes_back.repository;
+
+import com.mes_back.entity.MaterialStockSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface MaterialStockSnapshotRepository extends JpaRepository<MaterialStockSnapshot, Long> {
+
+    // date 이전(포함) 가장 최근 마감일
+    @Query("SELECT MAX(s.snapshotDate) FROM MaterialStockSnapshot s WHERE s.snapshotDate <= :date")
+    Optional<LocalDate> findLatestSnapshotDate(@Param("date") LocalDate date);
+}
@@ -2,12 +2,31 @@ package com.mes_back.repository;
 
 import com.mes_back.entity.OrderInbound;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface OrderInboundRepository extends JpaRepository<OrderInbound, Long>, OrderInboundRepositoryCustom {
 
-    List<OrderInbound> findByDeletedAtIsNull();
+    List<OrderInbound> findByActiveTrue();
+
+    // 누적 출고수량 원자적 증감 (0 <= shipped + delta <= qty 일 때만 반영) → 반영된 행 수 반환
+    // 영속성 컨텍스트를 비우므로 호출 후 입고 엔티티는 다시 조회해서 사용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderInbound oi SET oi.shippedQty = oi.shippedQty + :delta " +
+            "WHERE oi.orderInboundId = :orderInboundId " +
+            "AND oi.shippedQty + :delta <= oi.qty AND oi.shippedQty + :delta >= 0")
+    int addShippedQty(@Param("orderInboundId") Long orderInboundId, @Param("delta") long delta);
+
+    // 입고 수량/일자 수정 (누적 출고수량 이상일 때만 반영) → 반영된 행 수 반환
+    // 출고수량을 읽고 비교하는 사이에 출고가 커밋돼도 DB 의 현재 값 기준으로 판단한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderInbound oi SET oi.qty = :qty, oi.inboundDate = :inboundDate " +
+            "WHERE oi.orderInboundId = :orderInboundId AND oi.shippedQty <= :qty")
+    int updateQtyAndInboundDate(@Param("orderInboundId") Long orderInboundId, @Param("qty") long qty,
+                                @Param("inboundDate") LocalDate inboundDate);
 
 }
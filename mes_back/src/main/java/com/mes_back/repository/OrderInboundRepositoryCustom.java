@@ -1,12 +1,28 @@
 package com.mes_back.repository;
 
+import com.mes_back.dto.HistorySearchDTO;
 import com.mes_back.dto.OrderInboundDTO;
+import com.mes_back.dto.PageCursor;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderInboundRepositoryCustom {
     List<OrderInboundDTO> findInboundHistoriesForOutbound();
 
-    // LOT번호 생성용: 오늘 날짜 기준 가장 큰 LOT번호 조회
+    // 출고 대상 인덱스 갱신용: 지정한 LOT 중 출고 대상인 것만
+    List<OrderInboundDTO> findOutboundCandidatesByIds(Collection<Long> orderInboundIds);
+
+    // 채번 카운터 초기값 산정용: 해당 날짜 기준 가장 큰 LOT번호 조회
     String findLastLotNoByInboundDate(String datePrefix);
+
+    // 입고 이력 키셋 페이지 조회 (입고일자 DESC, id DESC)
+    List<OrderInboundDTO> findHistoryPage(HistorySearchDTO search, PageCursor cursor, int limit);
+
+    // 검색 결과 건수 (limit 건을 찾으면 멈춤)
+    long countHistory(HistorySearchDTO search, long limit);
+
+    // 엑셀/CSV 다운로드용 스트리밍 조회 (트랜잭션 안에서 소비 후 close 필요)
+    Stream<OrderInboundDTO> streamHistory(HistorySearchDTO search);
 }
\ No newline at end of file
@@ -1,16 +1,22 @@
 package com.mes_back.repository;
 
+import com.mes_back.dto.HistorySearchDTO;
 import com.mes_back.dto.OrderInboundDTO;
+import com.mes_back.dto.PageCursor;
 import com.mes_back.entity.QProcessTracking;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.mes_back.entity.QOrderInbound.orderInbound;
-import static com.mes_back.entity.QOrderOutbound.orderOutbound;
 import static com.mes_back.entity.QProcessTracking.processTracking;
 
 @RequiredArgsConstructor
@@ -20,6 +26,17 @@ public class OrderInboundRepositoryCustomImpl implements OrderInboundRepositoryC
 
     @Override
     public List<OrderInboundDTO> findInboundHistoriesForOutbound() {
+        return outboundCandidateQuery().fetch();
+    }
+
+    @Override
+    public List<OrderInboundDTO> findOutboundCandidatesByIds(Collection<Long> orderInboundIds) {
+        return outboundCandidateQuery()
+                .where(orderInbound.orderInboundId.in(orderInboundIds))
+                .fetch();
+    }
+
+    private JPAQuery<OrderInboundDTO> outboundCandidateQuery() {
         // 각 수주(inbound)에서 가장 최근에 시작된 공정이 완료(status=2)되었는지 확인하는 로직
         QProcessTracking ptSub = new QProcessTracking("ptSub");
 
@@ -31,11 +48,7 @@ public class OrderInboundRepositoryCustomImpl implements OrderInboundRepositoryC
                         orderInbound.itemName,
                         orderInbound.itemCode,
                         orderInbound.inboundDate,
-                        orderInbound.qty.subtract(
-                                JPAExpressions.select(orderOutbound.qty.sum().coalesce(0L))
-                                        .from(orderOutbound)
-                                        .where(orderOutbound.orderInbound.eq(orderInbound))
-                        ),
+                        orderInbound.qty.subtract(orderInbound.shippedQty), // 잔여수량
                         orderInbound.category,
                         processTracking.processStatus
                 ))
@@ -51,10 +64,9 @@ public class OrderInboundRepositoryCustomImpl implements OrderInboundRepositoryC
                         // 2. 그리고 그 공정의 상태가 '완료'인지 확인
                         processTracking.processStatus.eq(2),
                         // 3. 삭제되지 않은 수주 정보만 조회
-                        orderInbound.deletedAt.isNull()
+                        orderInbound.active.isTrue()
                 )
-                .groupBy(orderInbound.orderInboundId, orderInbound.lotNo, orderInbound.company.companyName, orderInbound.itemName, orderInbound.itemCode, orderInbound.inboundDate, orderInbound.qty, orderInbound.category, processTracking.processStatus) // 중복 방지
-                .fetch();
+                .groupBy(orderInbound.orderInboundId, orderInbound.lotNo, orderInbound.company.companyName, orderInbound.itemName, orderInbound.itemCode, orderInbound.inboundDate, orderInbound.qty, orderInbound.shippedQty, orderInbound.category, processTracking.processStatus); // 중복 방지
     }
 
     @Override
@@ -67,4 +79,63 @@ public class OrderInboundRepositoryCustomImpl implements OrderInboundRepositoryC
                 .limit(1)
                 .fetchOne();
     }
+
+    @Override
+    public List<OrderInboundDTO> findHistoryPage(HistorySearchDTO search, PageCursor cursor, int limit) {
+        return historyQuery(search)
+                .where(QuerydslPredicates.keysetBefore(orderInbound.inboundDate, orderInbound.orderInboundId, cursor))
+                .orderBy(QuerydslPredicates.latestFirst(orderInbound.inboundDate, orderInbound.orderInboundId))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Stream<OrderInboundDTO> streamHistory(HistorySearchDTO search) {
+        return historyQuery(search)
+                .orderBy(QuerydslPredicates.latestFirst(orderInbound.inboundDate, orderInbound.orderInboundId))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, QuerydslPredicates.STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    private JPAQuery<OrderInboundDTO> historyQuery(HistorySearchDTO search) {
+        return queryFactory
+                .select(Projections.fields(OrderInboundDTO.class,
+                        orderInbound.orderInboundId,
+                        orderInbound.orderItem.orderItemId.as("orderItemId"),
+                        orderInbound.customerName,
+                        orderInbound.itemName,
+                        orderInbound.itemCode,
+                        orderInbound.qty,
+                        orderInbound.category,
+                        orderInbound.note,
+                        orderInbound.inboundDate,
+                        orderInbound.lotNo,
+                        orderInbound.paintType
+                ))
+                .from(orderInbound)
+                .where(historyCondition(search));
+    }
+
+    @Override
+    public long countHistory(HistorySearchDTO search, long limit) {
+        return queryFactory
+                .select(orderInbound.orderInboundId)
+                .from(orderInbound)
+                .where(historyCondition(search))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    // 입고 이력 화면 검색 조건 (삭제되지 않은 입고 + 검색어)
+    private Predicate[] historyCondition(HistorySearchDTO search) {
+        return new Predicate[]{
+                orderInbound.active.isTrue(),
+                QuerydslPredicates.containsIgnoreCase(orderInbound.customerName, search.getCustomerName()),
+                QuerydslPredicates.containsIgnoreCase(orderInbound.itemCode, search.getItemCode()),
+                QuerydslPredicates.containsIgnoreCase(orderInbound.itemName, search.getItemName()),
+                QuerydslPredicates.containsIgnoreCase(orderInbound.lotNo, search.getDocumentNo()),
+                QuerydslPredicates.dateBetween(orderInbound.inboundDate, search.getFromDate(), search.getToDate())
+        };
+    }
 }
@@ -2,6 +2,15 @@ package com.mes_back.repository;
 
 import com.mes_back.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem,Long> {
+
+    // 일괄 입고 검증용 - 품목 + 업체를 한 번에 조회 (업체 EAGER 로딩 추가 select 방지)
+    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.company WHERE oi.orderItemId IN :ids")
+    List<OrderItem> findAllWithCompanyByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,6 +2,7 @@ package com.mes_back.repository;
 
 import com.mes_back.entity.OrderItem;
 import com.mes_back.entity.OrderItemRouting;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +10,8 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface OrderItemRoutingRepository extends JpaRepository<OrderItemRouting, Long> {
+    // 공정 마스터(routing)를 함께 조회 → DTO 변환 시 추가 쿼리 없음
+    @EntityGraph(attributePaths = "routing")
     List<OrderItemRouting> findByOrderItem(OrderItem orderItem);
 
     // ⭐ OrderInbound ID로 OrderItemRouting 조회 (JPQL 사용)
@@ -1,8 +1,8 @@
 package com.mes_back.repository;
 
-import com.mes_back.entity.OrderInbound;
 import com.mes_back.entity.OrderOutbound;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -11,14 +11,16 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface OrderOutboundRepository extends JpaRepository<OrderOutbound, Long> {
-    // 오늘 날짜 (prefix)에 해당하는 출고번호 중 가장 큰 번호 조회 (네이티브 쿼리 사용)
+public interface OrderOutboundRepository extends JpaRepository<OrderOutbound, Long>, OrderOutboundRepositoryCustom {
+
+    // 출고 목록 DTO 변환 시 입고/품목을 건별로 다시 읽지 않도록 함께 조회 (N+1 방지)
+    @Override
+    @EntityGraph(attributePaths = {"orderInbound", "orderInbound.orderItem", "orderInbound.orderItem.company"})
+    List<OrderOutbound> findAll();
+
+    // 채번 카운터 초기값 산정용: prefix에 해당하는 출고번호 중 가장 큰 번호 조회 (네이티브 쿼리 사용)
     @Query(value = "SELECT oo.outbound_no FROM order_outbound oo WHERE oo.outbound_no LIKE CONCAT(:prefix, '%') ORDER BY oo.outbound_no DESC LIMIT 1", nativeQuery = true)
     Optional<String> findMaxOutboundNoNative(@Param("prefix") String prefix);
 
-    // 특정 OrderInbound에 대한 총 출고 수량 합산
-    @Query("SELECT SUM(oo.qty) FROM OrderOutbound oo WHERE oo.orderInbound = :orderInbound")
-    Optional<Long> sumOutboundQtyByOrderInbound(@Param("orderInbound") OrderInbound orderInbound);
-
     List<OrderOutbound> findByOrderInbound_OrderInboundId(Long orderInboundId);
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.mes_back.repository;
+
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.OrderOutboundDto;
+import com.mes_back.dto.PageCursor;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.mes_back.entity.QOrderInbound.orderInbound;
+import static com.mes_back.entity.QOrderItem.orderItem;
+import static com.mes_back.entity.QOrderOutbound.orderOutbound;
+
+@RequiredArgsConstructor
+public class OrderOutboundRepositoryCustomImpl implements OrderOutboundRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<OrderOutboundDto> findHistoryPage(HistorySearchDTO search, PageCursor cursor, int limit) {
+        List<Tuple> rows = queryFactory
+                .select(orderOutbound.id,
+                        orderInbound.orderInboundId,
+                        orderOutbound.customerName,
+                        orderOutbound.itemName,
+                        orderOutbound.itemCode,
+                        orderOutbound.qty,
+                        orderOutbound.category,
+                        orderOutbound.outboundNo,
+                        orderOutbound.outboundDate,
+                        orderInbound.inboundDate,
+                        orderInbound.qty,
+                        orderInbound.shippedQty,
+                        orderItem.color)
+                .from(orderOutbound)
+                .join(orderOutbound.orderInbound, orderInbound)
+                .join(orderInbound.orderItem, orderItem)
+                .where(historyCondition(search))
+                .where(QuerydslPredicates.keysetBefore(orderOutbound.outboundDate, orderOutbound.id, cursor))
+                .orderBy(QuerydslPredicates.latestFirst(orderOutbound.outboundDate, orderOutbound.id))
+                .limit(limit)
+                .fetch();
+
+        return rows.stream()
+                .map(t -> {
+                    Long inboundQty = t.get(orderInbound.qty);
+                    Long shipped = t.get(orderInbound.shippedQty);
+                    return OrderOutboundDto.builder()
+                            .id(t.get(orderOutbound.id))
+                            .orderInboundId(t.get(orderInbound.orderInboundId))
+                            .customerName(t.get(orderOutbound.customerName))
+                            .itemName(t.get(orderOutbound.itemName))
+                            .itemCode(t.get(orderOutbound.itemCode))
+                            .qty(t.get(orderOutbound.qty))
+                            .category(t.get(orderOutbound.category))
+                            .outboundNo(t.get(orderOutbound.outboundNo))
+                            .outboundDate(t.get(orderOutbound.outboundDate))
+                            .inboundDate(t.get(orderInbound.inboundDate))
+                            .color(t.get(orderItem.color))
+                            .remainingQuantity(inboundQty - shipped)
+                            .maxUpdatableQty(inboundQty - (shipped - t.get(orderOutbound.qty)))
+                            .build();
+                })
+                .toList();
+    }
+
+    @Override
+    public Stream<OrderOutboundDto> streamHistory(HistorySearchDTO search) {
+        return queryFactory
+                .select(Projections.fields(OrderOutboundDto.class,
+                        orderOutbound.id,
+                        orderInbound.orderInboundId,
+                        orderOutbound.customerName,
+                        orderOutbound.itemName,
+                        orderOutbound.itemCode,
+                        orderOutbound.qty,
+                        orderOutbound.category,
+                        orderOutbound.outboundNo,
+                        orderOutbound.outboundDate,
+                        orderInbound.inboundDate,
+                        orderItem.color
+                ))
+                .from(orderOutbound)
+                .join(orderOutbound.orderInbound, orderInbound)
+                .join(orderInbound.orderItem, orderItem)
+                .where(historyCondition(search))
+                .orderBy(QuerydslPredicates.latestFirst(orderOutbound.outboundDate, orderOutbound.id))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, QuerydslPredicates.STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    @Override
+    public long countHistory(HistorySearchDTO search, long limit) {
+        return queryFactory
+                .select(orderOutbound.id)
+                .from(orderOutbound)
+                .where(historyCondition(search))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    // 출고 이력 화면 검색 조건 (삭제 필터는 엔티티 @Where 로 적용됨)
+    private Predicate[] historyCondition(HistorySearchDTO search) {
+        return new Predicate[]{
+                QuerydslPredicates.containsIgnoreCase(orderOutbound.customerName, search.getCustomerName()),
+                QuerydslPredicates.containsIgnoreCase(orderOutbound.itemCode, search.getItemCode()),
+                QuerydslPredicates.containsIgnoreCase(orderOutbound.itemName, search.getItemName()),
+                QuerydslPredicates.containsIgnoreCase(orderOutbound.outboundNo, search.getDocumentNo()),
+                QuerydslPredicates.dateBetween(orderOutbound.outboundDate, search.getFromDate(), search.getToDate())
+        };
+    }
+}
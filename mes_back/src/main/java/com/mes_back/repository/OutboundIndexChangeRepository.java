@@ -0,0 +1,28 @@
+package com.mes_back.repository;
+
+import com.mes_back.entity.OutboundIndexChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboundIndexChangeRepository extends JpaRepository<OutboundIndexChange, Long> {
+
+    // 폴링: since 이후(포함) 기록된 변경
+    List<OutboundIndexChange> findByCreatedAtGreaterThanEqual(LocalDateTime since);
+
+    // 기동 시 폴링 시작점
+    @Query("SELECT MAX(c.createdAt) FROM OutboundIndexChange c")
+    Optional<LocalDateTime> findLatestCreatedAt();
+
+    // 보관 기간이 지난 로그 정리 (여러 인스턴스가 실행해도 무방)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboundIndexChange c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
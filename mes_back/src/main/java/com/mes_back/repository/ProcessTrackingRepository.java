@@ -1,11 +1,13 @@
 package com.mes_back.repository;
 
+import com.mes_back.dto.ProcessLoadDTO;
 import com.mes_back.entity.OrderItem;
 import com.mes_back.entity.ProcessTracking;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProcessTrackingRepository extends JpaRepository<ProcessTracking, Long> {
@@ -17,4 +19,22 @@ public interface ProcessTrackingRepository extends JpaRepository<ProcessTracking
             "WHERE pt.orderInbound.orderInboundId = :id")
     List<ProcessTracking> findProcessTrackingWithOrderItem(@Param("id") Long id);
 
+    // 일괄 업데이트용: 요청한 공정들이 속한 LOT 의 전체 공정을 한 번에 조회
+    @Query("SELECT pt FROM ProcessTracking pt " +
+            "JOIN FETCH pt.orderItemRouting r " +
+            "JOIN FETCH r.orderItem oi " +
+            "LEFT JOIN FETCH r.routing " +
+            "WHERE pt.orderInbound.orderInboundId IN (" +
+            "   SELECT p.orderInbound.orderInboundId FROM ProcessTracking p WHERE p.id IN :ids)")
+    List<ProcessTracking> findLotProcessTrackingByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 공정별 진행 중 LOT 수 (삭제된 입고 제외)
+    @Query("SELECT new com.mes_back.dto.ProcessLoadDTO(rt.processCode, rt.processName, COUNT(DISTINCT pt.orderInbound.orderInboundId)) " +
+            "FROM ProcessTracking pt " +
+            "JOIN pt.orderItemRouting r " +
+            "JOIN r.routing rt " +
+            "WHERE pt.processStatus = 1 AND pt.orderInbound.active = true " +
+            "GROUP BY rt.processCode, rt.processName")
+    List<ProcessLoadDTO> countOpenLotsByProcess();
+
 }
@@ -0,0 +1,44 @@
+package com.mes_back.repository;
+
+import com.mes_back.dto.PageCursor;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DatePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+
+import java.time.LocalDate;
+
+// 목록/이력 조회 공통 QueryDSL 조건 (null 반환 시 where 절에서 무시됨)
+final class QuerydslPredicates {
+
+    // 스트리밍 조회 시 한 번에 가져올 행 수 (MySQL 은 useCursorFetch=true 일 때 적용)
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private QuerydslPredicates() {
+    }
+
+    static BooleanExpression containsIgnoreCase(StringPath path, String keyword) {
+        return (keyword == null || keyword.isBlank()) ? null : path.containsIgnoreCase(keyword.trim());
+    }
+
+    static BooleanExpression dateBetween(DatePath<LocalDate> path, LocalDate from, LocalDate to) {
+        if (from != null && to != null) return path.between(from, to);
+        if (from != null) return path.goe(from);
+        if (to != null) return path.loe(to);
+        return null;
+    }
+
+    // (일자 DESC, id DESC) 정렬 기준으로 커서 다음 행부터
+    static BooleanExpression keysetBefore(DatePath<LocalDate> date, NumberPath<Long> id, PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return date.lt(cursor.getDate())
+                .or(date.eq(cursor.getDate()).and(id.lt(cursor.getId())));
+    }
+
+    static OrderSpecifier<?>[] latestFirst(DatePath<LocalDate> date, NumberPath<Long> id) {
+        return new OrderSpecifier<?>[]{date.desc(), id.desc()};
+    }
+}
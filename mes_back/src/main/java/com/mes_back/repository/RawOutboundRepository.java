@@ -5,17 +5,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
-public interface RawOutboundRepository extends JpaRepository<MaterialOutbound, Long> {
+public interface RawOutboundRepository extends JpaRepository<MaterialOutbound, Long>, RawOutboundRepositoryCustom {
 
     @Query("SELECT COUNT(m) FROM MaterialOutbound m " +
             "WHERE m.outboundDate >= :start AND m.outboundDate < :end")
     Long countByDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    @Query("SELECT COUNT(m) FROM MaterialOutbound m " +
-            "WHERE m.outboundDate = :date")
-    Long countByDate(@Param("date") LocalDate date);
+    // 채번 카운터 초기값 산정용: 해당 prefix의 가장 큰 출고번호
+    @Query(value = "SELECT MAX(outbound_no) FROM material_outbound WHERE outbound_no LIKE CONCAT(:prefix, '%')", nativeQuery = true)
+    Optional<String> findMaxOutboundNoNative(@Param("prefix") String prefix);
 
 }
@@ -0,0 +1,20 @@
+package com.mes_back.repository;
+
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.MaterialOutboundDTO;
+import com.mes_back.dto.PageCursor;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface RawOutboundRepositoryCustom {
+
+    // 원자재 출고 이력 키셋 페이지 조회 (출고일자 DESC, id DESC)
+    List<MaterialOutboundDTO> findHistoryPage(HistorySearchDTO search, PageCursor cursor, int limit);
+
+    // 검색 결과 건수 (limit 건을 찾으면 멈춤)
+    long countHistory(HistorySearchDTO search, long limit);
+
+    // 엑셀/CSV 다운로드용 스트리밍 조회 (트랜잭션 안에서 소비 후 close 필요)
+    Stream<MaterialOutboundDTO> streamHistory(HistorySearchDTO search);
+}
@@ -0,0 +1,86 @@
+package com.mes_back.repository;
+
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.MaterialOutboundDTO;
+import com.mes_back.dto.PageCursor;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.mes_back.entity.QMaterialInbound.materialInbound;
+import static com.mes_back.entity.QMaterialItem.materialItem;
+import static com.mes_back.entity.QMaterialOutbound.materialOutbound;
+
+@RequiredArgsConstructor
+public class RawOutboundRepositoryCustomImpl implements RawOutboundRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<MaterialOutboundDTO> findHistoryPage(HistorySearchDTO search, PageCursor cursor, int limit) {
+        return historyQuery(search)
+                .where(QuerydslPredicates.keysetBefore(materialOutbound.outboundDate, materialOutbound.id, cursor))
+                .orderBy(QuerydslPredicates.latestFirst(materialOutbound.outboundDate, materialOutbound.id))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Stream<MaterialOutboundDTO> streamHistory(HistorySearchDTO search) {
+        return historyQuery(search)
+                .orderBy(QuerydslPredicates.latestFirst(materialOutbound.outboundDate, materialOutbound.id))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, QuerydslPredicates.STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    private JPAQuery<MaterialOutboundDTO> historyQuery(HistorySearchDTO search) {
+        return queryFactory
+                .select(Projections.fields(MaterialOutboundDTO.class,
+                        materialOutbound.id,
+                        materialInbound.id.as("materialInboundId"),
+                        materialOutbound.specQty,
+                        materialOutbound.manufacturer,
+                        materialOutbound.qty,
+                        materialInbound.inboundDate,
+                        materialOutbound.outboundNo,
+                        materialOutbound.outboundDate,
+                        materialItem.specUnit.as("unit"),
+                        materialInbound.supplierName.as("companyName"),
+                        materialInbound.itemName,
+                        materialInbound.itemCode
+                ))
+                .from(materialOutbound)
+                .join(materialOutbound.materialInbound, materialInbound)
+                .join(materialInbound.materialItem, materialItem)
+                .where(historyCondition(search));
+    }
+
+    @Override
+    public long countHistory(HistorySearchDTO search, long limit) {
+        return queryFactory
+                .select(materialOutbound.id)
+                .from(materialOutbound)
+                .join(materialOutbound.materialInbound, materialInbound)
+                .where(historyCondition(search))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    // 원자재 출고 이력 화면 검색 조건
+    private Predicate[] historyCondition(HistorySearchDTO search) {
+        return new Predicate[]{
+                QuerydslPredicates.containsIgnoreCase(materialInbound.supplierName, search.getCustomerName()),
+                QuerydslPredicates.containsIgnoreCase(materialInbound.itemCode, search.getItemCode()),
+                QuerydslPredicates.containsIgnoreCase(materialInbound.itemName, search.getItemName()),
+                QuerydslPredicates.containsIgnoreCase(materialOutbound.outboundNo, search.getDocumentNo()),
+                QuerydslPredicates.dateBetween(materialOutbound.outboundDate, search.getFromDate(), search.getToDate())
+        };
+    }
+}
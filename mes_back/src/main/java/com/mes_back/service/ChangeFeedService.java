@@ -0,0 +1,154 @@
+package com.mes_back.service;
+
+import com.mes_back.event.ProcessStatusChangedEvent;
+import com.mes_back.event.StockChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 공정 상태 / 원자재 재고 변경 피드 (SSE).
+ * - 트랜잭션 커밋 후에만 전달 (롤백된 변경은 나가지 않음)
+ * - 구독자마다 고정 크기 큐 + 전송 전용 가상 스레드 → 느린 단말이 발행 쪽을 막지 않음
+ * - 큐가 가득 찬 구독자는 끊고, 단말은 재접속 후 전체 조회로 다시 맞춘다
+ */
+@Service
+@Slf4j
+public class ChangeFeedService {
+
+    public static final String PROCESS_EVENT = "process";
+    public static final String STOCK_EVENT = "stock";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final Duration heartbeat;
+
+    public ChangeFeedService(@Value("${change-feed.queue-capacity:256}") int queueCapacity,
+                             @Value("${change-feed.timeout:30m}") Duration timeout,
+                             @Value("${change-feed.heartbeat:20s}") Duration heartbeat) {
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+    }
+
+    // LOT 지정 시 해당 LOT 만, 없으면 전체 공정 변경
+    public SseEmitter subscribeProcess(Set<Long> orderInboundIds) {
+        return subscribe(event -> event instanceof ProcessStatusChangedEvent e
+                && (orderInboundIds.isEmpty() || orderInboundIds.contains(e.orderInboundId())));
+    }
+
+    // 품목코드 지정 시 해당 품목만, 없으면 전체 재고 변경
+    public SseEmitter subscribeStock(Set<String> itemCodes) {
+        return subscribe(event -> event instanceof StockChangedEvent e
+                && (itemCodes.isEmpty() || itemCodes.contains(e.itemCode())));
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener
+    public void onProcessStatusChanged(ProcessStatusChangedEvent event) {
+        dispatch(PROCESS_EVENT, event);
+    }
+
+    @TransactionalEventListener
+    public void onStockChanged(StockChangedEvent event) {
+        dispatch(STOCK_EVENT, event);
+    }
+
+    private SseEmitter subscribe(Predicate<Object> filter) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, filter, new ArrayBlockingQueue<>(queueCapacity));
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        subscribers.add(subscriber);
+        subscriber.thread = Thread.ofVirtual().name("change-feed-sse").start(subscriber::drain);
+        return emitter;
+    }
+
+    // 발행 스레드는 큐에 넣기만 함 (offer 실패 = 느린 구독자 → 퇴출)
+    private void dispatch(String name, Object payload) {
+        Message message = new Message(name, payload);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter.test(payload) && !subscriber.queue.offer(message)) {
+                log.warn("변경 피드 구독자 큐 초과로 연결 종료 (capacity={})", queueCapacity);
+                subscriber.close();
+            }
+        }
+    }
+
+    private record Message(String name, Object payload) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Predicate<Object> filter;
+        private final BlockingQueue<Message> queue;
+        private volatile boolean closed;
+        private volatile Thread thread;
+
+        private Subscriber(SseEmitter emitter, Predicate<Object> filter, BlockingQueue<Message> queue) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.queue = queue;
+        }
+
+        // 큐 → 단말 전송. 일정 시간 이벤트가 없으면 주석 라인으로 연결 유지
+        private void drain() {
+            try {
+                while (!closed) {
+                    Message message = queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                    if (message == null) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .name(message.name())
+                                .data(message.payload(), MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("변경 피드 전송 실패 (단말 연결 종료)", e);
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+
+            Thread drainThread = thread;
+            if (drainThread != null && drainThread != Thread.currentThread()) {
+                drainThread.interrupt();
+            }
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+                // 이미 완료된 연결
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.mes_back.service;
 
+import com.mes_back.config.CacheConfig;
 import com.mes_back.dto.CompanyDTO;
 import com.mes_back.entity.Company;
 import com.mes_back.repository.CompanyRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +21,7 @@ public class CompanyService {
     private final CompanyRepository companyRepository;
 
     // 회사 등록
+    @CacheEvict(cacheNames = CacheConfig.COMPANY_ACTIVE_LIST, allEntries = true)
     public CompanyDTO addCompany(CompanyDTO companyDto) {
         Company company = Company.builder()
                 .type(companyDto.getType())
@@ -41,7 +45,7 @@ public class CompanyService {
     // 업체 조회 페이지용 (삭제 안된 모든 업체)
     @Transactional(readOnly = true)
     public List<CompanyDTO> findAll() {
-        List<Company> companies = companyRepository.findByDeletedAtIsNull();
+        List<Company> companies = companyRepository.findByActiveTrue();
         return companies.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -49,8 +53,9 @@ public class CompanyService {
 
     // 일반 페이지용 (거래중 & 삭제 안된 업체)
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COMPANY_ACTIVE_LIST, key = "'all'")
     public List<CompanyDTO> findAllActive() {
-        List<Company> companies = companyRepository.findByStatusAndDeletedAtIsNull("Y");
+        List<Company> companies = companyRepository.findByStatusAndActiveTrue("Y");
         return companies.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -59,14 +64,16 @@ public class CompanyService {
     // 삭제된 업체 조회
     @Transactional(readOnly = true)
     public List<CompanyDTO> findAllDeleted() {
-        List<Company> companies = companyRepository.findByDeletedAtIsNotNull();
+        List<Company> companies = companyRepository.findByActiveFalse();
         return companies.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
 
-    // 회사 수정
+    // 회사 수정 (업체 캐시 + 업체를 품고 있는 원자재 품목 캐시 무효화)
+    @CacheEvict(cacheNames = {CacheConfig.COMPANY_BY_NAME, CacheConfig.COMPANY_ACTIVE_LIST, CacheConfig.MATERIAL_ITEM_BY_ID},
+            allEntries = true)
     public CompanyDTO updateCompany(CompanyDTO companyDto) {
         Company company = companyRepository.findById(companyDto.getCompanyId())
                 .orElseThrow(EntityNotFoundException::new);
@@ -75,6 +82,8 @@ public class CompanyService {
     }
 
 
+    @CacheEvict(cacheNames = {CacheConfig.COMPANY_BY_NAME, CacheConfig.COMPANY_ACTIVE_LIST, CacheConfig.MATERIAL_ITEM_BY_ID},
+            allEntries = true)
     public CompanyDTO updateTradeStatus(Long companyId, String status) {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(EntityNotFoundException::new);
@@ -88,6 +97,8 @@ public class CompanyService {
     }
 
     // 회사 삭제 (소프트)
+    @CacheEvict(cacheNames = {CacheConfig.COMPANY_BY_NAME, CacheConfig.COMPANY_ACTIVE_LIST, CacheConfig.MATERIAL_ITEM_BY_ID},
+            allEntries = true)
     public void deleteCompany(Long companyId) {
         if (!companyRepository.existsById(companyId)) {
             throw new EntityNotFoundException("Company not found with id: " + companyId);
@@ -96,6 +107,8 @@ public class CompanyService {
     }
 
     // 회사 복구
+    @CacheEvict(cacheNames = {CacheConfig.COMPANY_BY_NAME, CacheConfig.COMPANY_ACTIVE_LIST, CacheConfig.MATERIAL_ITEM_BY_ID},
+            allEntries = true)
     public void restoreCompany(Long companyId) {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new EntityNotFoundException("Company not found with id: " + companyId));
@@ -0,0 +1,194 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.DocumentType;
+import com.mes_back.repository.MaterialInboundRepository;
+import com.mes_back.repository.OrderInboundRepository;
+import com.mes_back.repository.OrderOutboundRepository;
+import com.mes_back.repository.RawOutboundRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LOT번호 / 입고번호 / 출고번호 채번 서비스.
+ * (prefix, 일자) 별 카운터 행(document_sequence)에서 blockSize 만큼의 번호를 한 번에 잠금 할당받고,
+ * 이후 요청은 메모리에서 바로 발급한다. 여러 인스턴스가 떠 있어도 블록 단위로 나눠 가지므로 중복이 없다.
+ * (인스턴스 재시작 시 남은 블록 번호는 건너뛰므로 번호 사이에 공백이 생길 수 있음)
+ *
+ * 카운터 행은 업무 트랜잭션과 분리된 전용 소형 커넥션 풀(pool-size)에서 잠그고 바로 커밋한다.
+ * 호출하는 쪽은 이미 메인 풀 커넥션을 잡고 있으므로, 메인 풀에서 커넥션을 하나 더 빌리면(REQUIRES_NEW)
+ * 블록 경계에 동시에 걸린 요청들이 풀을 다 잡은 채 서로 기다리다 connection-timeout 까지 멈출 수 있다.
+ * 전용 풀의 커넥션은 메인 풀을 기다리지 않으므로 이런 순환 대기가 생기지 않는다.
+ */
+@Service
+@Slf4j
+public class DocumentNumberService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int MAX_INSERT_RETRIES = 3;
+
+    private final OrderInboundRepository orderInboundRepository;
+    private final MaterialInboundRepository materialInboundRepository;
+    private final OrderOutboundRepository orderOutboundRepository;
+    private final RawOutboundRepository rawOutboundRepository;
+    private final HikariDataSource sequenceDataSource;
+    private final JdbcTemplate sequenceJdbc;
+    private final TransactionTemplate sequenceTx;
+    private final MeterRegistry meterRegistry;
+    private final int blockSize;
+
+    // key: LOT-20251018 → 현재 인스턴스가 들고 있는 번호 블록
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public DocumentNumberService(OrderInboundRepository orderInboundRepository,
+                                 MaterialInboundRepository materialInboundRepository,
+                                 OrderOutboundRepository orderOutboundRepository,
+                                 RawOutboundRepository rawOutboundRepository,
+                                 DataSourceProperties dataSourceProperties,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${document-number.block-size:20}") int blockSize,
+                                 @Value("${document-number.pool-size:2}") int poolSize) {
+        this.orderInboundRepository = orderInboundRepository;
+        this.materialInboundRepository = materialInboundRepository;
+        this.orderOutboundRepository = orderOutboundRepository;
+        this.rawOutboundRepository = rawOutboundRepository;
+        this.sequenceDataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.sequenceDataSource.setPoolName("document-sequence");
+        this.sequenceDataSource.setMaximumPoolSize(poolSize);
+        this.sequenceDataSource.setMinimumIdle(1);
+        this.sequenceJdbc = new JdbcTemplate(sequenceDataSource);
+        this.sequenceTx = new TransactionTemplate(new DataSourceTransactionManager(sequenceDataSource));
+        this.meterRegistry = meterRegistry;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 다음 문서번호 발급 (ex. LOT-20251018-001, 999 초과 시 LOT-20251018-1000)
+     */
+    public String next(DocumentType type, LocalDate date) {
+        String key = seqKey(type, date);
+        Block block = blocks.get(key);
+        if (block == null) {
+            evictPastDays(date);
+            block = blocks.computeIfAbsent(key, k -> new Block());
+        }
+
+        synchronized (block) {
+            if (block.next >= block.end) {
+                long start = allocate(type, date, blockSize);
+                block.next = start;
+                block.end = start + blockSize;
+            }
+            return format(type, date, block.next++);
+        }
+    }
+
+    /**
+     * 연속된 문서번호 count 개 발급 (일괄 입고 등) - 인스턴스 블록을 거치지 않고 카운터에서 바로 예약하므로 번호 사이에 공백이 없다.
+     */
+    public List<String> nextBlock(DocumentType type, LocalDate date, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        long start = allocate(type, date, count);
+        List<String> numbers = new ArrayList<>(count);
+        for (long sequence = start; sequence < start + count; sequence++) {
+            numbers.add(format(type, date, sequence));
+        }
+        return numbers;
+    }
+
+    // 카운터 행을 잠그고 count 개의 번호를 예약 → 예약된 첫 번호 반환 (전용 풀 트랜잭션, 메인 풀 커넥션은 추가로 쓰지 않음)
+    private long allocate(DocumentType type, LocalDate date, int count) {
+        String key = seqKey(type, date);
+
+        for (int attempt = 1; ; attempt++) {
+            Long start = sequenceTx.execute(status -> reserve(key, count));
+            if (start != null) {
+                log.debug("문서번호 블록 할당: key={}, start={}, size={}", key, start, count);
+                return start;
+            }
+
+            // 당일 카운터 행이 아직 없음 → 생성 후 잠금 조회부터 다시
+            try {
+                sequenceJdbc.update("INSERT INTO document_sequence (seq_key, prefix, seq_date, next_value) VALUES (?, ?, ?, ?)",
+                        key, type.getPrefix(), date, findLegacyMaxSequence(type, date) + 1);
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 같은 날짜 카운터 행을 먼저 생성한 경우
+                meterRegistry.counter("mes.document_number.retries", "type", type.name()).increment();
+                if (attempt >= MAX_INSERT_RETRIES) {
+                    throw new IllegalStateException("문서번호 채번에 실패했습니다: " + key, e);
+                }
+            }
+        }
+    }
+
+    // SELECT ... FOR UPDATE 로 카운터 행 잠금 후 count 만큼 전진 (행이 없으면 null)
+    private Long reserve(String key, int count) {
+        List<Long> current = sequenceJdbc.queryForList(
+                "SELECT next_value FROM document_sequence WHERE seq_key = ? FOR UPDATE", Long.class, key);
+        if (current.isEmpty()) {
+            return null;
+        }
+        long first = current.get(0);
+        sequenceJdbc.update("UPDATE document_sequence SET next_value = ? WHERE seq_key = ?", first + count, key);
+        return first;
+    }
+
+    // 카운터 도입 이전에 발급된 당일 번호가 있으면 그 다음부터 이어서 발급 (호출한 쪽 트랜잭션/커넥션에서 조회)
+    private long findLegacyMaxSequence(DocumentType type, LocalDate date) {
+        String prefix = type.getPrefix() + "-" + date.format(DATE_FORMAT) + "-";
+
+        Optional<String> lastNo = switch (type) {
+            case LOT -> Optional.ofNullable(orderInboundRepository.findLastLotNoByInboundDate(date.format(DATE_FORMAT)));
+            case MATERIAL_INBOUND -> materialInboundRepository.findMaxInboundNoNative(prefix);
+            case ORDER_OUTBOUND -> orderOutboundRepository.findMaxOutboundNoNative(prefix);
+            case MATERIAL_OUTBOUND -> rawOutboundRepository.findMaxOutboundNoNative(prefix);
+        };
+
+        return lastNo
+                .filter(no -> no.matches("\\Q" + prefix + "\\E\\d+"))
+                .map(no -> Long.parseLong(no.substring(prefix.length())))
+                .orElse(0L);
+    }
+
+    // 요청 일자보다 이전 일자의 블록만 정리 (소급 일자 요청이 당일 블록을 버리지 않도록)
+    private void evictPastDays(LocalDate date) {
+        String day = date.format(DATE_FORMAT);
+        blocks.keySet().removeIf(key -> key.substring(key.length() - day.length()).compareTo(day) < 0);
+    }
+
+    private static String seqKey(DocumentType type, LocalDate date) {
+        return type.getPrefix() + "-" + date.format(DATE_FORMAT);
+    }
+
+    private static String format(DocumentType type, LocalDate date, long sequence) {
+        return String.format("%s-%s-%03d", type.getPrefix(), date.format(DATE_FORMAT), sequence);
+    }
+
+    @PreDestroy
+    void closeSequencePool() {
+        sequenceDataSource.close();
+    }
+
+    private static final class Block {
+        private long next;
+        private long end;
+    }
+}
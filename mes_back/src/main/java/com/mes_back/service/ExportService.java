@@ -0,0 +1,83 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.SheetFormat;
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.repository.MaterialInboundRepository;
+import com.mes_back.repository.MaterialStockRepository;
+import com.mes_back.repository.OrderInboundRepository;
+import com.mes_back.repository.OrderOutboundRepository;
+import com.mes_back.repository.RawOutboundRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 이력/재고 다운로드 - DB 커서에서 읽은 행을 바로 CSV/XLSX 로 써서 전체 목록을 메모리에 올리지 않는다.
+ * (검색 조건은 목록 화면의 페이지 조회와 동일)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private final OrderInboundRepository orderInboundRepository;
+    private final OrderOutboundRepository orderOutboundRepository;
+    private final MaterialInboundRepository materialInboundRepository;
+    private final RawOutboundRepository rawOutboundRepository;
+    private final MaterialStockRepository materialStockRepository;
+
+    // 수주 입고 이력
+    public void exportOrderInbound(HistorySearchDTO search, SheetFormat format, OutputStream out) throws IOException {
+        export(orderInboundRepository.streamHistory(search), format, out,
+                List.of("LOT번호", "거래처명", "품목코드", "품목명", "분류", "도장방식", "수량", "입고일자", "비고"),
+                r -> Arrays.asList(r.getLotNo(), r.getCustomerName(), r.getItemCode(), r.getItemName(),
+                        r.getCategory(), r.getPaintType(), r.getQty(), r.getInboundDate(), r.getNote()));
+    }
+
+    // 수주 출고 이력
+    public void exportOrderOutbound(HistorySearchDTO search, SheetFormat format, OutputStream out) throws IOException {
+        export(orderOutboundRepository.streamHistory(search), format, out,
+                List.of("출고번호", "거래처명", "품목코드", "품목명", "분류", "색상", "출고수량", "출고일자", "입고일자"),
+                r -> Arrays.asList(r.getOutboundNo(), r.getCustomerName(), r.getItemCode(), r.getItemName(),
+                        r.getCategory(), r.getColor(), r.getQty(), r.getOutboundDate(), r.getInboundDate()));
+    }
+
+    // 원자재 입고 이력
+    public void exportMaterialInbound(HistorySearchDTO search, SheetFormat format, OutputStream out) throws IOException {
+        export(materialInboundRepository.streamHistory(search), format, out,
+                List.of("입고번호", "매입처명", "품목코드", "품목명", "규격", "단위", "제조사", "제조일자", "입고수량", "총량", "입고일자"),
+                r -> Arrays.asList(r.getInboundNo(), r.getSupplierName(), r.getItemCode(), r.getItemName(),
+                        r.getSpecQty(), r.getSpecUnit(), r.getManufacturer(), r.getManufacteDate(),
+                        r.getQty(), r.getTotalQty(), r.getInboundDate()));
+    }
+
+    // 원자재 출고 이력
+    public void exportMaterialOutbound(HistorySearchDTO search, SheetFormat format, OutputStream out) throws IOException {
+        export(rawOutboundRepository.streamHistory(search), format, out,
+                List.of("출고번호", "매입처명", "품목코드", "품목명", "출고수량", "단위", "제조사", "입고일자", "출고일자"),
+                r -> Arrays.asList(r.getOutboundNo(), r.getCompanyName(), r.getItemCode(), r.getItemName(),
+                        r.getQty(), r.getUnit(), r.getManufacturer(), r.getInboundDate(), r.getOutboundDate()));
+    }
+
+    // 원자재 재고 (입고 LOT별)
+    public void exportMaterialStock(HistorySearchDTO search, SheetFormat format, OutputStream out) throws IOException {
+        export(materialStockRepository.streamStock(search), format, out,
+                List.of("매입처명", "품목코드", "품목명", "제조사", "재고량", "단위"),
+                r -> Arrays.asList(r.getCompanyName(), r.getItemCode(), r.getItemName(),
+                        r.getManufacturer(), r.getTotalQty(), r.getUnit()));
+    }
+
+    private <T> void export(Stream<T> rows, SheetFormat format, OutputStream out,
+                            List<String> headers, Function<T, List<?>> toRow) throws IOException {
+        try (rows; ExportSheetWriter writer = ExportSheetWriter.open(format, out, headers)) {
+            rows.forEach(row -> writer.writeRow(toRow.apply(row)));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.SheetFormat;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 다운로드 파일 행 단위 writer - 행을 받는 즉시 출력 스트림으로 내보내 메모리 사용량이 행 수와 무관하다.
+ */
+interface ExportSheetWriter extends AutoCloseable {
+
+    void writeRow(List<?> values);
+
+    @Override
+    void close() throws IOException;
+
+    static ExportSheetWriter open(SheetFormat format, OutputStream out, List<String> headers) {
+        ExportSheetWriter writer = switch (format) {
+            case CSV -> new Csv(out);
+            case XLSX -> new Xlsx(out);
+        };
+        writer.writeRow(headers);
+        return writer;
+    }
+
+    // UTF-8 BOM 포함 (엑셀에서 한글 깨짐 방지)
+    final class Csv implements ExportSheetWriter {
+        private final BufferedWriter writer;
+
+        Csv(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            write("\uFEFF");
+        }
+
+        @Override
+        public void writeRow(List<?> values) {
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) line.append(',');
+                line.append(escape(values.get(i)));
+            }
+            write(line.append("\r\n").toString());
+        }
+
+        private static String escape(Object value) {
+            if (value == null) return "";
+            String text = value.toString();
+            if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+                return "\"" + text.replace("\"", "\"\"") + "\"";
+            }
+            return text;
+        }
+
+        private void write(String text) {
+            try {
+                writer.write(text);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    // SXSSF: 최근 ROW_WINDOW 행만 메모리에 두고 나머지는 임시파일로 내림
+    final class Xlsx implements ExportSheetWriter {
+        private static final int ROW_WINDOW = 100;
+
+        private final OutputStream out;
+        private final SXSSFWorkbook workbook;
+        private final Sheet sheet;
+        private int rowIndex = 0;
+
+        Xlsx(OutputStream out) {
+            this.out = out;
+            this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+            this.workbook.setCompressTempFiles(true);
+            this.sheet = workbook.createSheet("Sheet1");
+        }
+
+        @Override
+        public void writeRow(List<?> values) {
+            Row row = sheet.createRow(rowIndex++);
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                Cell cell = row.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else if (value != null) {
+                    cell.setCellValue(value.toString());
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                workbook.write(out);
+                out.flush();
+            } finally {
+                workbook.close();
+                workbook.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.mes_back.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mes_back.constant.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 수주 품목 이미지 파일 조회.
+ * 저장 파일명(timestamp_uuid.ext)은 한 번 쓰면 바뀌지 않으므로 크기/수정시각/ETag 를 파일별로 캐시해서
+ * 반복 요청 시 디스크 stat 없이 바로 응답 헤더를 만든다. (없는 파일은 캐시하지 않음)
+ */
+@Service
+public class ImageDeliveryService {
+
+    private final Path baseDir;
+    private final ImageDerivativeService imageDerivativeService;
+    private final Cache<Path, ImageFile> attributes;
+
+    public ImageDeliveryService(@Value("${file.imgFileLocation}") String imgFileLocation,
+                                @Value("${image-storage.attribute-cache-size:10000}") long attributeCacheSize,
+                                ImageDerivativeService imageDerivativeService) {
+        this.baseDir = Paths.get(imgFileLocation, ImageStorageService.ORDER_ITEM_DIR);
+        this.imageDerivativeService = imageDerivativeService;
+        this.attributes = Caffeine.newBuilder()
+                .maximumSize(attributeCacheSize)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    /** 응답에 필요한 파일 정보 */
+    public record ImageFile(Path path, long size, long lastModified, String etag, MediaType contentType) {
+    }
+
+    public Optional<ImageFile> findOriginal(String savedFileName) {
+        if (!isSafeName(savedFileName)) {
+            return Optional.empty();
+        }
+        return lookup(baseDir.resolve(savedFileName));
+    }
+
+    // 파생본이 아직 없으면 원본에서 생성한 뒤 반환
+    public Optional<ImageFile> findVariant(ImageVariant variant, String derivativeFileName) throws IOException {
+        Optional<String> savedFileName = ImageDerivativeService.savedFileNameOf(derivativeFileName)
+                .filter(ImageDeliveryService::isSafeName);
+        if (savedFileName.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Path path = imageDerivativeService.pathOf(variant, savedFileName.get());
+        ImageFile cached = attributes.getIfPresent(path);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (imageDerivativeService.ensure(variant, savedFileName.get()).isEmpty()) {
+            return Optional.empty();
+        }
+        return lookup(path);
+    }
+
+    /** 파일 삭제 시 원본/파생본 캐시 제거 */
+    public void evict(String savedFileName) {
+        attributes.invalidate(baseDir.resolve(savedFileName));
+        for (ImageVariant variant : ImageVariant.values()) {
+            attributes.invalidate(imageDerivativeService.pathOf(variant, savedFileName));
+        }
+    }
+
+    // 캐시가 가리키는 파일이 사라진 경우 (외부에서 삭제 등)
+    public void evict(ImageFile file) {
+        attributes.invalidate(file.path());
+    }
+
+    private Optional<ImageFile> lookup(Path path) {
+        return Optional.ofNullable(attributes.get(path, ImageDeliveryService::readAttributes));
+    }
+
+    private static ImageFile readAttributes(Path path) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attrs.isRegularFile()) {
+                return null;
+            }
+            long size = attrs.size();
+            long lastModified = attrs.lastModifiedTime().toMillis();
+            // 파일명이 바뀌지 않는 한 내용도 바뀌지 않으므로 크기+수정시각으로 강한 ETag 생성
+            String etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+            MediaType contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM);
+            return new ImageFile(path, size, lastModified, etag, contentType);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 경로 조작(../, 하위 폴더, 숨김 파일) 차단
+    private static boolean isSafeName(String fileName) {
+        return !fileName.isEmpty()
+                && !fileName.startsWith(".")
+                && !fileName.contains("/")
+                && !fileName.contains("\\")
+                && !fileName.contains("..");
+    }
+}
@@ -0,0 +1,172 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.ImageVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 수주 품목 이미지 파생본(썸네일/중간 크기) 생성.
+ * 원본을 긴 변 기준으로 축소한 뒤 JPEG 로 재압축해 order_items/{thumb|medium}/ 에 저장한다.
+ * 원본 메타데이터(EXIF, GPS 등)는 옮기지 않으므로 파생본에는 남지 않는다.
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+
+    private static final String FORMAT = "jpg";
+
+    private final Path baseDir;
+    private final float quality;
+
+    public ImageDerivativeService(@Value("${file.imgFileLocation}") String imgFileLocation,
+                                  @Value("${image-storage.derivative-quality:0.8}") float quality) {
+        this.baseDir = Paths.get(imgFileLocation, ImageStorageService.ORDER_ITEM_DIR);
+        this.quality = quality;
+    }
+
+    // 1700000000000_ab12cd34.png → 1700000000000_ab12cd34.png.jpg (원본 파일명을 그대로 유지해 역으로 찾을 수 있게)
+    public static String fileNameOf(String savedFileName) {
+        return savedFileName + "." + FORMAT;
+    }
+
+    // 파생본 파일명 → 원본 저장 파일명 (형식이 맞지 않으면 empty)
+    public static Optional<String> savedFileNameOf(String derivativeFileName) {
+        String suffix = "." + FORMAT;
+        if (!derivativeFileName.endsWith(suffix) || derivativeFileName.length() == suffix.length()) {
+            return Optional.empty();
+        }
+        return Optional.of(derivativeFileName.substring(0, derivativeFileName.length() - suffix.length()));
+    }
+
+    public Path pathOf(ImageVariant variant, String savedFileName) {
+        return baseDir.resolve(variant.getDirName()).resolve(fileNameOf(savedFileName));
+    }
+
+    /** 원본 저장 직후 모든 파생본 생성 (이미지가 아니면 건너뜀) */
+    public void generateAll(Path original, String savedFileName) throws IOException {
+        BufferedImage source = ImageIO.read(original.toFile());
+        if (source == null) {
+            log.warn("이미지 형식이 아니어서 파생본을 만들지 않음: {}", savedFileName);
+            return;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            write(source, variant, pathOf(variant, savedFileName));
+        }
+    }
+
+    /**
+     * 파생본 경로 반환. 없으면(도입 이전 이미지 등) 원본에서 바로 생성.
+     * 원본이 없거나 이미지가 아니면 empty.
+     */
+    public Optional<Path> ensure(ImageVariant variant, String savedFileName) throws IOException {
+        Path target = pathOf(variant, savedFileName);
+        if (Files.exists(target)) {
+            return Optional.of(target);
+        }
+
+        Path original = baseDir.resolve(savedFileName);
+        if (!Files.isRegularFile(original)) {
+            return Optional.empty();
+        }
+        BufferedImage source = ImageIO.read(original.toFile());
+        if (source == null) {
+            return Optional.empty();
+        }
+        write(source, variant, target);
+        return Optional.of(target);
+    }
+
+    public void deleteAll(String savedFileName) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                Files.deleteIfExists(pathOf(variant, savedFileName));
+            } catch (IOException e) {
+                log.warn("파생본 삭제 실패: {} ({})", savedFileName, variant, e);
+            }
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 이동 → 동시에 같은 파생본을 만들어도 반쯤 쓰인 파일이 노출되지 않음
+    private void write(BufferedImage source, ImageVariant variant, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        BufferedImage resized = resize(source, variant.getMaxSize());
+
+        Path temp = Files.createTempFile(target.getParent(), ".tmp-", "." + FORMAT);
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName(FORMAT).next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(resized, null, null), param); // 메타데이터 없이 기록
+            } finally {
+                writer.dispose();
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 긴 변을 maxSize 로 축소 (확대는 하지 않음). 큰 배율은 절반씩 나눠 줄여 계단 현상 방지
+    private static BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // 최소 한 번은 다시 그려서 RGB 로 변환 (원본이 작아도 재압축 + 알파 제거)
+        BufferedImage current = source;
+        int w = width;
+        int h = height;
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            current = draw(current, w, h);
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+
+    // JPEG 는 알파 채널이 없으므로 흰 배경 위에 그림
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+}
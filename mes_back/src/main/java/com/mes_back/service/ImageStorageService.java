@@ -0,0 +1,207 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.ImageVariant;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 수주 품목 이미지 파일 저장소.
+ * 1) 컨트롤러(트랜잭션 밖)에서 업로드 파일을 staging 폴더에 먼저 받아두고
+ * 2) 서비스 트랜잭션에서는 메타데이터만 저장하며
+ * 3) 커밋 후 staging → 최종 경로 원자적 이동 / 삭제 파일 제거를 가상 스레드 실행기에서 처리한다.
+ * 롤백되면 staging 파일만 지우므로 DB와 디스크가 어긋나지 않는다.
+ * 최종 경로로 옮긴 뒤에는 같은 작업에서 썸네일/중간 크기 파생본도 만든다.
+ */
+@Service
+@Slf4j
+public class ImageStorageService {
+
+    public static final String ORDER_ITEM_DIR = "order_items";
+    private static final String STAGING_DIR = ".staging";
+
+    private final Path baseDir;
+    private final Path stagingDir;
+    private final String baseUrl;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageDeliveryService imageDeliveryService;
+
+    // 파일 IO 동시 실행 수 제한 (가상 스레드는 무제한이므로 세마포어로 디스크 부하 제한)
+    private final ExecutorService ioExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("image-io-", 0).factory());
+    private final Semaphore ioPermits;
+
+    public ImageStorageService(@Value("${file.imgFileLocation}") String imgFileLocation,
+                               @Value("${image-storage.base-url:http://localhost:8080/uploads}") String baseUrl,
+                               @Value("${image-storage.max-concurrent-io:4}") int maxConcurrentIo,
+                               ImageDerivativeService imageDerivativeService,
+                               ImageDeliveryService imageDeliveryService) {
+        this.baseDir = Paths.get(imgFileLocation, ORDER_ITEM_DIR);
+        this.stagingDir = baseDir.resolve(STAGING_DIR);
+        this.baseUrl = baseUrl + "/" + ORDER_ITEM_DIR + "/";
+        this.ioPermits = new Semaphore(maxConcurrentIo);
+        this.imageDerivativeService = imageDerivativeService;
+        this.imageDeliveryService = imageDeliveryService;
+    }
+
+    /** staging 폴더에 받아둔 업로드 파일 */
+    public record StagedImage(Path stagedPath, String originalFileName, String savedFileName) {
+    }
+
+    /**
+     * 업로드 파일을 staging 폴더로 옮긴다 (DB 트랜잭션 밖에서 호출).
+     * 빈 파일은 건너뛴다.
+     */
+    public List<StagedImage> stage(List<MultipartFile> files) throws IOException {
+        List<StagedImage> staged = new ArrayList<>();
+        if (files == null || files.isEmpty()) {
+            return staged;
+        }
+        Files.createDirectories(stagingDir);
+
+        try {
+            for (MultipartFile file : files) {
+                if (file.isEmpty()) continue;
+
+                String originalFileName = file.getOriginalFilename();
+                String savedFileName = newFileName(originalFileName);
+                Path stagedPath = stagingDir.resolve(savedFileName);
+                file.transferTo(stagedPath);
+                staged.add(new StagedImage(stagedPath, originalFileName, savedFileName));
+            }
+        } catch (IOException e) {
+            discard(staged);
+            throw e;
+        }
+        return staged;
+    }
+
+    public String urlOf(String savedFileName) {
+        return baseUrl + savedFileName;
+    }
+
+    // ex) http://localhost:8080/uploads/order_items/thumb/1700000000000_ab12cd34.png.jpg
+    public String urlOf(String savedFileName, ImageVariant variant) {
+        return baseUrl + variant.getDirName() + "/" + ImageDerivativeService.fileNameOf(savedFileName);
+    }
+
+    /**
+     * 현재 트랜잭션 결과에 staging 파일을 묶는다.
+     * 커밋 → 최종 경로로 이동, 롤백 → staging 파일 삭제.
+     */
+    public void bindToTransaction(List<StagedImage> staged) {
+        if (staged == null || staged.isEmpty()) {
+            return;
+        }
+        List<StagedImage> images = List.copyOf(staged);
+        afterCompletion(
+                () -> submit("이미지 저장", () -> {
+                    Files.createDirectories(baseDir);
+                    for (StagedImage image : images) {
+                        Path target = baseDir.resolve(image.savedFileName());
+                        moveAtomically(image.stagedPath(), target);
+                        try {
+                            imageDerivativeService.generateAll(target, image.savedFileName());
+                        } catch (IOException e) {
+                            // 원본은 이미 저장됨 → 파생본은 첫 조회 시 다시 생성
+                            log.warn("파생본 생성 실패: {}", image.savedFileName(), e);
+                        }
+                    }
+                }),
+                () -> submit("staging 정리", () -> discard(images)));
+    }
+
+    /** 커밋 후 저장 파일 삭제 (롤백 시 파일 유지) */
+    public void deleteAfterCommit(String savedFileName) {
+        afterCompletion(
+                () -> submit("이미지 삭제", () -> {
+                    boolean deleted = Files.deleteIfExists(baseDir.resolve(savedFileName));
+                    if (!deleted) log.warn("파일이 존재하지 않음: {}", savedFileName);
+                    imageDerivativeService.deleteAll(savedFileName);
+                    imageDeliveryService.evict(savedFileName);
+                }),
+                null);
+    }
+
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else if (onRollback != null) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void discard(List<StagedImage> staged) {
+        for (StagedImage image : staged) {
+            try {
+                Files.deleteIfExists(image.stagedPath());
+            } catch (IOException e) {
+                log.warn("staging 파일 삭제 실패: {}", image.stagedPath(), e);
+            }
+        }
+    }
+
+    private void submit(String action, IoTask task) {
+        ioExecutor.execute(() -> {
+            ioPermits.acquireUninterruptibly();
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("{} 실패", action, e);
+            } finally {
+                ioPermits.release();
+            }
+        });
+    }
+
+    private static String newFileName(String originalFileName) {
+        String ext = originalFileName != null && originalFileName.contains(".")
+                ? originalFileName.substring(originalFileName.lastIndexOf("."))
+                : "";
+        return System.currentTimeMillis() + "_" + UUID.randomUUID().toString().substring(0, 8) + ext;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.close(); // 진행 중인 파일 작업이 끝날 때까지 대기
+    }
+
+    @FunctionalInterface
+    private interface IoTask {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,193 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.SheetFormat;
+import com.mes_back.exception.InvalidImportFileException;
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidOperationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 업로드 파일 행 단위 reader - ExportSheetWriter 의 반대 방향.
+ * 한 행을 읽는 즉시 handler 로 넘기므로 메모리 사용량이 행 수와 무관하다. (XLSX 는 POI SAX 이벤트 API, 첫 번째 시트만)
+ */
+final class ImportSheetReader {
+
+    private ImportSheetReader() {
+    }
+
+    @FunctionalInterface
+    interface RowHandler {
+        // line: 파일 기준 행 번호 (1부터, 헤더 포함), cells: 셀 값 문자열 (빈 셀은 "")
+        void onRow(int line, List<String> cells);
+    }
+
+    static void read(SheetFormat format, InputStream in, RowHandler handler) throws IOException {
+        switch (format) {
+            case CSV -> readCsv(in, handler);
+            case XLSX -> readXlsx(in, handler);
+        }
+    }
+
+    // RFC 4180 (따옴표 안의 쉼표/줄바꿈 허용), UTF-8 BOM 무시
+    private static void readCsv(InputStream in, RowHandler handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean rowStarted = false;
+        int line = 0;
+
+        int ch = reader.read();
+        if (ch == '\uFEFF') {
+            ch = reader.read();
+        }
+        for (; ch != -1; ch = reader.read()) {
+            char c = (char) ch;
+            rowStarted = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        cell.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                cells.add(cell.toString());
+                handler.onRow(++line, cells);
+                cells = new ArrayList<>();
+                cell.setLength(0);
+                rowStarted = false;
+            } else {
+                cell.append(c);
+            }
+        }
+        if (rowStarted) {
+            cells.add(cell.toString());
+            handler.onRow(++line, cells);
+        }
+    }
+
+    // 스트림으로 열면 POI 가 zip 항목 전체를 메모리에 올리므로 임시 파일로 내려받아 파일 기반으로 연다
+    private static void readXlsx(InputStream in, RowHandler handler) throws IOException {
+        Path spooled = Files.createTempFile("material-inbound-import-", ".xlsx");
+        try {
+            Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            readXlsx(spooled, handler);
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    private static void readXlsx(Path file, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(
+                    xssfReader.getStylesTable(), strings, new SheetRows(handler), new IsoDateFormatter(), false));
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    parser.parse(new InputSource(sheet));
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException
+                 | UnsupportedFileFormatException | InvalidOperationException e) { // zip/OOXML 이 아닌 파일 포함
+            throw new InvalidImportFileException("엑셀 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // SAX 셀 이벤트 → 행 단위 리스트 (중간 빈 셀은 "" 로 채움)
+    private static final class SheetRows implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowHandler handler;
+        private List<String> cells;
+
+        SheetRows(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            handler.onRow(rowNum + 1, cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = columnIndex(cellReference);
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue == null ? "" : formattedValue);
+        }
+
+        // "C12" → 2
+        private int columnIndex(String cellReference) {
+            if (cellReference == null) {
+                return cells.size();
+            }
+            int column = 0;
+            for (int i = 0; i < cellReference.length() && Character.isLetter(cellReference.charAt(i)); i++) {
+                column = column * 26 + (cellReference.charAt(i) - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+
+    // 날짜 서식 셀은 표시 형식과 무관하게 yyyy-MM-dd 로 넘김
+    private static final class IsoDateFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).toLocalDate().toString();
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+    }
+}
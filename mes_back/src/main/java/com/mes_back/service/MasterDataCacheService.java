@@ -0,0 +1,45 @@
+package com.mes_back.service;
+
+import com.mes_back.config.CacheConfig;
+import com.mes_back.entity.Company;
+import com.mes_back.entity.MaterialItem;
+import com.mes_back.entity.Routing;
+import com.mes_back.repository.CompanyRepository;
+import com.mes_back.repository.MaterialItemRepository;
+import com.mes_back.repository.RoutingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 업체/공정/원자재 품목 단건 조회 캐시 (read-through).
+ * 반환 엔티티는 준영속 상태로 공유되므로 연관관계 지정/조회 용도로만 사용하고 값을 변경하지 않는다.
+ * 무효화는 CompanyService, RoutingService, MasterDataRawItemsService 의 쓰기 메서드에서 처리.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MasterDataCacheService {
+
+    private final CompanyRepository companyRepository;
+    private final RoutingRepository routingRepository;
+    private final MaterialItemRepository materialItemRepository;
+
+    @Cacheable(cacheNames = CacheConfig.COMPANY_BY_NAME, key = "#companyName", unless = "#result == null")
+    public Optional<Company> findCompanyByName(String companyName) {
+        return companyRepository.findByCompanyName(companyName);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.ROUTING_BY_ID, key = "#routingId", unless = "#result == null")
+    public Optional<Routing> findRouting(Long routingId) {
+        return routingRepository.findById(routingId);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.MATERIAL_ITEM_BY_ID, key = "#materialItemId", unless = "#result == null")
+    public Optional<MaterialItem> findMaterialItem(Long materialItemId) {
+        return materialItemRepository.findById(materialItemId);
+    }
+}
@@ -1,28 +1,24 @@
 package com.mes_back.service;
 
+import com.mes_back.constant.ImageVariant;
 import com.mes_back.dto.OrderItemDTO;
 import com.mes_back.dto.OrderItemImgDTO;
 import com.mes_back.dto.OrderItemRequestDTO;
 import com.mes_back.dto.OrderItemRoutingDTO;
 import com.mes_back.entity.*;
+import com.mes_back.mapper.OrderItemMapper;
 import com.mes_back.repository.*;
+import com.mes_back.service.ImageStorageService.StagedImage;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -32,24 +28,29 @@ import java.util.stream.Collectors;
 public class MasterDataOrderItemsService {
 
     private final MasterDataOrderItemsRepository masterDataOrderItemsRepository;
-    private final CompanyRepository companyRepository;
-    private final ModelMapper modelMapper;
-    private final RoutingRepository routingRepository;
+    private final MasterDataCacheService masterDataCacheService;
+    private final OrderItemMapper orderItemMapper;
     private final OrderItemRoutingRepository orderItemRoutingRepository;
     private final OrderItemImgRepository orderItemImgRepository;
     private final jakarta.persistence.EntityManager entityManager;
-
-    @Value("${file.imgFileLocation}")
-    private String imgFileLocation;
+    private final ImageStorageService imageStorageService;
 
     /* =========================================
        조회
      ========================================= */
+    // 목록: 품목 프로젝션 1회 + 이미지 일괄 조회 1회 (품목 수와 무관하게 쿼리 수 고정)
+    @Transactional(readOnly = true)
     public List<OrderItemRequestDTO> getOrderItem() {
-        List<OrderItem> items = masterDataOrderItemsRepository.findAll();
-        return items.stream()
-                .map(this::convertToRequestDTO)
-                .collect(Collectors.toList());
+        List<OrderItemRequestDTO> items = masterDataOrderItemsRepository.findAllForList();
+
+        Map<Long, List<OrderItemImgDTO>> imagesByItem = masterDataOrderItemsRepository
+                .findImagesByOrderItemIds(items.stream().map(OrderItemRequestDTO::getOrderItemId).toList())
+                .stream()
+                .map(this::withVariantUrls)
+                .collect(Collectors.groupingBy(OrderItemImgDTO::getOrderItemId));
+
+        items.forEach(item -> item.setImage(imagesByItem.getOrDefault(item.getOrderItemId(), new ArrayList<>())));
+        return items;
     }
 
     public OrderItemRequestDTO getOrderItemById(Long id) {
@@ -60,18 +61,7 @@ public class MasterDataOrderItemsService {
 
         // 라우팅 조회
         List<OrderItemRoutingDTO> routings = orderItemRoutingRepository.findByOrderItem(item).stream()
-                .map(r -> {
-                    OrderItemRoutingDTO routingDto = modelMapper.map(r, OrderItemRoutingDTO.class);
-                    routingDto.setRoutingId(r.getRouting().getRoutingId());
-                    routingDto.setProcessNo(r.getProcessNo());
-
-                    Routing master = r.getRouting();
-                    routingDto.setProcessCode(master.getProcessCode());
-                    routingDto.setProcessName(master.getProcessName());
-                    routingDto.setProcessTime(master.getProcessTime());
-                    routingDto.setNote(master.getNote());
-                    return routingDto;
-                })
+                .map(orderItemMapper::toRoutingDto)
                 .collect(Collectors.toList());
         dto.setRouting(routings);
 
@@ -83,11 +73,13 @@ public class MasterDataOrderItemsService {
      ========================================= */
     public OrderItemDTO createOrderItemWithFiles(OrderItemRequestDTO requestDTO,
                                                  List<OrderItemRoutingDTO> routingList,
-                                                 List<MultipartFile> images) throws IOException {
-        Company company = companyRepository.findByCompanyName(requestDTO.getCompanyName())
+                                                 List<StagedImage> images) {
+        imageStorageService.bindToTransaction(images);
+
+        Company company = masterDataCacheService.findCompanyByName(requestDTO.getCompanyName())
                 .orElseThrow(() -> new RuntimeException("해당 업체를 찾을 수 없습니다: " + requestDTO.getCompanyName()));
 
-        OrderItem orderItem = modelMapper.map(requestDTO, OrderItem.class);
+        OrderItem orderItem = orderItemMapper.toEntity(requestDTO);
         orderItem.setCompany(company);
         orderItem.setStatus(company.getStatus());
         OrderItem savedItem = masterDataOrderItemsRepository.save(orderItem);
@@ -104,9 +96,7 @@ public class MasterDataOrderItemsService {
 
         OrderItem refreshedItem = masterDataOrderItemsRepository.findById(savedItem.getOrderItemId())
                 .orElseThrow(() -> new EntityNotFoundException("Item not found after save"));
-        OrderItemDTO dto = modelMapper.map(refreshedItem, OrderItemDTO.class);
-        dto.setCompanyId(company.getCompanyId());
-        return dto;
+        return orderItemMapper.toDto(refreshedItem);
     }
 
     /* =========================================
@@ -115,11 +105,13 @@ public class MasterDataOrderItemsService {
     public OrderItemDTO updateOrderItemWithFiles(Long id,
                                                  OrderItemRequestDTO requestDTO,
                                                  List<OrderItemRoutingDTO> routingList,
-                                                 List<MultipartFile> newImages) throws IOException {
+                                                 List<StagedImage> newImages) {
+        imageStorageService.bindToTransaction(newImages);
+
         OrderItem orderItem = masterDataOrderItemsRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Item not found: " + id));
 
-        Company company = companyRepository.findByCompanyName(requestDTO.getCompanyName())
+        Company company = masterDataCacheService.findCompanyByName(requestDTO.getCompanyName())
                 .orElseThrow(() -> new RuntimeException("해당 업체를 찾을 수 없습니다: " + requestDTO.getCompanyName()));
         orderItem.setCompany(company);
         orderItem.setStatus(company.getStatus());
@@ -165,15 +157,13 @@ public class MasterDataOrderItemsService {
 
         OrderItem saved = masterDataOrderItemsRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Item not found after update"));
-        OrderItemDTO dto = modelMapper.map(saved, OrderItemDTO.class);
-        dto.setCompanyId(saved.getCompany().getCompanyId());
-        return dto;
+        return orderItemMapper.toDto(saved);
     }
 
     /* =========================================
        이미지 동기화
      ========================================= */
-    private void syncImages(OrderItem orderItem, List<MultipartFile> newImages, List<Long> keepImageIds) throws IOException {
+    private void syncImages(OrderItem orderItem, List<StagedImage> newImages, List<Long> keepImageIds) {
         List<OrderItemImg> existingImages = orderItemImgRepository.findByOrderItem(orderItem);
 
         // null이면 빈 리스트로 초기화
@@ -203,37 +193,23 @@ public class MasterDataOrderItemsService {
         }
 
         // 3. 새 이미지 추가 (첫 번째만 대표로 지정, 기존 대표가 없는 경우만)
+        // (파일은 이미 staging 에 있고, 커밋 후 ImageStorageService 가 최종 경로로 이동)
         if (newImages != null && !newImages.isEmpty()) {
-            String uploadDir = imgFileLocation + "/order_items/";
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) Files.createDirectories(uploadPath);
-
             // 기존에 대표 이미지가 있는지 확인
             boolean hasExistingRep = existingImages.stream()
                     .filter(img -> !imagesToDelete.contains(img))
                     .anyMatch(img -> "Y".equalsIgnoreCase(img.getRegYn()));
 
             for (int i = 0; i < newImages.size(); i++) {
-                MultipartFile file = newImages.get(i);
-
-                if (file.isEmpty()) continue;
-
-                String timestamp = String.valueOf(System.currentTimeMillis());
-                String randomStr = UUID.randomUUID().toString().substring(0, 8);
-                String originalFileName = file.getOriginalFilename();
-                String ext = originalFileName != null && originalFileName.contains(".")
-                        ? originalFileName.substring(originalFileName.lastIndexOf("."))
-                        : "";
-                String savedFileName = timestamp + "_" + randomStr + ext;
-
-                Path filePath = uploadPath.resolve(savedFileName);
-                Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+                StagedImage image = newImages.get(i);
+                String originalFileName = image.originalFileName();
+                String savedFileName = image.savedFileName();
 
                 OrderItemImg imgEntity = new OrderItemImg();
                 imgEntity.setOrderItem(orderItem);
                 imgEntity.setImgOriName(originalFileName);
                 imgEntity.setImgName(savedFileName);
-                imgEntity.setImgUrl("http://localhost:8080/uploads/order_items/" + savedFileName);
+                imgEntity.setImgUrl(imageStorageService.urlOf(savedFileName));
 
                 // 첫 번째 신규 이미지이고 기존 대표가 없으면 대표로 지정
                 imgEntity.setRegYn((i == 0 && !hasExistingRep) ? "Y" : "N");
@@ -347,26 +323,14 @@ public class MasterDataOrderItemsService {
     /* 이미지 삭제 수정 */
     private void deleteOrderItemImage(OrderItemImg img) {
         try {
-            deleteFile(img.getImgName()); // img_url 대신 img_name 기준
             orderItemImgRepository.delete(img);
+            imageStorageService.deleteAfterCommit(img.getImgName()); // 커밋 후 파일 삭제 (img_name 기준)
             log.info("이미지 삭제 완료: ID={}, 파일명={}", img.getOrderItemImgId(), img.getImgName());
         } catch (Exception e) {
             log.error("이미지 삭제 실패: ID={}, 파일명={}", img.getOrderItemImgId(), img.getImgName(), e);
         }
     }
 
-    /* deleteFile 수정 */
-    private void deleteFile(String fileName) {
-        try {
-            Path filePath = Paths.get(imgFileLocation, "order_items", fileName);
-            boolean deleted = Files.deleteIfExists(filePath);
-            if (deleted) log.info("파일 삭제 성공: {}", fileName);
-            else log.warn("파일이 존재하지 않음: {}", fileName);
-        } catch (Exception e) {
-            log.error("파일 삭제 실패: " + fileName, e);
-        }
-    }
-
     /* =========================================
        라우팅 동기화
      ========================================= */
@@ -391,9 +355,9 @@ public class MasterDataOrderItemsService {
                     matched.setProcessNo(dto.getProcessNo());
                     orderItemRoutingRepository.save(matched);
                 } else {
-                    Routing routingEntity = routingRepository.findById(dto.getRoutingId())
+                    Routing routingEntity = masterDataCacheService.findRouting(dto.getRoutingId())
                             .orElseThrow(() -> new RuntimeException("라우팅을 찾을 수 없습니다: " + dto.getRoutingId()));
-                    OrderItemRouting newRouting = modelMapper.map(dto, OrderItemRouting.class);
+                    OrderItemRouting newRouting = new OrderItemRouting();
                     newRouting.setOrderItem(orderItem);
                     newRouting.setRouting(routingEntity);
                     newRouting.setProcessNo(dto.getProcessNo());
@@ -437,23 +401,18 @@ public class MasterDataOrderItemsService {
         item.setUseYn("Y".equalsIgnoreCase(item.getUseYn()) ? "N" : "Y");
         OrderItem saved = masterDataOrderItemsRepository.save(item);
 
-        OrderItemDTO dto = modelMapper.map(saved, OrderItemDTO.class);
-        dto.setCompanyId(saved.getCompany().getCompanyId());
-        return dto;
+        return orderItemMapper.toDto(saved);
     }
 
     /* =========================================
        Entity → RequestDTO 변환
      ========================================= */
     private OrderItemRequestDTO convertToRequestDTO(OrderItem item) {
-        OrderItemRequestDTO dto = modelMapper.map(item, OrderItemRequestDTO.class);
+        OrderItemRequestDTO dto = orderItemMapper.toRequestDto(item);
 
         List<OrderItemImgDTO> images = orderItemImgRepository.findByOrderItem(item).stream()
-                .map(img -> {
-                    OrderItemImgDTO dtoImg = modelMapper.map(img, OrderItemImgDTO.class);
-                    dtoImg.setOrderItemId(img.getOrderItem() != null ? img.getOrderItem().getOrderItemId() : null);
-                    return dtoImg;
-                })
+                .map(orderItemMapper::toImgDto)
+                .map(this::withVariantUrls)
                 .sorted((img1, img2) -> {
                     // reg_yn이 'Y'인 것을 앞으로
                     boolean isMain1 = "Y".equalsIgnoreCase(img1.getRegYn());
@@ -464,8 +423,14 @@ public class MasterDataOrderItemsService {
                 })
                 .collect(Collectors.toList());
         dto.setImage(images);
-        dto.setCompanyName(item.getCompany().getCompanyName());
-        dto.setStatus(item.getCompany().getStatus());
         return dto;
     }
+
+    private OrderItemImgDTO withVariantUrls(OrderItemImgDTO img) {
+        if (img.getImgName() != null) {
+            img.setThumbUrl(imageStorageService.urlOf(img.getImgName(), ImageVariant.THUMB));
+            img.setMediumUrl(imageStorageService.urlOf(img.getImgName(), ImageVariant.MEDIUM));
+        }
+        return img;
+    }
 }
@@ -2,14 +2,15 @@ package com.mes_back.service;
 
 import com.mes_back.dto.MaterialItemDTO;
 import com.mes_back.dto.MaterialItemRequestDTO;
+import com.mes_back.config.CacheConfig;
 import com.mes_back.entity.Company;
 import com.mes_back.entity.MaterialItem;
-import com.mes_back.repository.CompanyRepository;
+import com.mes_back.mapper.MaterialItemMapper;
 import com.mes_back.repository.MasterDataRawItemsRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -21,8 +22,8 @@ import java.util.stream.Collectors;
 public class MasterDataRawItemsService {
 
     private final MasterDataRawItemsRepository masterDataRawItemsRepository;
-    private final CompanyRepository companyRepository;
-    private final ModelMapper modelMapper;
+    private final MasterDataCacheService masterDataCacheService;
+    private final MaterialItemMapper materialItemMapper;
 
     // 전체 조회
     public List<MaterialItemRequestDTO> getMaterialItem() {
@@ -43,11 +44,11 @@ public class MasterDataRawItemsService {
     // 등록
     public MaterialItemDTO createMaterialItem(MaterialItemRequestDTO requestDTO) {
         // 업체명으로 회사 조회
-        Company company = companyRepository.findByCompanyName(requestDTO.getCompanyName())
+        Company company = masterDataCacheService.findCompanyByName(requestDTO.getCompanyName())
                 .orElseThrow(() -> new RuntimeException("해당 업체를 찾을 수 없습니다: " + requestDTO.getCompanyName()));
 
         // RequestDTO → Entity 변환
-        MaterialItem materialItem = modelMapper.map(requestDTO, MaterialItem.class);
+        MaterialItem materialItem = materialItemMapper.toEntity(requestDTO);
 
         // 회사 매핑
         materialItem.setCompany(company);
@@ -56,31 +57,29 @@ public class MasterDataRawItemsService {
         MaterialItem savedItem = masterDataRawItemsRepository.save(materialItem);
 
         // 저장된 Entity → DTO 변환 후 반환
-        MaterialItemDTO dto = modelMapper.map(savedItem, MaterialItemDTO.class);
-        dto.setCompanyId(company.getCompanyId());
-        return dto;
+        return materialItemMapper.toDto(savedItem);
     }
 
     // 수정
+    @CacheEvict(cacheNames = CacheConfig.MATERIAL_ITEM_BY_ID, key = "#id")
     public MaterialItemDTO updateMaterialItem(Long id, MaterialItemRequestDTO requestDTO) {
         MaterialItem updatedItem = masterDataRawItemsRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Item not found: " + id));
 
         // 회사 매핑
-        Company company = companyRepository.findByCompanyName(requestDTO.getCompanyName())
+        Company company = masterDataCacheService.findCompanyByName(requestDTO.getCompanyName())
                 .orElseThrow(() -> new RuntimeException("해당 업체를 찾을 수 없습니다: " + requestDTO.getCompanyName()));
         updatedItem.setCompany(company);
 
         // 나머지 필드 매핑
-        modelMapper.map(requestDTO, updatedItem);
+        materialItemMapper.updateEntity(requestDTO, updatedItem);
 
         MaterialItem saved = masterDataRawItemsRepository.save(updatedItem);
-        MaterialItemDTO dto = modelMapper.map(saved, MaterialItemDTO.class);
-        dto.setCompanyId(company.getCompanyId());
-        return dto;
+        return materialItemMapper.toDto(saved);
     }
 
     // soft delete
+    @CacheEvict(cacheNames = CacheConfig.MATERIAL_ITEM_BY_ID, key = "#id")
     public void deleteMaterialItem(Long id) {
         masterDataRawItemsRepository.findById(id).ifPresent(item -> {
             item.setUseYn("N");
@@ -89,6 +88,7 @@ public class MasterDataRawItemsService {
     }
 
     // 복원
+    @CacheEvict(cacheNames = CacheConfig.MATERIAL_ITEM_BY_ID, key = "#id")
     public MaterialItemDTO restoreMaterialItem(Long id) {
         MaterialItem item = masterDataRawItemsRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Item not found: " + id));
@@ -96,16 +96,12 @@ public class MasterDataRawItemsService {
         item.setUseYn("Y".equalsIgnoreCase(item.getUseYn()) ? "N" : "Y");
         MaterialItem saved = masterDataRawItemsRepository.save(item);
 
-        MaterialItemDTO dto = modelMapper.map(saved, MaterialItemDTO.class);
-        dto.setCompanyId(saved.getCompany().getCompanyId());
-        return dto;
+        return materialItemMapper.toDto(saved);
     }
 
     // Entity → RequestDTO 변환 (프론트용)
     private MaterialItemRequestDTO convertToRequestDTO(MaterialItem item) {
-        MaterialItemRequestDTO dto = modelMapper.map(item, MaterialItemRequestDTO.class);
-        dto.setCompanyName(item.getCompany().getCompanyName());
-        return dto;
+        return materialItemMapper.toRequestDto(item);
     }
 
 }
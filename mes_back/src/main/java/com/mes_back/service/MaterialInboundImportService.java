@@ -0,0 +1,230 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.DocumentType;
+import com.mes_back.constant.SheetFormat;
+import com.mes_back.dto.ImportLineErrorDTO;
+import com.mes_back.dto.MaterialInboundImportResultDTO;
+import com.mes_back.entity.MaterialInbound;
+import com.mes_back.entity.MaterialItem;
+import com.mes_back.exception.InvalidImportFileException;
+import com.mes_back.repository.MasterDataRawItemsRepository;
+import com.mes_back.repository.MaterialInboundRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 원자재 입고 파일 업로드 (매입처 납품서 CSV/XLSX).
+ * 파일은 행 단위로 읽고(ImportSheetReader), 품목코드는 시작 시 한 번 올린 메모리 맵에서 찾는다.
+ * 검증을 통과한 행은 CHUNK_SIZE 건씩 모아 청크 단위 트랜잭션으로 입고 + 재고 + 재고 원장을 배치 insert 하고,
+ * 실패한 행은 건너뛰고 사유만 모은다. (파일 전체를 중단하지 않음, 이미 커밋된 청크는 유지)
+ *
+ * 헤더(첫 행, 순서 무관): 품목코드, 입고수량, 입고일자, 제조일자, [매입처명 - 비우면 품목의 업체명]
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MaterialInboundImportService {
+
+    private static final int CHUNK_SIZE = 200;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String COL_ITEM_CODE = "품목코드";
+    private static final String COL_QTY = "입고수량";
+    private static final String COL_INBOUND_DATE = "입고일자";
+    private static final String COL_MANUFACTE_DATE = "제조일자";
+    private static final String COL_SUPPLIER = "매입처명";
+    private static final List<String> REQUIRED_COLUMNS = List.of(COL_ITEM_CODE, COL_QTY, COL_INBOUND_DATE, COL_MANUFACTE_DATE);
+
+    private final MasterDataRawItemsRepository masterDataRawItemsRepository;
+    private final MaterialInboundRepository materialInboundRepository;
+    private final MaterialStockService materialStockService;
+    private final DocumentNumberService documentNumberService;
+    private final TransactionTemplate transactionTemplate;
+
+    public MaterialInboundImportResultDTO importFile(String filename, InputStream in) throws IOException {
+        SheetFormat format = formatOf(filename);
+
+        // 품목코드 → 품목 (업체 포함 한 번 조회, 같은 코드가 여러 개면 첫 번째 - findFirstByItemCode 와 동일)
+        Map<String, MaterialItem> itemsByCode = new HashMap<>();
+        masterDataRawItemsRepository.findAll().forEach(item -> itemsByCode.putIfAbsent(item.getItemCode(), item));
+
+        Import job = new Import(itemsByCode);
+        ImportSheetReader.read(format, in, job::onRow);
+        job.flush();
+
+        if (job.columns == null) {
+            throw new InvalidImportFileException(0, "헤더 행이 없는 빈 파일입니다.");
+        }
+        log.info("원자재 입고 업로드: file={}, 전체 {}건, 등록 {}건, 실패 {}건",
+                filename, job.result.getTotalRows(), job.result.getImportedRows(), job.result.getFailedRows());
+        return job.result;
+    }
+
+    private static SheetFormat formatOf(String filename) {
+        String name = filename == null ? "" : filename.toLowerCase();
+        if (name.endsWith(".csv")) {
+            return SheetFormat.CSV;
+        }
+        if (name.endsWith(".xlsx")) {
+            return SheetFormat.XLSX;
+        }
+        throw new InvalidImportFileException(0, "CSV 또는 XLSX 파일만 업로드할 수 있습니다: " + filename);
+    }
+
+    // 검증을 통과한 한 행
+    private record InboundLine(MaterialItem item, String supplierName, long qty, LocalDate inboundDate, LocalDate manufacteDate) {
+    }
+
+    // 업로드 1건의 진행 상태 (헤더 매핑, 청크 버퍼, 결과)
+    private final class Import {
+        private final Map<String, MaterialItem> itemsByCode;
+        private final List<InboundLine> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final MaterialInboundImportResultDTO result = new MaterialInboundImportResultDTO();
+        private Map<String, Integer> columns;
+
+        private Import(Map<String, MaterialItem> itemsByCode) {
+            this.itemsByCode = itemsByCode;
+        }
+
+        void onRow(int line, List<String> cells) {
+            if (cells.stream().allMatch(String::isBlank)) {
+                return;
+            }
+            if (columns == null) {
+                columns = header(line, cells);
+                return;
+            }
+
+            result.setTotalRows(result.getTotalRows() + 1);
+            try {
+                chunk.add(parse(cells));
+            } catch (IllegalArgumentException e) {
+                result.setFailedRows(result.getFailedRows() + 1);
+                if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                    result.getErrors().add(new ImportLineErrorDTO(line, e.getMessage()));
+                }
+                return;
+            }
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private Map<String, Integer> header(int line, List<String> cells) {
+            Map<String, Integer> header = new HashMap<>();
+            for (int i = 0; i < cells.size(); i++) {
+                header.putIfAbsent(cells.get(i).trim(), i);
+            }
+            List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !header.containsKey(c)).toList();
+            if (!missing.isEmpty()) {
+                throw new InvalidImportFileException(line, "필수 컬럼이 없습니다: " + String.join(", ", missing));
+            }
+            return header;
+        }
+
+        private InboundLine parse(List<String> cells) {
+            String itemCode = cell(cells, COL_ITEM_CODE);
+            if (itemCode.isEmpty()) {
+                throw new IllegalArgumentException("품목코드가 없습니다.");
+            }
+            MaterialItem item = itemsByCode.get(itemCode);
+            if (item == null) {
+                throw new IllegalArgumentException("존재하지 않는 품목코드입니다: " + itemCode);
+            }
+
+            long qty;
+            try {
+                qty = Long.parseLong(cell(cells, COL_QTY).replace(",", ""));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("입고수량이 숫자가 아닙니다: " + cell(cells, COL_QTY));
+            }
+            if (qty <= 0) {
+                throw new IllegalArgumentException("입고수량은 1 이상이어야 합니다.");
+            }
+
+            String supplierName = cell(cells, COL_SUPPLIER);
+            return new InboundLine(item,
+                    supplierName.isEmpty() ? item.getCompany().getCompanyName() : supplierName,
+                    qty,
+                    date(cells, COL_INBOUND_DATE),
+                    date(cells, COL_MANUFACTE_DATE));
+        }
+
+        private String cell(List<String> cells, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= cells.size()) {
+                return "";
+            }
+            return cells.get(index).trim();
+        }
+
+        // yyyy-MM-dd, yyyy.MM.dd, yyyy/MM/dd
+        private LocalDate date(List<String> cells, String column) {
+            String value = cell(cells, column);
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException(column + "가 없습니다.");
+            }
+            try {
+                return LocalDate.parse(value.replace('.', '-').replace('/', '-'));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(column + " 형식이 올바르지 않습니다 (yyyy-MM-dd): " + value);
+            }
+        }
+
+        // 버퍼에 모인 행을 한 트랜잭션으로 등록 (입고번호는 청크 단위 연속 블록)
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<String> inboundNos = transactionTemplate.execute(status -> saveChunk(chunk));
+            if (result.getFirstInboundNo() == null) {
+                result.setFirstInboundNo(inboundNos.get(0));
+            }
+            result.setLastInboundNo(inboundNos.get(inboundNos.size() - 1));
+            result.setImportedRows(result.getImportedRows() + chunk.size());
+            chunk.clear();
+        }
+    }
+
+    private List<String> saveChunk(List<InboundLine> lines) {
+        List<String> inboundNos = documentNumberService.nextBlock(DocumentType.MATERIAL_INBOUND, LocalDate.now(), lines.size());
+
+        List<MaterialInbound> inbounds = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            InboundLine line = lines.get(i);
+            MaterialItem item = line.item();
+            long totalQty = line.qty() * item.getSpecQty(); // 입고 수량 * 규격(양)
+
+            MaterialInbound inbound = MaterialInbound.builder()
+                    .materialItem(item)
+                    .supplierName(line.supplierName())
+                    .itemName(item.getItemName())
+                    .itemCode(item.getItemCode())
+                    .specQty(item.getSpecQty())
+                    .specUnit(item.getSpecUnit())
+                    .manufacturer(item.getManufacturer())
+                    .manufacteDate(line.manufacteDate())
+                    .qty(line.qty())
+                    .inboundDate(line.inboundDate())
+                    .inboundNo(inboundNos.get(i))
+                    .totalQty(totalQty)
+                    .build();
+            inbounds.add(inbound);
+        }
+
+        materialInboundRepository.saveAll(inbounds);
+        materialStockService.receive(inbounds); // LOT 재고 + 재고 원장 (배치 insert)
+        return inboundNos;
+    }
+}
@@ -1,12 +1,13 @@
 package com.mes_back.service;
 
+import com.mes_back.constant.DocumentType;
+import com.mes_back.dto.CursorPageDTO;
+import com.mes_back.dto.HistorySearchDTO;
 import com.mes_back.dto.MaterialInboundDTO;
+import com.mes_back.dto.PageCursor;
 import com.mes_back.entity.MaterialInbound;
 import com.mes_back.entity.MaterialItem;
-import com.mes_back.entity.MaterialStock;
 import com.mes_back.repository.MaterialInboundRepository;
-import com.mes_back.repository.MaterialItemRepository;
-import com.mes_back.repository.MaterialStockRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,9 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,25 +24,38 @@ import java.util.stream.Collectors;
 public class MaterialInboundService {
 
     private final MaterialInboundRepository materialInboundRepository;
-    private final MaterialItemRepository materialItemRepository;
-    private final MaterialStockRepository materialStockRepository;
+    private final MasterDataCacheService masterDataCacheService;
+    private final MaterialStockService materialStockService;
+    private final DocumentNumberService documentNumberService;
 
     @Transactional(readOnly = true)
     public List<MaterialInboundDTO> getMaterialInbound() {
-        return materialInboundRepository.findAllByDeletedAtIsNull().stream()
+        return materialInboundRepository.findAllByActiveTrue().stream()
                 .map(this::entityToDto)
                 .collect(Collectors.toList());
     }
 
+    // 원자재 입고 이력 키셋 페이지 조회
+    @Transactional(readOnly = true)
+    public CursorPageDTO<MaterialInboundDTO> findHistoryPage(HistorySearchDTO search, String cursor, int size) {
+        int limit = CursorPageDTO.clampSize(size);
+        PageCursor pageCursor = PageCursor.decode(cursor);
+
+        List<MaterialInboundDTO> rows = materialInboundRepository.findHistoryPage(search, pageCursor, limit + 1);
+        Long totalCount = pageCursor == null ? materialInboundRepository.countHistory(search, CursorPageDTO.COUNT_LIMIT + 1) : null;
+
+        return CursorPageDTO.of(rows, limit, dto -> new PageCursor(dto.getInboundDate(), dto.getId()), totalCount);
+    }
+
     public MaterialInboundDTO addMaterialInbound(MaterialInboundDTO materialInboundDto) {
         // 1. MaterialItem 조회
-        MaterialItem materialItem = materialItemRepository.findById(materialInboundDto.getMaterialItemId())
+        MaterialItem materialItem = masterDataCacheService.findMaterialItem(materialInboundDto.getMaterialItemId())
                 .orElseThrow(() -> new EntityNotFoundException(
                         "MaterialItem not found with id: " + materialInboundDto.getMaterialItemId()
                 ));
 
         // 2. 입고번호 생성
-        String inboundNo = generateInboundNo();
+        String inboundNo = documentNumberService.next(DocumentType.MATERIAL_INBOUND, LocalDate.now());
 
         // 3. 실제 입고량 계산 (입고 수량 * 규격(양))
         Long calculatedQty = materialInboundDto.getQty() * materialItem.getSpecQty();
@@ -66,19 +78,8 @@ public class MaterialInboundService {
 
         MaterialInbound savedInbound = materialInboundRepository.save(materialInbound);
 
-        // 5. MaterialStock 업데이트
-        MaterialStock stock = materialStockRepository.findByMaterialInbound(savedInbound)
-                .orElseGet(() -> {
-                    MaterialStock newStock = new MaterialStock();
-                    newStock.setMaterialInbound(savedInbound);
-                    newStock.setUnit(materialItem.getSpecUnit());
-                    newStock.setTotalQty(0L);
-                    return newStock;
-                });
-
-        Long updatedTotal = (stock.getTotalQty() != null ? stock.getTotalQty() : 0L) + calculatedQty;
-        stock.setTotalQty(updatedTotal);
-        materialStockRepository.save(stock);
+        // 5. 입고 LOT 재고 생성 + 재고 원장 기록
+        materialStockService.receive(List.of(savedInbound));
 
         // 6. DTO 반환
         return entityToDto(savedInbound);
@@ -103,28 +104,14 @@ public class MaterialInboundService {
                 .build();
     }
 
-    // 입고번호 생성
-    protected String generateInboundNo() {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String prefix = "MINC-" + today + "-";
-
-        Optional<String> lastNoOptional = materialInboundRepository.findMaxInboundNoNative(prefix);
-        int nextSeq = 1;
-        if (lastNoOptional.isPresent()) {
-            String lastNo = lastNoOptional.get();
-            String lastSeq = lastNo.substring(lastNo.lastIndexOf("-") + 1);
-            nextSeq = Integer.parseInt(lastSeq) + 1;
-        }
-
-        if (nextSeq > 999) throw new IllegalStateException("입고번호가 999를 초과했습니다.");
-
-        return prefix + String.format("%03d", nextSeq);
-    }
-
     public MaterialInboundDTO updateMaterialInbound(MaterialInboundDTO materialInboundDto) {
         MaterialInbound materialInbound = materialInboundRepository.findById(materialInboundDto.getId())
                 .orElseThrow(EntityNotFoundException::new);
+        long previousTotalQty = materialInbound.getTotalQty();
         materialInbound.updateMaterialInbound(materialInboundDto);
+
+        // 총량이 바뀌면 LOT 잔량/원장에도 반영 (이미 출고된 수량 아래로 줄이면 InsufficientStockException)
+        materialStockService.adjustInbound(materialInbound.getId(), materialInbound.getTotalQty() - previousTotalQty);
         return materialInboundDto;
     }
 
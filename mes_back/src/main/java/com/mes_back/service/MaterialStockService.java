@@ -1,16 +1,23 @@
 package com.mes_back.service;
 
+import com.mes_back.constant.StockMovementType;
 import com.mes_back.dto.MaterialStockDTO;
+import com.mes_back.entity.MaterialInbound;
 import com.mes_back.entity.MaterialStock;
+import com.mes_back.event.StockChangedEvent;
+import com.mes_back.exception.InsufficientStockException;
+import com.mes_back.repository.MaterialInboundRepository;
+import com.mes_back.repository.MaterialStockMovementRepository.ItemStockBalance;
 import com.mes_back.repository.MaterialStockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +26,10 @@ import java.util.stream.Collectors;
 public class MaterialStockService {
 
     private final MaterialStockRepository materialStockRepository;
+    private final MaterialInboundRepository materialInboundRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final MaterialStockLedgerService materialStockLedgerService;
 
     // 기존 findAll() 유지
     public List<MaterialStockDTO> findAll() {
@@ -38,27 +49,96 @@ public class MaterialStockService {
         }).collect(Collectors.toList());
     }
 
-    // ✅ 품목별 총량 합산
-    @Transactional(readOnly = true)
-    public List<MaterialStockDTO> findTotalQtyByItem() {
-        List<MaterialStock> stocks = materialStockRepository.findAll();
+    // ✅ 입고 LOT 재고 생성 + 원장 기록 (단건/일괄 입고 공통, 배치 insert)
+    public void receive(List<MaterialInbound> inbounds) {
+        List<MaterialStock> stocks = inbounds.stream().map(inbound -> {
+            MaterialStock stock = new MaterialStock();
+            stock.setMaterialInbound(inbound);
+            stock.setUnit(inbound.getSpecUnit());
+            stock.setTotalQty(inbound.getTotalQty());
+            return stock;
+        }).toList();
+        materialStockRepository.saveAll(stocks);
+        materialStockLedgerService.recordAll(inbounds, StockMovementType.INBOUND);
 
-        // itemCode 기준으로 합산
-        Map<String, MaterialStockDTO> totalMap = new HashMap<>();
+        inbounds.forEach(inbound -> eventPublisher.publishEvent(new StockChangedEvent(
+                inbound.getId(), inbound.getMaterialItem().getMaterialItemId(), inbound.getItemCode(), inbound.getTotalQty())));
+    }
 
-        for (MaterialStock ms : stocks) {
-            String key = ms.getMaterialInbound().getMaterialItem().getItemCode();
-            MaterialStockDTO dto = totalMap.getOrDefault(key, new MaterialStockDTO());
-            dto.setCompanyName(ms.getMaterialInbound().getMaterialItem().getCompany().getCompanyName());
-            dto.setItemCode(ms.getMaterialInbound().getMaterialItem().getItemCode());
-            dto.setItemName(ms.getMaterialInbound().getItemName());
-            dto.setUnit(ms.getUnit());
-            dto.setTotalQty((dto.getTotalQty() == null ? 0 : dto.getTotalQty()) + ms.getTotalQty());
-            dto.setManufacturer(ms.getMaterialInbound().getManufacturer());
-            dto.setMaterialInboundId(ms.getMaterialInbound().getId());
-            totalMap.put(key, dto);
+    // ✅ 재고 차감 (조건부 UPDATE → 행 잠금은 해당 입고 LOT 한 행만, 읽고-쓰기 사이 경합 없음)
+    public void decrease(Long materialInboundId, long qty) {
+        if (qty <= 0) {
+            throw new IllegalArgumentException("출고 수량은 0보다 커야 합니다.");
+        }
+        decreaseLotStock(materialInboundId, qty);
+        recordMovement(materialInboundId, -qty, StockMovementType.OUTBOUND);
+    }
+
+    // ✅ 재고 복원 (출고 수정/삭제)
+    public void increase(Long materialInboundId, long qty) {
+        if (qty <= 0) {
+            throw new IllegalArgumentException("복원 수량은 0보다 커야 합니다.");
+        }
+        increaseLotStock(materialInboundId, qty);
+        recordMovement(materialInboundId, qty, StockMovementType.OUTBOUND_CANCEL);
+    }
+
+    // ✅ 입고 수량 수정분 반영 (줄이는 경우 이미 출고된 수량 아래로는 불가)
+    public void adjustInbound(Long materialInboundId, long delta) {
+        if (delta == 0) {
+            return;
         }
+        if (delta < 0) {
+            decreaseLotStock(materialInboundId, -delta);
+        } else {
+            increaseLotStock(materialInboundId, delta);
+        }
+        recordMovement(materialInboundId, delta, StockMovementType.INBOUND_ADJUST);
+    }
+
+    private void decreaseLotStock(Long materialInboundId, long qty) {
+        if (materialStockRepository.decreaseTotalQty(materialInboundId, qty) == 0) {
+            if (!materialStockRepository.existsByMaterialInbound_Id(materialInboundId)) {
+                throw new RuntimeException("해당 품목의 재고 정보가 없습니다.");
+            }
+            meterRegistry.counter("mes.stock.insufficient").increment(); // 재고 부족으로 거절된 출고
+            throw new InsufficientStockException(materialInboundId, qty);
+        }
+    }
 
-        return new ArrayList<>(totalMap.values());
+    private void increaseLotStock(Long materialInboundId, long qty) {
+        if (materialStockRepository.increaseTotalQty(materialInboundId, qty) == 0) {
+            throw new RuntimeException("해당 품목의 재고 정보가 없습니다.");
+        }
+    }
+
+    // 원장 기록 + 변경 피드 (입고 LOT 은 출고 처리 중 이미 조회돼 있으므로 보통 1차 캐시에서 바로 꺼냄)
+    private void recordMovement(Long materialInboundId, long delta, StockMovementType type) {
+        MaterialInbound inbound = materialInboundRepository.findById(materialInboundId)
+                .orElseThrow(() -> new EntityNotFoundException("MaterialInbound not found with id: " + materialInboundId));
+        materialStockLedgerService.record(inbound, delta, type);
+        eventPublisher.publishEvent(new StockChangedEvent(
+                materialInboundId, inbound.getMaterialItem().getMaterialItemId(), inbound.getItemCode(), delta));
+    }
+
+    // ✅ 품목별 총량 (asOf 미지정 시 현재) - 원장 스냅샷 + 이후 변동분, 품목/업체 정보 포함 한 번에 조회
+    @Transactional(readOnly = true)
+    public List<MaterialStockDTO> findTotalQtyByItem(LocalDate asOf) {
+        List<ItemStockBalance> balances = asOf == null
+                ? materialStockLedgerService.currentBalances()
+                : materialStockLedgerService.balancesAsOf(asOf);
+        return balances.stream()
+                .map(balance -> {
+                    MaterialStockDTO dto = new MaterialStockDTO();
+                    dto.setCompanyName(balance.getCompanyName());
+                    dto.setItemCode(balance.getItemCode());
+                    dto.setItemName(balance.getItemName());
+                    dto.setTotalQty(balance.getQty());
+                    dto.setUnit(balance.getUnit());
+                    dto.setManufacturer(balance.getManufacturer());
+                    dto.setMaterialInboundId(balance.getLastMaterialInboundId()); // 입고일이 가장 늦은 LOT
+                    return dto;
+                })
+                .collect(Collectors.toList());
     }
 }
@@ -4,16 +4,23 @@ import com.mes_back.dto.ProcessTrackingDTO;
 import com.mes_back.entity.OrderInbound;
 import com.mes_back.entity.OrderItemRouting;
 import com.mes_back.entity.ProcessTracking;
+import com.mes_back.event.OrderInboundChangedEvent;
+import com.mes_back.event.ProcessStatusChangedEvent;
 import com.mes_back.repository.OrderInboundRepository;
 import com.mes_back.repository.OrderItemRoutingRepository;
 import com.mes_back.repository.ProcessTrackingRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,7 +31,7 @@ public class OrderInboundProcessTrackingService {
     private final ProcessTrackingRepository processTrackingRepository;
     private final OrderInboundRepository orderInboundRepository;
     private final OrderItemRoutingRepository orderItemRoutingRepository;
-    private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 공정 진행 현황 조회
     public List<ProcessTrackingDTO> getProcessTracking(Long id) {
@@ -83,6 +90,7 @@ public class OrderInboundProcessTrackingService {
 
         // 4️⃣ 저장
         List<ProcessTracking> saved = processTrackingRepository.saveAll(entities);
+        eventPublisher.publishEvent(new OrderInboundChangedEvent(orderInbound.getOrderInboundId()));
 
         // 5️⃣ DTO 변환 후 반환
         return saved.stream().map(this::convertToDTO).collect(Collectors.toList());
@@ -124,8 +132,59 @@ public class OrderInboundProcessTrackingService {
         ProcessTracking entity = processTrackingRepository.findById(dto.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Invalid process tracking ID: " + dto.getId()));
 
+        // 진행중 전환 시에만 같은 LOT 의 공정 전체 조회
+        Set<ProcessTracking> changed = new LinkedHashSet<>();
+        applyTransition(entity, dto, LocalDateTime.now(), () -> processTrackingRepository.findProcessTrackingWithOrderItem(
+                entity.getOrderInbound().getOrderInboundId()
+        ), changed);
+
+        processTrackingRepository.save(entity);
+        publishChanges(changed);
+
+        return convertToDTO(entity);
+    }
+
+    // ⭐ 공정 진행현황 일괄 업데이트
+    // LOT 별 공정을 한 번만 조회해서 메모리에서 상태를 모두 반영 → 커밋 시 변경분만 한 번에 flush
+    @Transactional
+    public List<ProcessTrackingDTO> updateProcessTrackingBatch(List<ProcessTrackingDTO> dtoList) {
+        if (dtoList == null || dtoList.isEmpty()) {
+            throw new IllegalArgumentException("DTO list cannot be empty");
+        }
+        if (dtoList.stream().anyMatch(dto -> dto.getId() == null)) {
+            throw new IllegalArgumentException("ProcessTracking ID cannot be null");
+        }
+
+        List<Long> ids = dtoList.stream().map(ProcessTrackingDTO::getId).distinct().toList();
+        List<ProcessTracking> lotSteps = processTrackingRepository.findLotProcessTrackingByIdIn(ids);
+
+        Map<Long, ProcessTracking> stepById = lotSteps.stream()
+                .collect(Collectors.toMap(ProcessTracking::getId, Function.identity()));
+        Map<Long, List<ProcessTracking>> stepsByLot = lotSteps.stream()
+                .collect(Collectors.groupingBy(pt -> pt.getOrderInbound().getOrderInboundId()));
+
         LocalDateTime now = LocalDateTime.now();
+        Set<ProcessTracking> changed = new LinkedHashSet<>();
+        for (ProcessTrackingDTO dto : dtoList) {
+            ProcessTracking entity = stepById.get(dto.getId());
+            if (entity == null) {
+                throw new IllegalArgumentException("Invalid process tracking ID: " + dto.getId());
+            }
+            // 요청 순서대로 반영 (같은 LOT 의 앞선 변경이 뒤 요청에 보이도록 같은 엔티티 인스턴스 사용)
+            applyTransition(entity, dto, now,
+                    () -> stepsByLot.get(entity.getOrderInbound().getOrderInboundId()), changed);
+        }
+        publishChanges(changed);
 
+        return dtoList.stream()
+                .map(dto -> convertToDTO(stepById.get(dto.getId())))
+                .collect(Collectors.toList());
+    }
+
+    // 공정 상태 전환: 프론트 상태값 반영 + 진행중(1) 시작 시 시작시간 기록 및 이전 공정 완료(2) 처리
+    // (바뀐 공정은 changed 에 모아 커밋 후 변경 피드로 알림)
+    private void applyTransition(ProcessTracking entity, ProcessTrackingDTO dto, LocalDateTime now,
+                                 Supplier<List<ProcessTracking>> lotSteps, Set<ProcessTracking> changed) {
         // 상태가 null이면 0으로 초기화
         Integer newStatus = dto.getProcessStatus() != null ? dto.getProcessStatus() : 0;
 
@@ -135,42 +194,28 @@ public class OrderInboundProcessTrackingService {
             if (newStatus == 0) {
                 entity.setProcessStartTime(null);
             }
+            changed.add(entity);
         }
 
-        // 2️⃣ 진행중 상태인데 시작시간 없으면 현재시간 입력
+        // 2️⃣ 진행중 상태인데 시작시간 없으면 현재시간 입력 + 앞 공정 완료 처리
         if (entity.getProcessStatus() == 1 && entity.getProcessStartTime() == null) {
             entity.setProcessStartTime(now);
-
-            List<ProcessTracking> allProcesses = processTrackingRepository.findProcessTrackingWithOrderItem(
-                    entity.getOrderInbound().getOrderInboundId()
-            );
+            changed.add(entity);
 
             Long currentProcessNo = entity.getOrderItemRouting().getProcessNo();
-            allProcesses.stream()
+            lotSteps.get().stream()
                     .filter(p -> p.getOrderItemRouting().getProcessNo() < currentProcessNo)
                     .filter(p -> p.getProcessStatus() != 2)
-                    .forEach(p -> p.setProcessStatus(2));
-
-            processTrackingRepository.saveAll(allProcesses);
+                    .forEach(p -> {
+                        p.setProcessStatus(2); // 영속 상태 → 커밋 시 dirty checking 으로 반영
+                        changed.add(p);
+                    });
         }
-
-        processTrackingRepository.save(entity);
-
-        return convertToDTO(entity);
     }
 
-    // ⭐ 공정 진행현황 일괄 업데이트
-    @Transactional
-    public List<ProcessTrackingDTO> updateProcessTrackingBatch(List<ProcessTrackingDTO> dtoList) {
-        if (dtoList == null || dtoList.isEmpty()) {
-            throw new IllegalArgumentException("DTO list cannot be empty");
-        }
-
-        List<ProcessTrackingDTO> updatedList = dtoList.stream()
-                .map(this::updateProcessTracking) // 기존 단일 업데이트 로직 재사용
-                .collect(Collectors.toList());
-
-        return updatedList;
+    // 최종 상태 기준으로 공정당 1건씩 발행 (@TransactionalEventListener → 커밋 후 전달)
+    private void publishChanges(Set<ProcessTracking> changed) {
+        changed.forEach(pt -> eventPublisher.publishEvent(ProcessStatusChangedEvent.of(pt)));
     }
 
     // DTO 변환 헬퍼 메서드
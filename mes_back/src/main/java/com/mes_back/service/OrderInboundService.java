@@ -1,19 +1,32 @@
 package com.mes_back.service;
 import java.time.LocalDateTime;
 
+import com.mes_back.constant.DocumentType;
+import com.mes_back.dto.CursorPageDTO;
+import com.mes_back.dto.HistorySearchDTO;
+import com.mes_back.dto.OrderInboundBulkResultDTO;
 import com.mes_back.dto.OrderInboundDTO;
+import com.mes_back.dto.PageCursor;
 import com.mes_back.entity.OrderInbound;
 import com.mes_back.entity.OrderItem;
+import com.mes_back.event.OrderInboundChangedEvent;
 import com.mes_back.repository.OrderInboundRepository;
 import com.mes_back.repository.OrderItemRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -21,23 +34,31 @@ import java.util.List;
 @Slf4j
 public class OrderInboundService {
 
+    private static final int MAX_BULK_LINES = 500;
+
     private final OrderInboundRepository orderInboundRepository;
     private final OrderItemRepository orderItemRepository;
+    private final DocumentNumberService documentNumberService;
+    private final OutboundEligibilityIndex outboundEligibilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void softDeleteById(Long id) {
         OrderInbound entity = orderInboundRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 입고 기록입니다."));
         entity.setDeletedAt(LocalDateTime.now());
         orderInboundRepository.save(entity); // ✅ 상태 변경 저장
+        eventPublisher.publishEvent(new OrderInboundChangedEvent(id));
     }
 
 
+    // 출고 대상 LOT: 매 요청 DB 집계 대신 인메모리 인덱스에서 응답
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<OrderInboundDTO> findInboundHistoriesForOutbound() {
-        return orderInboundRepository.findInboundHistoriesForOutbound();
+        return outboundEligibilityIndex.findAll();
     }
 
     public List<OrderInboundDTO> findAllByOrderInbound() {
-        List<OrderInbound> orderInboundList = orderInboundRepository.findByDeletedAtIsNull(); // ✅ 삭제되지 않은 데이터만 조회
+        List<OrderInbound> orderInboundList = orderInboundRepository.findByActiveTrue(); // ✅ 삭제되지 않은 데이터만 조회
 
         return orderInboundList.stream()
                 .map(oi -> OrderInboundDTO.builder()
@@ -56,15 +77,30 @@ public class OrderInboundService {
                 ).toList();
     }
 
-    public void updateInbound(Long id, OrderInboundDTO orderInboundDTO) {
-        OrderInbound entity = orderInboundRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 입고 기록입니다."));
+    // 입고 이력 키셋 페이지 조회
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderInboundDTO> findHistoryPage(HistorySearchDTO search, String cursor, int size) {
+        int limit = CursorPageDTO.clampSize(size);
+        PageCursor pageCursor = PageCursor.decode(cursor);
 
-        entity.setQty(orderInboundDTO.getQty());
-        entity.setInboundDate(orderInboundDTO.getInboundDate());
+        List<OrderInboundDTO> rows = orderInboundRepository.findHistoryPage(search, pageCursor, limit + 1);
+        Long totalCount = pageCursor == null ? orderInboundRepository.countHistory(search, CursorPageDTO.COUNT_LIMIT + 1) : null;
 
-        orderInboundRepository.save(entity);
+        return CursorPageDTO.of(rows, limit, dto -> new PageCursor(dto.getInboundDate(), dto.getOrderInboundId()), totalCount);
+    }
 
+    public void updateInbound(Long id, OrderInboundDTO orderInboundDTO) {
+        if (orderInboundDTO.getQty() == null || orderInboundDTO.getQty() <= 0) {
+            throw new IllegalArgumentException("입고 수량은 0보다 커야 합니다.");
+        }
+
+        // 조건부 UPDATE - 이미 출고된 수량보다 작게 줄이면 0건 반영
+        if (orderInboundRepository.updateQtyAndInboundDate(id, orderInboundDTO.getQty(), orderInboundDTO.getInboundDate()) == 0) {
+            OrderInbound entity = orderInboundRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 입고 기록입니다."));
+            throw new IllegalArgumentException("입고 수량은 이미 출고된 수량(" + entity.getShippedQty() + ")보다 작을 수 없습니다.");
+        }
+        eventPublisher.publishEvent(new OrderInboundChangedEvent(id));
     }
 
 
@@ -81,7 +117,7 @@ public class OrderInboundService {
                 .inboundDate(dto.getInboundDate())
                 .itemCode(dto.getItemCode())
                 .itemName(dto.getItemName())
-                .lotNo(generateLotNo())
+                .lotNo(documentNumberService.next(DocumentType.LOT, LocalDate.now()))
                 .note(dto.getNote())
                 .paintType(dto.getPaintType())
                 .qty(dto.getQty())
@@ -91,17 +127,85 @@ public class OrderInboundService {
         orderInboundRepository.save(entity);
     }
 
-    private String generateLotNo() {
-        String today = new SimpleDateFormat("yyyyMMdd").format(new Date());
+    /**
+     * 일괄 입고 등록 (트럭 1대분 랙 전체).
+     * 품목은 한 번의 조회로 검증하고, 한 행이라도 실패하면 아무것도 등록하지 않고 행별 사유만 돌려준다.
+     * 모두 통과하면 연속된 LOT번호 블록을 받아 한 트랜잭션에서 배치 insert.
+     */
+    public List<OrderInboundBulkResultDTO> saveAll(List<OrderInboundDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new IllegalArgumentException("등록할 입고 내역이 없습니다.");
+        }
+        if (dtos.size() > MAX_BULK_LINES) {
+            throw new IllegalArgumentException("일괄 입고는 한 번에 " + MAX_BULK_LINES + "건까지 등록할 수 있습니다.");
+        }
 
-        String lastLotNo = orderInboundRepository.findLastLotNoByInboundDate(today); // ✅ 문자열로 전달
+        // 1️⃣ 품목 + 업체 한 번에 조회
+        Set<Long> orderItemIds = dtos.stream()
+                .map(OrderInboundDTO::getOrderItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, OrderItem> orderItems = orderItemRepository.findAllWithCompanyByIdIn(orderItemIds).stream()
+                .collect(Collectors.toMap(OrderItem::getOrderItemId, Function.identity()));
+
+        // 2️⃣ 행별 검증
+        List<OrderInboundBulkResultDTO> results = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            String error = validateBulkLine(dtos.get(i), orderItems);
+            results.add(OrderInboundBulkResultDTO.builder()
+                    .line(i + 1)
+                    .success(error == null)
+                    .message(error)
+                    .build());
+        }
+        if (results.stream().anyMatch(r -> !r.isSuccess())) {
+            return results;
+        }
+
+        // 3️⃣ 연속 LOT번호 블록 발급 → 배치 insert
+        List<String> lotNos = documentNumberService.nextBlock(DocumentType.LOT, LocalDate.now(), dtos.size());
+        List<OrderInbound> entities = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            OrderInboundDTO dto = dtos.get(i);
+            OrderItem orderItem = orderItems.get(dto.getOrderItemId());
+            entities.add(OrderInbound.builder()
+                    .orderItem(orderItem)
+                    .category(dto.getCategory() != null ? dto.getCategory() : orderItem.getCategory())
+                    .customerName(dto.getCustomerName() != null ? dto.getCustomerName() : orderItem.getCompany().getCompanyName())
+                    .inboundDate(dto.getInboundDate())
+                    .itemCode(dto.getItemCode() != null ? dto.getItemCode() : orderItem.getItemCode())
+                    .itemName(dto.getItemName() != null ? dto.getItemName() : orderItem.getItemName())
+                    .lotNo(lotNos.get(i))
+                    .note(dto.getNote())
+                    .paintType(dto.getPaintType() != null ? dto.getPaintType() : orderItem.getPaintType())
+                    .qty(dto.getQty())
+                    .company(orderItem.getCompany())
+                    .build());
+        }
+        orderInboundRepository.saveAll(entities);
 
-        int nextSequence = 1;
-        if (lastLotNo != null && lastLotNo.matches("LOT-" + today + "-\\d{3}")) {
-            String[] parts = lastLotNo.split("-");
-            nextSequence = Integer.parseInt(parts[2]) + 1;
+        for (int i = 0; i < entities.size(); i++) {
+            results.get(i).setOrderInboundId(entities.get(i).getOrderInboundId());
+            results.get(i).setLotNo(entities.get(i).getLotNo());
         }
+        log.info("일괄 입고 등록: {}건 ({} ~ {})", entities.size(), lotNos.get(0), lotNos.get(lotNos.size() - 1));
+        return results;
+    }
 
-        return String.format("LOT-%s-%03d", today, nextSequence);
+    // 검증 실패 사유 (통과 시 null)
+    private static String validateBulkLine(OrderInboundDTO dto, Map<Long, OrderItem> orderItems) {
+        if (dto.getOrderItemId() == null) {
+            return "수주 품목이 지정되지 않았습니다.";
+        }
+        if (!orderItems.containsKey(dto.getOrderItemId())) {
+            return "존재하지 않는 수주 품목입니다.";
+        }
+        if (dto.getQty() == null || dto.getQty() <= 0) {
+            return "입고 수량은 1 이상이어야 합니다.";
+        }
+        if (dto.getInboundDate() == null) {
+            return "입고일자가 없습니다.";
+        }
+        return null;
     }
 }
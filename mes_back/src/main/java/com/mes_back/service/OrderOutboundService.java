@@ -1,23 +1,25 @@
 package com.mes_back.service;
 
+import com.mes_back.constant.DocumentType;
+import com.mes_back.dto.CursorPageDTO;
+import com.mes_back.dto.HistorySearchDTO;
 import com.mes_back.dto.OrderOutboundDto;
+import com.mes_back.dto.PageCursor;
 import com.mes_back.entity.OrderInbound;
 import com.mes_back.entity.OrderOutbound;
+import com.mes_back.event.OrderInboundChangedEvent;
+import com.mes_back.exception.ShippedQtyConflictException;
 import com.mes_back.repository.OrderInboundRepository;
 import com.mes_back.repository.OrderOutboundRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,59 +28,36 @@ public class OrderOutboundService {
 
     private final OrderOutboundRepository orderOutboundRepository;
     private final OrderInboundRepository orderInboundRepository;
-
-    private static final int MAX_RETRIES = 5;
+    private final DocumentNumberService documentNumberService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * 안전하게 출고 등록
+     * 출고 등록 (출고번호는 DocumentNumberService 에서 중복 없이 발급되므로 재시도 불필요)
      */
+    @Transactional
     public OrderOutboundDto addOrderOutbound(OrderOutboundDto dto) {
-        int attempt = 0;
-
-        while (true) {
-            try {
-                return saveOutbound(dto);
-            } catch (DataIntegrityViolationException e) {
-                // 🔹 unique 제약 위반만 재시도
-                if (!e.getMostSpecificCause().getMessage().contains("outbound_no")) {
-                    throw e;
-                }
-
-                attempt++;
-                if (attempt >= MAX_RETRIES) {
-                    throw new RuntimeException("출고번호 생성 충돌 발생. 잠시 후 다시 시도해주세요.");
-                }
-
-                // 🔹 랜덤 백오프 적용: 50~150ms
-                try {
-                    Thread.sleep(50 + ThreadLocalRandom.current().nextInt(100));
-                } catch (InterruptedException ignored) {}
-            }
-        }
+        return saveOutbound(dto);
     }
 
-    @Transactional
-    protected OrderOutboundDto saveOutbound(OrderOutboundDto dto) {
-        OrderInbound orderInbound = orderInboundRepository.findById(dto.getOrderInboundId())
-                .orElseThrow(() -> new IllegalArgumentException("해당 입고 정보를 찾을 수 없습니다. id=" + dto.getOrderInboundId()));
-
-        // 🔹 현재까지 출고된 수량 조회
-        Long currentTotalOutboundQty = orderOutboundRepository.sumOutboundQtyByOrderInbound(orderInbound)
-                .orElse(0L); // 출고된 수량이 없으면 0으로 간주
-
-        // 🔹 잔여 수량 계산
-        Long availableQty = orderInbound.getQty() - currentTotalOutboundQty;
-
+    private OrderOutboundDto saveOutbound(OrderOutboundDto dto) {
         // 🔹 출고 가능 여부 검증
-        if (dto.getQty() <= 0) {
+        if (dto.getQty() == null || dto.getQty() <= 0) {
             throw new IllegalArgumentException("출고 수량은 0보다 커야 합니다.");
         }
-        if (dto.getQty() > availableQty) {
-            throw new IllegalArgumentException("출고 수량이 입고 잔여 수량(" + availableQty + ")을 초과할 수 없습니다.");
+
+        // 🔹 누적 출고수량 선반영 (잔여 수량을 넘으면 0건 반영 → 출고 불가)
+        if (orderInboundRepository.addShippedQty(dto.getOrderInboundId(), dto.getQty()) == 0) {
+            meterRegistry.counter("mes.outbound.rejected", "reason", "remaining_qty").increment();
+            OrderInbound orderInbound = findOrderInbound(dto.getOrderInboundId());
+            throw new ShippedQtyConflictException(dto.getOrderInboundId(), dto.getQty(),
+                    "출고 수량이 입고 잔여 수량(" + orderInbound.getRemainingQty() + ")을 초과할 수 없습니다.");
         }
+        OrderInbound orderInbound = findOrderInbound(dto.getOrderInboundId());
+        eventPublisher.publishEvent(new OrderInboundChangedEvent(orderInbound.getOrderInboundId())); // 잔여수량 변경
 
-        // 🔹 트랜잭션 안에서 안전하게 출고번호 생성
-        String outboundNo = generateOutboundNo();
+        // 🔹 출고번호 발급
+        String outboundNo = documentNumberService.next(DocumentType.ORDER_OUTBOUND, LocalDate.now());
 
         OrderOutbound orderOutbound = OrderOutbound.builder()
                 .orderInbound(orderInbound)
@@ -89,7 +68,7 @@ public class OrderOutboundService {
                 .category(dto.getCategory())
                 .outboundNo(outboundNo)
                 .outboundDate(LocalDate.now())
-                .remainingQuantity(availableQty - dto.getQty()) // Calculate and set remainingQuantity
+                .remainingQuantity(orderInbound.getRemainingQty()) // 출고 직후 잔여 수량
                 .build();
 
         OrderOutbound saved = orderOutboundRepository.save(orderOutbound);
@@ -110,40 +89,13 @@ public class OrderOutboundService {
                 .build();
     }
 
-    protected String generateOutboundNo() {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String prefix = "OUT-" + today + "-";
-
-        Optional<String> lastNoOptional = orderOutboundRepository.findMaxOutboundNoNative(prefix);
-        int nextSeq = 1;
-        if (lastNoOptional.isPresent()) {
-            String lastNo = lastNoOptional.get();
-            String lastSeq = lastNo.substring(lastNo.lastIndexOf("-") + 1);
-            nextSeq = Integer.parseInt(lastSeq) + 1;
-        }
-
-        // 🔹 번호 자리수
-        if (nextSeq > 999) throw new IllegalStateException("출고번호가 999를 초과했습니다.");
-
-        return prefix + String.format("%03d", nextSeq);
-    }
-
     @Transactional(readOnly = true)
     public List<OrderOutboundDto> findAll() {
         List<OrderOutbound> allOutbounds = orderOutboundRepository.findAll();
 
-        // Group outbounds by their associated OrderInbound for efficient calculation
-        Map<Long, Long> inboundIdToTotalOutboundQty = allOutbounds.stream()
-                .collect(Collectors.groupingBy(
-                        outbound -> outbound.getOrderInbound().getOrderInboundId(),
-                        Collectors.summingLong(OrderOutbound::getQty)
-                ));
-
         return allOutbounds.stream()
                 .map(o -> {
                     OrderInbound orderInbound = o.getOrderInbound();
-                    Long totalOutboundForThisInbound = inboundIdToTotalOutboundQty.getOrDefault(orderInbound.getOrderInboundId(), 0L);
-                    Long dynamicRemainingQuantity = orderInbound.getQty() - totalOutboundForThisInbound;
 
                     return OrderOutboundDto.builder()
                             .id(o.getId())
@@ -157,54 +109,85 @@ public class OrderOutboundService {
                             .outboundDate(o.getOutboundDate())
                             .inboundDate(orderInbound.getInboundDate())
                             .color(o.getOrderInbound().getOrderItem().getColor())
-                            .remainingQuantity(dynamicRemainingQuantity) // Dynamically calculated
-                            .maxUpdatableQty(orderInbound.getQty() - (inboundIdToTotalOutboundQty.getOrDefault(orderInbound.getOrderInboundId(), 0L) - o.getQty())) // Calculate maxUpdatableQty
+                            .remainingQuantity(orderInbound.getRemainingQty())
+                            .maxUpdatableQty(orderInbound.getRemainingQty() + o.getQty()) // 이 출고건을 제외한 잔여 수량
                             .build();
                 })
                 .collect(Collectors.toList());
     }
 
 
-    @Transactional
-    public OrderOutboundDto updateOrderOutbound(OrderOutboundDto orderOutboundDto) {
-        OrderOutbound existingOrderOutbound = orderOutboundRepository.findById(orderOutboundDto.getId())
-                .orElseThrow(() -> new EntityNotFoundException("OrderOutbound not found with id: " + orderOutboundDto.getId()));
+    // 출고 이력 키셋 페이지 조회
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderOutboundDto> findHistoryPage(HistorySearchDTO search, String cursor, int size) {
+        int limit = CursorPageDTO.clampSize(size);
+        PageCursor pageCursor = PageCursor.decode(cursor);
 
-        OrderInbound orderInbound = orderInboundRepository.findById(orderOutboundDto.getOrderInboundId())
-                .orElseThrow(() -> new IllegalArgumentException("해당 입고 정보를 찾을 수 없습니다. id=" + orderOutboundDto.getOrderInboundId()));
+        List<OrderOutboundDto> rows = orderOutboundRepository.findHistoryPage(search, pageCursor, limit + 1);
+        Long totalCount = pageCursor == null ? orderOutboundRepository.countHistory(search, CursorPageDTO.COUNT_LIMIT + 1) : null;
 
-        // Calculate total outbound quantity for this orderInbound, excluding the current outbound record being updated
-        List<OrderOutbound> otherOutbounds = orderOutboundRepository.findByOrderInbound_OrderInboundId(orderOutboundDto.getOrderInboundId())
-                .stream()
-                .filter(oo -> !oo.getId().equals(existingOrderOutbound.getId()))
-                .collect(Collectors.toList());
+        return CursorPageDTO.of(rows, limit, dto -> new PageCursor(dto.getOutboundDate(), dto.getId()), totalCount);
+    }
 
-        Long totalOtherOutboundQty = otherOutbounds.stream()
-                .mapToLong(OrderOutbound::getQty)
-                .sum();
+    @Transactional
+    public OrderOutboundDto updateOrderOutbound(OrderOutboundDto orderOutboundDto) {
+        if (orderOutboundDto.getQty() == null || orderOutboundDto.getQty() <= 0) {
+            throw new IllegalArgumentException("출고 수량은 0보다 커야 합니다.");
+        }
 
-        Long newTotalOutboundQty = totalOtherOutboundQty + orderOutboundDto.getQty();
+        OrderOutbound existingOrderOutbound = findOrderOutbound(orderOutboundDto.getId());
+        Long orderInboundId = existingOrderOutbound.getOrderInbound().getOrderInboundId();
 
-        if (orderOutboundDto.getQty() <= 0) {
-            throw new IllegalArgumentException("출고 수량은 0보다 커야 합니다.");
+        // 🔹 변경분만큼 누적 출고수량 증감 (입고 수량 초과 시 0건 반영)
+        long delta = orderOutboundDto.getQty() - existingOrderOutbound.getQty();
+        if (delta != 0 && orderInboundRepository.addShippedQty(orderInboundId, delta) == 0) {
+            meterRegistry.counter("mes.outbound.rejected", "reason", "remaining_qty").increment();
+            OrderInbound orderInbound = findOrderInbound(orderInboundId);
+            throw new ShippedQtyConflictException(orderInboundId, delta,
+                    "총 출고 수량이 입고 수량(" + orderInbound.getQty() + ")을 초과할 수 없습니다.");
         }
-        if (newTotalOutboundQty > orderInbound.getQty()) {
-            throw new IllegalArgumentException("총 출고 수량이 입고 수량(" + orderInbound.getQty() + ")을 초과할 수 없습니다.");
+
+        if (delta != 0) {
+            eventPublisher.publishEvent(new OrderInboundChangedEvent(orderInboundId));
         }
 
+        // 조건부 UPDATE 로 영속성 컨텍스트가 비워졌으므로 다시 조회
+        existingOrderOutbound = findOrderOutbound(orderOutboundDto.getId());
+        OrderInbound orderInbound = findOrderInbound(orderInboundId);
+
         existingOrderOutbound.updateOrderOutbound(orderOutboundDto);
-        existingOrderOutbound.setRemainingQuantity(orderInbound.getQty() - newTotalOutboundQty); // Update remainingQuantity
+        existingOrderOutbound.setRemainingQuantity(orderInbound.getRemainingQty());
 
-        // Calculate maxUpdatableQty for the returned DTO
-        Long maxUpdatableQty = orderInbound.getQty() - totalOtherOutboundQty;
-        orderOutboundDto.setMaxUpdatableQty(maxUpdatableQty);
+        orderOutboundDto.setOrderInboundId(orderInboundId);
+        orderOutboundDto.setRemainingQuantity(orderInbound.getRemainingQty());
+        orderOutboundDto.setMaxUpdatableQty(orderInbound.getRemainingQty() + orderOutboundDto.getQty());
 
         return orderOutboundDto;
     }
 
     @Transactional
     public Long deleteOrderOutbound(Long id) {
+        OrderOutbound orderOutbound = findOrderOutbound(id);
+
+        // 🔹 삭제된 출고 수량만큼 누적 출고수량 복원 (0건 반영 → 누적 출고수량이 출고 이력보다 작음)
+        Long orderInboundId = orderOutbound.getOrderInbound().getOrderInboundId();
+        if (orderInboundRepository.addShippedQty(orderInboundId, -orderOutbound.getQty()) == 0) {
+            meterRegistry.counter("mes.outbound.rejected", "reason", "shipped_qty_drift").increment();
+            throw new ShippedQtyConflictException(orderInboundId, -orderOutbound.getQty(),
+                    "누적 출고수량이 삭제할 출고 수량보다 작습니다.");
+        }
         orderOutboundRepository.deleteById(id);
+        eventPublisher.publishEvent(new OrderInboundChangedEvent(orderInboundId));
         return id;
     }
+
+    private OrderInbound findOrderInbound(Long orderInboundId) {
+        return orderInboundRepository.findById(orderInboundId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 입고 정보를 찾을 수 없습니다. id=" + orderInboundId));
+    }
+
+    private OrderOutbound findOrderOutbound(Long id) {
+        return orderOutboundRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("OrderOutbound not found with id: " + id));
+    }
 }
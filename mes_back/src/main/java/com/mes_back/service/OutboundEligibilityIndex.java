@@ -0,0 +1,167 @@
+package com.mes_back.service;
+
+import com.mes_back.dto.OrderInboundDTO;
+import com.mes_back.entity.OutboundIndexChange;
+import com.mes_back.event.OrderInboundChangedEvent;
+import com.mes_back.event.ProcessStatusChangedEvent;
+import com.mes_back.repository.OrderInboundRepository;
+import com.mes_back.repository.OutboundIndexChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 출고 대상 LOT (가장 최근 시작 공정이 완료된 활성 입고) 인메모리 인덱스.
+ * - 기동 시 DB 에서 전체 적재, 이후 주기적으로 전체 재적재해 어긋남 보정
+ * - 공정 상태/출고/입고 변경이 커밋되면 해당 LOT 만 '갱신 필요'로 표시
+ * - 조회 시 표시된 LOT 만 한 번에 다시 읽어 반영 → 같은 인스턴스에서 커밋된 변경은 다음 조회에 항상 보임
+ * - 다른 인스턴스의 변경: 변경 트랜잭션이 커밋 직전에 outbound_index_change 에 LOT id 를 남기고,
+ *   각 인스턴스가 poll-interval 마다 읽어 '갱신 필요'로 표시 → 어긋나는 시간은 최대 poll-interval 정도
+ *   (폴링은 DB 시각 created_at 기준, 늦게 커밋된 행을 놓치지 않도록 commit-grace 만큼 겹쳐 읽음)
+ * 판정 기준은 기존 후보 쿼리(findInboundHistoriesForOutbound)를 그대로 사용한다.
+ */
+@Service
+@Slf4j
+public class OutboundEligibilityIndex {
+
+    private static final Comparator<OrderInboundDTO> ORDER = Comparator.comparing(OrderInboundDTO::getOrderInboundId);
+
+    private static final LocalDateTime POLL_FLOOR = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final OrderInboundRepository orderInboundRepository;
+    private final OutboundIndexChangeRepository changeRepository;
+    private final Duration commitGrace;
+
+    // 폴링 상태 (스케줄러에서만 사용, 정리 작업은 watermark 만 읽음)
+    private volatile LocalDateTime watermark; // 지금까지 읽은 가장 늦은 created_at
+    private final Map<Long, LocalDateTime> seenChanges = new HashMap<>(); // 겹쳐 읽는 구간에서 이미 반영한 로그 id
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Map<Long, OrderInboundDTO> candidates = new ConcurrentHashMap<>();
+    private volatile List<OrderInboundDTO> view; // 응답용 정렬 스냅샷 (null = 미적재)
+
+    public OutboundEligibilityIndex(OrderInboundRepository orderInboundRepository,
+                                    OutboundIndexChangeRepository changeRepository,
+                                    @Value("${outbound-index.commit-grace:30s}") Duration commitGrace) {
+        this.orderInboundRepository = orderInboundRepository;
+        this.changeRepository = changeRepository;
+        this.commitGrace = commitGrace;
+    }
+
+    /** 출고 화면 후보 목록 (변경이 없으면 DB 조회/커넥션 없이 스냅샷 반환) */
+    public List<OrderInboundDTO> findAll() {
+        if (view == null) {
+            rebuild();
+        }
+        if (!dirty.isEmpty()) {
+            refreshDirty();
+        }
+        return view;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${outbound-index.reconcile-interval:10m}",
+            fixedDelayString = "${outbound-index.reconcile-interval:10m}")
+    public void rebuild() {
+        refreshLock.lock();
+        try {
+            // 전체 재적재 중 커밋된 변경은 dirty 에 남아 다음 조회 때 다시 반영됨
+            List<OrderInboundDTO> rows = orderInboundRepository.findInboundHistoriesForOutbound();
+            candidates.clear();
+            rows.forEach(dto -> candidates.put(dto.getOrderInboundId(), dto));
+            publishView();
+            log.debug("출고 대상 인덱스 재적재: {}건", rows.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProcessStatusChanged(ProcessStatusChangedEvent event) {
+        dirty.add(event.orderInboundId());
+    }
+
+    @TransactionalEventListener
+    public void onOrderInboundChanged(OrderInboundChangedEvent event) {
+        dirty.add(event.orderInboundId());
+    }
+
+    // 다른 인스턴스용 변경 로그 (변경과 같은 트랜잭션 - 롤백되면 남지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void logProcessStatusChanged(ProcessStatusChangedEvent event) {
+        changeRepository.save(OutboundIndexChange.builder().orderInboundId(event.orderInboundId()).build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void logOrderInboundChanged(OrderInboundChangedEvent event) {
+        changeRepository.save(OutboundIndexChange.builder().orderInboundId(event.orderInboundId()).build());
+    }
+
+    // 다른 인스턴스(자기 자신 포함)가 남긴 변경 로그 → 해당 LOT 갱신 필요 표시
+    @Scheduled(initialDelayString = "${outbound-index.poll-interval:2s}", fixedDelayString = "${outbound-index.poll-interval:2s}")
+    public void pollChanges() {
+        if (watermark == null) {
+            // 기동 직후 - 이전 변경은 전체 적재에 반영됨 (적재와 겹치는 구간은 commit-grace 로 다시 읽음)
+            watermark = changeRepository.findLatestCreatedAt().orElse(POLL_FLOOR);
+        }
+        LocalDateTime since = watermark.minus(commitGrace);
+        for (OutboundIndexChange change : changeRepository.findByCreatedAtGreaterThanEqual(since)) {
+            if (seenChanges.putIfAbsent(change.getId(), change.getCreatedAt()) == null) {
+                dirty.add(change.getOrderInboundId());
+            }
+            if (change.getCreatedAt().isAfter(watermark)) {
+                watermark = change.getCreatedAt();
+            }
+        }
+        seenChanges.values().removeIf(createdAt -> createdAt.isBefore(since));
+    }
+
+    // 하루 지난 변경 로그 정리
+    @Scheduled(initialDelayString = "${outbound-index.change-cleanup-interval:1h}",
+            fixedDelayString = "${outbound-index.change-cleanup-interval:1h}")
+    public void purgeChanges() {
+        if (watermark != null) {
+            changeRepository.deleteCreatedBefore(watermark.minusDays(1));
+        }
+    }
+
+    private void refreshDirty() {
+        refreshLock.lock();
+        try {
+            if (dirty.isEmpty()) {
+                return;
+            }
+            // 표시를 먼저 지우고 조회 → 조회 중 새로 커밋된 변경은 다시 표시되어 누락되지 않음
+            List<Long> ids = new ArrayList<>(dirty);
+            dirty.removeAll(ids);
+
+            ids.forEach(candidates::remove);
+            orderInboundRepository.findOutboundCandidatesByIds(ids)
+                    .forEach(dto -> candidates.put(dto.getOrderInboundId(), dto));
+            publishView();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void publishView() {
+        view = candidates.values().stream().sorted(ORDER).toList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.mes_back.service;
+
+import com.mes_back.dto.ProcessLoadDTO;
+import com.mes_back.repository.ProcessTrackingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 공정별 진행 중 LOT 수 게이지 (mes.process.open_lots, 태그: process_code, process_name).
+ * 스크랩마다 DB 를 조회하지 않도록 주기적으로 집계해 MultiGauge 를 덮어쓴다.
+ * (진행 중 LOT 이 없어진 공정은 다음 집계에서 시계열이 제거됨)
+ */
+@Service
+@Slf4j
+public class ProcessLoadMetricsService {
+
+    private final ProcessTrackingRepository processTrackingRepository;
+    private final MultiGauge openLots;
+
+    public ProcessLoadMetricsService(ProcessTrackingRepository processTrackingRepository, MeterRegistry meterRegistry) {
+        this.processTrackingRepository = processTrackingRepository;
+        this.openLots = MultiGauge.builder("mes.process.open_lots")
+                .description("공정별 진행 중 LOT 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${metrics.open-lots-refresh:30s}",
+            fixedDelayString = "${metrics.open-lots-refresh:30s}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        List<ProcessLoadDTO> rows = processTrackingRepository.countOpenLotsByProcess();
+        openLots.register(rows.stream()
+                .map(row -> MultiGauge.Row.of(
+                        Tags.of("process_code", row.getProcessCode(), "process_name", row.getProcessName()),
+                        row.getOpenLots()))
+                .toList(), true);
+        log.debug("공정별 진행 중 LOT 지표 갱신: {}개 공정", rows.size());
+    }
+}
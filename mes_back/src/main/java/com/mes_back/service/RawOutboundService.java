@@ -1,11 +1,13 @@
 package com.mes_back.service;
 
+import com.mes_back.constant.DocumentType;
+import com.mes_back.dto.CursorPageDTO;
+import com.mes_back.dto.HistorySearchDTO;
 import com.mes_back.dto.MaterialOutboundDTO;
+import com.mes_back.dto.PageCursor;
 import com.mes_back.entity.MaterialInbound;
 import com.mes_back.entity.MaterialItem;
 import com.mes_back.entity.MaterialOutbound;
-import com.mes_back.entity.MaterialStock;
-import com.mes_back.repository.MaterialStockRepository;
 import com.mes_back.repository.RawInboundRepository;
 import com.mes_back.repository.RawOutboundRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +15,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,7 +25,8 @@ public class RawOutboundService {
 
     private final RawOutboundRepository outboundRepository;
     private final RawInboundRepository inboundRepository;
-    private final MaterialStockRepository stockRepository;
+    private final MaterialStockService materialStockService;
+    private final DocumentNumberService documentNumberService;
 
     // ✅ 출고 전체 조회
     @Transactional(readOnly = true)
@@ -34,6 +36,18 @@ public class RawOutboundService {
                 .collect(Collectors.toList());
     }
 
+    // ✅ 출고 이력 키셋 페이지 조회
+    @Transactional(readOnly = true)
+    public CursorPageDTO<MaterialOutboundDTO> findHistoryPage(HistorySearchDTO search, String cursor, int size) {
+        int limit = CursorPageDTO.clampSize(size);
+        PageCursor pageCursor = PageCursor.decode(cursor);
+
+        List<MaterialOutboundDTO> rows = outboundRepository.findHistoryPage(search, pageCursor, limit + 1);
+        Long totalCount = pageCursor == null ? outboundRepository.countHistory(search, CursorPageDTO.COUNT_LIMIT + 1) : null;
+
+        return CursorPageDTO.of(rows, limit, dto -> new PageCursor(dto.getOutboundDate(), dto.getId()), totalCount);
+    }
+
     // ✅ 출고 등록 (출고 시 재고 차감)
     public void add(MaterialOutboundDTO dto) {
         // 1️⃣ material_inbound_id로 MaterialInbound 조회
@@ -43,23 +57,11 @@ public class RawOutboundService {
         // 2️⃣ 해당 MaterialItem 조회 (MaterialInbound -> MaterialItem)
         MaterialItem item = inbound.getMaterialItem();
 
-        // 3️⃣ 재고 조회 및 차감
-        MaterialStock stock = stockRepository.findByMaterialInbound(inbound)
-                .orElseThrow(() -> new RuntimeException("해당 품목의 재고 정보가 없습니다."));
-
-        if (dto.getQty() > stock.getTotalQty()) {
-            throw new RuntimeException("출고 수량이 재고 수량보다 많습니다.");
-        }
-//        long usedQty = dto.getQty() * item.getSpecQty();
-        stock.setTotalQty(stock.getTotalQty() - dto.getQty());
-        stockRepository.save(stock);
+        // 3️⃣ 재고 차감 (잔량 부족 시 InsufficientStockException)
+        materialStockService.decrease(inbound.getId(), dto.getQty());
 
         // 4️⃣ 출고번호 자동 생성
-        LocalDate today = LocalDate.now();
-        Long count = outboundRepository.countByDate(today);
-
-        String sequence = String.format("%03d", count + 1);
-        String outboundNo = "MOUT-" + today.format(DateTimeFormatter.BASIC_ISO_DATE) + "-" + sequence;
+        String outboundNo = documentNumberService.next(DocumentType.MATERIAL_OUTBOUND, LocalDate.now());
 
         // 5️⃣ 출고 엔티티 생성
         MaterialOutbound outbound = new MaterialOutbound();
@@ -78,21 +80,16 @@ public class RawOutboundService {
         MaterialOutbound outbound = outboundRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("출고 내역을 찾을 수 없습니다."));
 
-        MaterialStock stock = stockRepository.findByMaterialInbound(outbound.getMaterialInbound())
-                .orElseThrow(() -> new RuntimeException("재고 정보를 찾을 수 없습니다."));
-
-
         // 1️⃣ 출고 수량 변경 시 재고 조정
         if (!outbound.getQty().equals(dto.getQty())) {
             long diff = dto.getQty() - outbound.getQty(); // 변경량
-//            long adjustQty = diff * outbound.getSpecQty(); // 실제 재고 조정량
+            Long materialInboundId = outbound.getMaterialInbound().getId();
 
-            long newStock = stock.getTotalQty() - diff;
-            if (newStock < 0) {
-                throw new RuntimeException("재고 수량이 부족합니다.");
+            if (diff > 0) {
+                materialStockService.decrease(materialInboundId, diff);
+            } else {
+                materialStockService.increase(materialInboundId, -diff);
             }
-            stock.setTotalQty(newStock);
-            stockRepository.save(stock);
 
             outbound.setQty(dto.getQty());
         }
@@ -111,13 +108,7 @@ public class RawOutboundService {
         MaterialOutbound outbound = outboundRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("출고 내역을 찾을 수 없습니다."));
 
-        MaterialStock stock = stockRepository.findByMaterialInbound(outbound.getMaterialInbound())
-                .orElseThrow(() -> new RuntimeException("재고 정보를 찾을 수 없습니다."));
-
-
-//        long restoreQty = outbound.getQty() * outbound.getSpecQty();
-        stock.setTotalQty(stock.getTotalQty() + outbound.getQty());
-        stockRepository.save(stock);
+        materialStockService.increase(outbound.getMaterialInbound().getId(), outbound.getQty());
 
         outboundRepository.delete(outbound);
     }
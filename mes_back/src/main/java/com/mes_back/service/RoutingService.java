@@ -1,9 +1,13 @@
 package com.mes_back.service;
 
+import com.mes_back.config.CacheConfig;
 import com.mes_back.dto.RoutingDTO;
 import com.mes_back.entity.Routing;
 import com.mes_back.repository.RoutingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +28,7 @@ public class RoutingService {
      * @param dto 저장할 공정 정보 DTO
      * @return 저장된 Routing 엔티티
      */
+    @CacheEvict(cacheNames = CacheConfig.ROUTING_LIST, allEntries = true)
     public Routing save(RoutingDTO dto) {
         // 중복 공정 코드 체크
         if (routingRepository.existsByProcessCode(dto.getProcessCode())) {
@@ -46,6 +51,8 @@ public class RoutingService {
      * 전체 공정 목록을 화면에 보여주기 위해
      * @return Routing 엔티티 리스트
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ROUTING_LIST, key = "'all'")
     public List<RoutingDTO> findAll() {
         return routingRepository.findAll().stream()
                 .map(r -> new RoutingDTO(
@@ -59,6 +66,10 @@ public class RoutingService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ROUTING_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.ROUTING_LIST, allEntries = true)
+    })
     public void DeleteById(Long id) {
         Routing routing = routingRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공정입니다."));
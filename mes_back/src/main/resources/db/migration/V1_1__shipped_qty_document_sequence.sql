@@ -0,0 +1,13 @@
+-- 기준선(V1) 이후 추가된 컬럼/테이블 - 기준선으로 건너뛴 기존 DB에도 V2 보정 전에 적용된다.
+
+-- 누적 출고수량 (값은 V2 에서 출고 이력으로 보정)
+ALTER TABLE order_inbound ADD COLUMN shipped_qty BIGINT NOT NULL DEFAULT 0;
+
+-- 문서번호(LOT/입고/출고번호) 채번 카운터 - (접두어, 일자) 별 다음 번호
+CREATE TABLE document_sequence (
+    seq_key    VARCHAR(30) NOT NULL,
+    prefix     VARCHAR(10) NOT NULL,
+    seq_date   DATE        NOT NULL,
+    next_value BIGINT      NOT NULL,
+    PRIMARY KEY (seq_key)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,168 @@
+-- 기존 ddl-auto: update 로 만들어진 스키마 기준선.
+-- 이미 운영 중인 DB는 spring.flyway.baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용된다.
+
+CREATE TABLE company (
+    company_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    type          ENUM ('CUSTOMER','PURCHASER') NOT NULL,
+    company_name  VARCHAR(255) NOT NULL,
+    ceo_name      VARCHAR(10)  NOT NULL,
+    address       VARCHAR(255) NOT NULL,
+    note          VARCHAR(255),
+    biz_reg_no    VARCHAR(12)  NOT NULL,
+    ceo_phone     VARCHAR(15),
+    manager_name  VARCHAR(10),
+    manager_phone VARCHAR(15),
+    manager_email VARCHAR(30),
+    status        VARCHAR(1)   NOT NULL,
+    deleted_at    TIMESTAMP(0) NULL,
+    PRIMARY KEY (company_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE routing (
+    routing_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    process_code VARCHAR(255) NOT NULL,
+    process_name VARCHAR(255) NOT NULL,
+    process_time INTEGER      NOT NULL,
+    note         VARCHAR(255),
+    PRIMARY KEY (routing_id),
+    CONSTRAINT uk_routing_process_code UNIQUE (process_code)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE order_item (
+    order_item_id BIGINT       NOT NULL AUTO_INCREMENT,
+    company_id    BIGINT       NOT NULL,
+    item_name     VARCHAR(255) NOT NULL,
+    item_code     VARCHAR(255) NOT NULL,
+    category      ENUM ('DEFENSE','GENERAL','AUTOMOTIVE','SHIPBUILDING') NOT NULL,
+    color         VARCHAR(100),
+    unit_price    BIGINT       NOT NULL,
+    paint_type    ENUM ('POWDER','LIQUID') NOT NULL,
+    note          VARCHAR(255),
+    use_yn        VARCHAR(1)   NOT NULL,
+    status        VARCHAR(1)   NOT NULL,
+    PRIMARY KEY (order_item_id),
+    CONSTRAINT fk_order_item_company FOREIGN KEY (company_id) REFERENCES company (company_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE order_item_img (
+    order_item_img_id BIGINT       NOT NULL AUTO_INCREMENT,
+    order_item_id     BIGINT       NOT NULL,
+    img_url           VARCHAR(255) NOT NULL,
+    img_ori_name      VARCHAR(255) NOT NULL,
+    img_name          VARCHAR(255) NOT NULL,
+    reg_yn            VARCHAR(255),
+    PRIMARY KEY (order_item_img_id),
+    CONSTRAINT fk_order_item_img_order_item FOREIGN KEY (order_item_id) REFERENCES order_item (order_item_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE order_item_routing (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    order_item_id BIGINT NOT NULL,
+    routing_id    BIGINT NOT NULL,
+    process_no    BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_item_routing_order_item FOREIGN KEY (order_item_id) REFERENCES order_item (order_item_id),
+    CONSTRAINT fk_order_item_routing_routing FOREIGN KEY (routing_id) REFERENCES routing (routing_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE order_inbound (
+    order_inbound_id BIGINT       NOT NULL AUTO_INCREMENT,
+    order_item_id    BIGINT       NOT NULL,
+    company_id       BIGINT,
+    customer_name    VARCHAR(255) NOT NULL,
+    item_name        VARCHAR(255) NOT NULL,
+    item_code        VARCHAR(255) NOT NULL,
+    qty              BIGINT       NOT NULL,
+    category         ENUM ('DEFENSE','GENERAL','AUTOMOTIVE','SHIPBUILDING') NOT NULL,
+    note             VARCHAR(255),
+    inbound_date     DATE         NOT NULL,
+    lot_no           VARCHAR(20)  NOT NULL,
+    paint_type       ENUM ('POWDER','LIQUID') NOT NULL,
+    deleted_at       DATETIME(6),
+    PRIMARY KEY (order_inbound_id),
+    CONSTRAINT fk_order_inbound_order_item FOREIGN KEY (order_item_id) REFERENCES order_item (order_item_id),
+    CONSTRAINT fk_order_inbound_company FOREIGN KEY (company_id) REFERENCES company (company_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE order_outbound (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    order_inbound_id   BIGINT       NOT NULL,
+    customer_name      VARCHAR(255) NOT NULL,
+    item_name          VARCHAR(255),
+    item_code          VARCHAR(255) NOT NULL,
+    qty                BIGINT       NOT NULL,
+    category           ENUM ('DEFENSE','GENERAL','AUTOMOTIVE','SHIPBUILDING') NOT NULL,
+    outbound_no        VARCHAR(20)  NOT NULL,
+    outbound_date      DATE         NOT NULL,
+    deleted_at         TIMESTAMP(0) NULL,
+    remaining_quantity BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_outbound_order_inbound FOREIGN KEY (order_inbound_id) REFERENCES order_inbound (order_inbound_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE process_tracking (
+    id                    BIGINT  NOT NULL AUTO_INCREMENT,
+    order_inbound_id      BIGINT  NOT NULL,
+    order_item_routing_id BIGINT  NOT NULL,
+    process_start_time    DATETIME(6),
+    process_status        INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_process_tracking_order_inbound FOREIGN KEY (order_inbound_id) REFERENCES order_inbound (order_inbound_id),
+    CONSTRAINT fk_process_tracking_order_item_routing FOREIGN KEY (order_item_routing_id) REFERENCES order_item_routing (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE material_item (
+    material_item_id BIGINT       NOT NULL AUTO_INCREMENT,
+    company_id       BIGINT       NOT NULL,
+    item_name        VARCHAR(255) NOT NULL,
+    item_code        VARCHAR(255) NOT NULL,
+    category         ENUM ('PAINT','THINNER','CLEANER','HARDENER') NOT NULL,
+    color            VARCHAR(100),
+    spec_qty         BIGINT       NOT NULL,
+    spec_unit        VARCHAR(5)   NOT NULL,
+    manufacturer     VARCHAR(255) NOT NULL,
+    note             VARCHAR(255),
+    use_yn           VARCHAR(1)   NOT NULL,
+    PRIMARY KEY (material_item_id),
+    CONSTRAINT fk_material_item_company FOREIGN KEY (company_id) REFERENCES company (company_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE material_inbound (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    material_item_id BIGINT       NOT NULL,
+    supplier_name    VARCHAR(255) NOT NULL,
+    item_name        VARCHAR(255) NOT NULL,
+    item_code        VARCHAR(255) NOT NULL,
+    spec_qty         BIGINT       NOT NULL,
+    spec_unit        VARCHAR(5)   NOT NULL,
+    manufacturer     VARCHAR(255) NOT NULL,
+    manufacte_date   DATE         NOT NULL,
+    qty              BIGINT       NOT NULL,
+    inbound_date     DATE         NOT NULL,
+    inbound_no       VARCHAR(255) NOT NULL,
+    total_qty        BIGINT       NOT NULL,
+    deleted_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_material_inbound_material_item FOREIGN KEY (material_item_id) REFERENCES material_item (material_item_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE material_stock (
+    id                  BIGINT     NOT NULL AUTO_INCREMENT,
+    material_inbound_id BIGINT     NOT NULL,
+    total_qty           BIGINT     NOT NULL,
+    unit                VARCHAR(5) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_material_stock_material_inbound FOREIGN KEY (material_inbound_id) REFERENCES material_inbound (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE material_outbound (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    material_inbound_id BIGINT       NOT NULL,
+    spec_qty            BIGINT       NOT NULL,
+    manufacturer        VARCHAR(255) NOT NULL,
+    qty                 BIGINT       NOT NULL,
+    outbound_date       DATE         NOT NULL,
+    outbound_no         VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_material_outbound_material_inbound FOREIGN KEY (material_inbound_id) REFERENCES material_inbound (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
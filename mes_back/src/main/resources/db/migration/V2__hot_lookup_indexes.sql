@@ -0,0 +1,34 @@
+-- 조회/채번 핫패스 인덱스 + 소프트 삭제 활성 플래그
+
+-- 1) 활성 행 플래그 (deleted_at IS NULL 을 인덱스로 탈 수 있도록 생성 컬럼으로 둠)
+ALTER TABLE company          ADD COLUMN active BOOLEAN GENERATED ALWAYS AS (deleted_at IS NULL) VIRTUAL;
+ALTER TABLE order_inbound    ADD COLUMN active BOOLEAN GENERATED ALWAYS AS (deleted_at IS NULL) VIRTUAL;
+ALTER TABLE order_outbound   ADD COLUMN active BOOLEAN GENERATED ALWAYS AS (deleted_at IS NULL) VIRTUAL;
+ALTER TABLE material_inbound ADD COLUMN active BOOLEAN GENERATED ALWAYS AS (deleted_at IS NULL) VIRTUAL;
+
+-- 2) 채번 (LOT-/MINC-/OUT-/MOUT- 접두어 LIKE → 인덱스 범위 검색)
+CREATE INDEX idx_order_inbound_lot_no        ON order_inbound (lot_no);
+CREATE INDEX idx_material_inbound_inbound_no ON material_inbound (inbound_no);
+CREATE INDEX idx_order_outbound_outbound_no  ON order_outbound (outbound_no);
+CREATE INDEX idx_material_outbound_outbound_no ON material_outbound (outbound_no);
+
+-- 3) 이력 목록 (활성 행 + 일자 역순 키셋 페이지)
+CREATE INDEX idx_order_inbound_active_date    ON order_inbound (active, inbound_date, order_inbound_id);
+CREATE INDEX idx_order_outbound_active_date   ON order_outbound (active, outbound_date, id);
+CREATE INDEX idx_material_inbound_active_date ON material_inbound (active, inbound_date, id);
+CREATE INDEX idx_material_outbound_date       ON material_outbound (outbound_date, id);
+
+-- 4) 기준정보 조회
+CREATE INDEX idx_company_company_name   ON company (company_name);
+CREATE INDEX idx_company_active_status  ON company (active, status);
+CREATE INDEX idx_material_item_item_code ON material_item (item_code);
+
+-- 5) 출고 대상 조회 (LOT 별 최근 시작 공정)
+CREATE INDEX idx_process_tracking_inbound_start ON process_tracking (order_inbound_id, process_start_time);
+
+-- 6) 누적 출고수량 보정 (shipped_qty 도입 전 출고 이력 반영, 기존 기동 시 재계산 대체)
+UPDATE order_inbound oi
+SET oi.shipped_qty = (SELECT COALESCE(SUM(oo.qty), 0)
+                      FROM order_outbound oo
+                      WHERE oo.order_inbound_id = oi.order_inbound_id
+                        AND oo.deleted_at IS NULL);
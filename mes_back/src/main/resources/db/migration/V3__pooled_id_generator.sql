@@ -0,0 +1,25 @@
+-- 대량 입력 엔티티의 PK 채번을 AUTO_INCREMENT → 풀링 테이블 채번(allocationSize 50)으로 전환
+-- (IDENTITY 는 insert 마다 키를 돌려받아야 해서 Hibernate JDBC 배치가 꺼짐)
+
+CREATE TABLE id_generator (
+    seq_name VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (seq_name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- pooled 최적화기는 읽은 값을 블록의 상한으로 쓰므로 (next_val - 49 ~ next_val)
+-- 기존 최대 키 + 51 부터 시작해야 첫 블록이 기존 행과 겹치지 않는다.
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'order_inbound', COALESCE(MAX(order_inbound_id), 0) + 51 FROM order_inbound;
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'order_outbound', COALESCE(MAX(id), 0) + 51 FROM order_outbound;
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'process_tracking', COALESCE(MAX(id), 0) + 51 FROM process_tracking;
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'order_item_img', COALESCE(MAX(order_item_img_id), 0) + 51 FROM order_item_img;
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'material_inbound', COALESCE(MAX(id), 0) + 51 FROM material_inbound;
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'material_stock', COALESCE(MAX(id), 0) + 51 FROM material_stock;
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'material_outbound', COALESCE(MAX(id), 0) + 51 FROM material_outbound;
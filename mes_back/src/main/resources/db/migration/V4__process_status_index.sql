@@ -0,0 +1,3 @@
+-- 공정 상태별 조회 (진행 중 LOT 게이지: process_status = 1 → 공정 단위 집계)
+-- 실행 계획 회귀 테스트(queryPlanTest)에서 process_tracking 전체 스캔으로 검출됨
+CREATE INDEX idx_process_tracking_status ON process_tracking (process_status, order_item_routing_id, order_inbound_id);
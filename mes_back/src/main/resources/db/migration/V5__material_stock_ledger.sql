@@ -0,0 +1,45 @@
+-- 원자재 재고 원장 (추가 전용) + 품목별 일 마감 스냅샷
+-- 재고 변동은 material_stock_movement 에 행을 추가만 하고, 품목별 재고/기준일 재고는 스냅샷 + 이후 변동분으로 계산한다.
+-- (material_stock.total_qty 는 입고 LOT 별 잔량 - 출고 시 초과 차감 방지용으로 유지)
+
+CREATE TABLE material_stock_movement (
+    id                  BIGINT      NOT NULL,
+    material_item_id    BIGINT      NOT NULL,
+    material_inbound_id BIGINT      NOT NULL,
+    movement_type       VARCHAR(20) NOT NULL,
+    delta               BIGINT      NOT NULL,
+    movement_date       DATE        NOT NULL,
+    created_at          DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_stock_movement_material_item FOREIGN KEY (material_item_id) REFERENCES material_item (material_item_id),
+    CONSTRAINT fk_stock_movement_material_inbound FOREIGN KEY (material_inbound_id) REFERENCES material_inbound (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE material_stock_snapshot (
+    id                       BIGINT      NOT NULL,
+    snapshot_date            DATE        NOT NULL,
+    material_item_id         BIGINT      NOT NULL,
+    qty                      BIGINT      NOT NULL,
+    last_material_inbound_id BIGINT,
+    created_at               DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_stock_snapshot_material_item FOREIGN KEY (material_item_id) REFERENCES material_item (material_item_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 스냅샷 이후 변동분 집계 (일자 범위 → 품목별 합계, 커버링)
+CREATE INDEX idx_stock_movement_date_item ON material_stock_movement (movement_date, material_item_id, delta, material_inbound_id);
+-- 하루 한 벌 (여러 인스턴스가 동시에 마감해도 한 번만 반영)
+CREATE UNIQUE INDEX uk_stock_snapshot_date_item ON material_stock_snapshot (snapshot_date, material_item_id);
+
+-- 기초 재고: 현재 입고 LOT 별 잔량을 오늘 일자 OPENING 변동으로 옮김 (이전 이력은 남아 있지 않으므로 기준일 조회는 오늘부터 유효)
+INSERT INTO material_stock_movement (id, material_item_id, material_inbound_id, movement_type, delta, movement_date, created_at)
+SELECT ROW_NUMBER() OVER (ORDER BY ms.id), mi.material_item_id, mi.id, 'OPENING', ms.total_qty, CURDATE(), NOW(6)
+FROM material_stock ms
+JOIN material_inbound mi ON mi.id = ms.material_inbound_id
+WHERE ms.total_qty <> 0;
+
+-- 풀링 채번 (V3 와 동일하게 기존 최대 키 + 51)
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'material_stock_movement', COALESCE(MAX(id), 0) + 51 FROM material_stock_movement;
+INSERT INTO id_generator (seq_name, next_val)
+VALUES ('material_stock_snapshot', 51);
@@ -0,0 +1,8 @@
+-- 재고 원장 변동 일자/기록 시각은 DB 시계로만 채움 (V5 의 OPENING 행과 같은 기준, 앱 서버 시계와 무관)
+ALTER TABLE material_stock_movement
+    MODIFY movement_date DATE NOT NULL DEFAULT (CURRENT_DATE),
+    MODIFY created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- 최근 입고 LOT 은 풀링 채번 id 순서가 아니라 입고일 기준으로 조회 (인스턴스별 id 블록은 시간 순서와 무관)
+ALTER TABLE material_stock_snapshot DROP COLUMN last_material_inbound_id;
+CREATE INDEX idx_material_inbound_item_date ON material_inbound (material_item_id, inbound_date, id);
@@ -0,0 +1,10 @@
+-- 출고 대상 인덱스 변경 로그 - 인스턴스마다 메모리에 들고 있는 인덱스를 다른 인스턴스의 변경에도 맞추기 위함
+-- 변경 트랜잭션이 커밋 직전에 한 행씩 남기고, 각 인스턴스가 주기적으로 created_at 범위를 읽어 해당 LOT 만 다시 조회한다.
+CREATE TABLE outbound_index_change (
+    id               BIGINT      NOT NULL AUTO_INCREMENT,
+    order_inbound_id BIGINT      NOT NULL,
+    created_at       DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX idx_outbound_index_change_created ON outbound_index_change (created_at, id, order_inbound_id);
@@ -0,0 +1,261 @@
+package com.mes_back.controller;
+
+import com.mes_back.constant.CompanyType;
+import com.mes_back.constant.MaterialCategory;
+import com.mes_back.constant.OrderCategory;
+import com.mes_back.constant.PaintType;
+import com.mes_back.constant.StockMovementType;
+import com.mes_back.entity.*;
+import com.mes_back.service.OrderOutboundService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mes_back.support.QueryCountGuard.assertMaxQueries;
+import static com.mes_back.support.QueryCountGuard.maxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록/상세 엔드포인트의 쿼리 수 상한.
+ * 행 수(ROWS)보다 작은 상한을 두므로 행마다 연관 엔티티를 다시 읽는 N+1 이 생기면 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryCountGuardTest {
+
+    private static final int ROWS = 6;
+    private static final int STEPS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderOutboundService orderOutboundService;
+
+    private Long orderItemId;
+    private Long orderInboundId;
+
+    @BeforeAll
+    void seed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Company customer = persist(company("고객사", CompanyType.CUSTOMER));
+            Company purchaser = persist(company("매입처", CompanyType.PURCHASER));
+
+            List<Routing> routings = new ArrayList<>();
+            for (int s = 1; s <= STEPS; s++) {
+                Routing routing = new Routing();
+                routing.setProcessCode("QC-" + s);
+                routing.setProcessName("공정" + s);
+                routing.setProcessTime(10 * s);
+                routings.add(persist(routing));
+            }
+
+            for (int i = 0; i < ROWS; i++) {
+                OrderItem item = new OrderItem();
+                item.setCompany(customer);
+                item.setItemName("품목" + i);
+                item.setItemCode("QI-" + i);
+                item.setCategory(OrderCategory.GENERAL);
+                item.setColor("WHITE");
+                item.setUnitPrice(1000L);
+                item.setPaintType(PaintType.POWDER);
+                item.setUseYn("Y");
+                item.setStatus("Y");
+                persist(item);
+
+                for (int n = 0; n < 2; n++) {
+                    OrderItemImg img = new OrderItemImg();
+                    img.setOrderItem(item);
+                    img.setImgOriName("photo" + n + ".jpg");
+                    img.setImgName(i + "_" + n + ".jpg");
+                    img.setImgUrl("http://localhost:8080/uploads/order_items/" + i + "_" + n + ".jpg");
+                    img.setRegYn(n == 0 ? "Y" : "N");
+                    persist(img);
+                }
+
+                List<OrderItemRouting> steps = new ArrayList<>();
+                for (int s = 0; s < STEPS; s++) {
+                    OrderItemRouting oir = new OrderItemRouting();
+                    oir.setOrderItem(item);
+                    oir.setRouting(routings.get(s));
+                    oir.setProcessNo((long) s + 1);
+                    steps.add(persist(oir));
+                }
+
+                OrderInbound inbound = persist(OrderInbound.builder()
+                        .orderItem(item)
+                        .company(customer)
+                        .customerName(customer.getCompanyName())
+                        .itemName(item.getItemName())
+                        .itemCode(item.getItemCode())
+                        .qty(100L)
+                        .shippedQty(20L)
+                        .category(OrderCategory.GENERAL)
+                        .inboundDate(LocalDate.now())
+                        .lotNo("LOT-Q-" + i)
+                        .paintType(PaintType.POWDER)
+                        .build());
+
+                for (int o = 0; o < 2; o++) {
+                    persist(OrderOutbound.builder()
+                            .orderInbound(inbound)
+                            .customerName(inbound.getCustomerName())
+                            .itemName(inbound.getItemName())
+                            .itemCode(inbound.getItemCode())
+                            .qty(10L)
+                            .category(OrderCategory.GENERAL)
+                            .outboundNo("OUT-Q-" + i + "-" + o)
+                            .outboundDate(LocalDate.now())
+                            .remainingQuantity(90L - 10L * o)
+                            .build());
+                }
+
+                for (OrderItemRouting step : steps) {
+                    ProcessTracking pt = new ProcessTracking();
+                    pt.setOrderInbound(inbound);
+                    pt.setOrderItemRouting(step);
+                    pt.setProcessStatus(2);
+                    pt.setProcessStartTime(LocalDateTime.now().minusMinutes(STEPS - step.getProcessNo()));
+                    persist(pt);
+                }
+
+                MaterialItem materialItem = new MaterialItem();
+                materialItem.setCompany(purchaser);
+                materialItem.setItemName("원자재" + i);
+                materialItem.setItemCode("QM-" + i);
+                materialItem.setCategory(MaterialCategory.PAINT);
+                materialItem.setSpecQty(20L);
+                materialItem.setSpecUnit("KG");
+                materialItem.setManufacturer("제조사");
+                materialItem.setUseYn("Y");
+                persist(materialItem);
+
+                MaterialInbound materialInbound = persist(MaterialInbound.builder()
+                        .materialItem(materialItem)
+                        .supplierName(purchaser.getCompanyName())
+                        .itemName(materialItem.getItemName())
+                        .itemCode(materialItem.getItemCode())
+                        .specQty(materialItem.getSpecQty())
+                        .specUnit(materialItem.getSpecUnit())
+                        .manufacturer(materialItem.getManufacturer())
+                        .manufacteDate(LocalDate.now())
+                        .qty(5L)
+                        .inboundDate(LocalDate.now())
+                        .inboundNo("MINC-Q-" + i)
+                        .totalQty(100L)
+                        .build());
+
+                MaterialStock stock = new MaterialStock();
+                stock.setMaterialInbound(materialInbound);
+                stock.setTotalQty(100L);
+                stock.setUnit("KG");
+                persist(stock);
+                persist(MaterialStockMovement.builder() // 재고 원장 (품목별 재고는 원장에서 집계)
+                        .materialItemId(materialInbound.getMaterialItem().getMaterialItemId())
+                        .materialInboundId(materialInbound.getId())
+                        .movementType(StockMovementType.INBOUND)
+                        .delta(100L)
+                        .build());
+
+                orderItemId = item.getOrderItemId();
+                orderInboundId = inbound.getOrderInboundId();
+            }
+        });
+    }
+
+    @Test
+    void orderItemList() throws Exception {
+        // 품목 프로젝션 1 + 이미지 일괄 1
+        mockMvc.perform(get("/items/order"))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(2));
+    }
+
+    @Test
+    void orderItemDetail() throws Exception {
+        // 품목(+업체) 1 + 이미지 1 + 라우팅(+공정) 1
+        mockMvc.perform(get("/items/order/dtl/{id}", orderItemId))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(3));
+    }
+
+    @Test
+    void orderOutboundList() throws Exception {
+        // 출고 + 입고 + 품목 + 업체 한 번에
+        mockMvc.perform(get("/orderitem/outbound"))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(1));
+    }
+
+    @Test
+    void orderOutboundFindAllService() {
+        assertThat(assertMaxQueries(1, orderOutboundService::findAll)).hasSize(ROWS * 2);
+    }
+
+    @Test
+    void processTrackingForLot() throws Exception {
+        // 공정(+라우팅/품목/공정마스터) 1 + LOT 1
+        mockMvc.perform(get("/orders/inbound/process/{id}", orderInboundId))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(2));
+    }
+
+    @Test
+    void outboundCandidates() throws Exception {
+        // 인메모리 인덱스 (최초 적재 시에만 1)
+        mockMvc.perform(get("/orders/inbound/orderoutbound"))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(1));
+    }
+
+    @Test
+    void materialInventory() throws Exception {
+        mockMvc.perform(get("/raw-materials/inventory"))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(1));
+    }
+
+    private int pending;
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        if (++pending % 100 == 0) {
+            em.flush();
+        }
+        return entity;
+    }
+
+    private static Company company(String name, CompanyType type) {
+        return Company.builder()
+                .type(type)
+                .companyName(name)
+                .ceoName("대표")
+                .address("주소")
+                .bizRegNo("123-45-67890")
+                .status("Y")
+                .build();
+    }
+}
@@ -0,0 +1,217 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.CompanyType;
+import com.mes_back.constant.DocumentType;
+import com.mes_back.constant.MaterialCategory;
+import com.mes_back.entity.Company;
+import com.mes_back.entity.MaterialInbound;
+import com.mes_back.entity.MaterialItem;
+import com.mes_back.repository.MaterialInboundRepository;
+import com.mes_back.repository.OrderInboundRepository;
+import com.mes_back.repository.OrderOutboundRepository;
+import com.mes_back.repository.RawOutboundRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 문서번호 채번 - 카운터 행 블록 할당.
+ * 테스트마다 서로 다른 일자를 써서 카운터 행이 겹치지 않게 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DocumentNumberServiceTest {
+
+    @Autowired
+    private OrderInboundRepository orderInboundRepository;
+
+    @Autowired
+    private MaterialInboundRepository materialInboundRepository;
+
+    @Autowired
+    private OrderOutboundRepository orderOutboundRepository;
+
+    @Autowired
+    private RawOutboundRepository rawOutboundRepository;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<DocumentNumberService> services = new ArrayList<>();
+
+    @AfterEach
+    void closePools() {
+        services.forEach(DocumentNumberService::closeSequencePool);
+        services.clear();
+    }
+
+    @Test
+    void concurrentNextFromTwoInstancesHasNoDuplicates() throws Exception {
+        LocalDate date = LocalDate.of(2031, 1, 1);
+        // 인스턴스 두 개가 같은 카운터 행을 나눠 씀
+        DocumentNumberService first = service(rawOutboundRepository, new SimpleMeterRegistry());
+        DocumentNumberService second = service(rawOutboundRepository, new SimpleMeterRegistry());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                DocumentNumberService target = t % 2 == 0 ? first : second;
+                Callable<List<String>> task = () -> {
+                    List<String> numbers = new ArrayList<>();
+                    for (int i = 0; i < 50; i++) {
+                        numbers.add(target.next(DocumentType.ORDER_OUTBOUND, date));
+                    }
+                    return numbers;
+                };
+                futures.add(executor.submit(task));
+            }
+
+            List<String> all = new ArrayList<>();
+            for (Future<List<String>> future : futures) {
+                all.addAll(future.get());
+            }
+            assertThat(all).hasSize(400);
+            assertThat(new HashSet<>(all)).hasSize(400);
+            assertThat(all).allMatch(no -> no.startsWith("OUT-20310101-"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void continuesAfterLegacyNumbersOfTheDay() {
+        LocalDate date = LocalDate.of(2031, 1, 2);
+        seedMaterialInbound("MINC-20310102-041", date);
+        seedMaterialInbound("MINC-20310103-099", date.plusDays(1)); // 다른 일자는 무관
+
+        DocumentNumberService service = service(rawOutboundRepository, new SimpleMeterRegistry());
+
+        assertThat(service.next(DocumentType.MATERIAL_INBOUND, date)).isEqualTo("MINC-20310102-042");
+        assertThat(service.next(DocumentType.MATERIAL_INBOUND, date)).isEqualTo("MINC-20310102-043");
+    }
+
+    @Test
+    void retriesWhenAnotherInstanceCreatesTheCounterRowFirst() {
+        LocalDate date = LocalDate.of(2031, 1, 4);
+        // 카운터 행이 없다고 본 직후(기존 번호 조회 시점)에 다른 인스턴스가 같은 행을 먼저 생성
+        RawOutboundRepository racing = mock(RawOutboundRepository.class);
+        when(racing.findMaxOutboundNoNative(anyString())).thenAnswer(invocation -> {
+            jdbcTemplate.update("INSERT INTO document_sequence (seq_key, prefix, seq_date, next_value) VALUES (?, ?, ?, ?)",
+                    "MOUT-20310104", "MOUT", date, 500L);
+            return Optional.empty();
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DocumentNumberService service = service(racing, meterRegistry);
+
+        assertThat(service.next(DocumentType.MATERIAL_OUTBOUND, date)).isEqualTo("MOUT-20310104-500");
+        assertThat(meterRegistry.counter("mes.document_number.retries", "type", "MATERIAL_OUTBOUND").count()).isEqualTo(1.0);
+        assertThat(jdbcTemplate.queryForObject("SELECT next_value FROM document_sequence WHERE seq_key = ?", Long.class,
+                "MOUT-20310104")).isEqualTo(520L);
+    }
+
+    @Test
+    void nextBlockReturnsContiguousNumbersOutsideTheInstanceBlock() {
+        LocalDate date = LocalDate.of(2031, 1, 5);
+        DocumentNumberService service = service(rawOutboundRepository, new SimpleMeterRegistry());
+
+        assertThat(service.next(DocumentType.LOT, date)).isEqualTo("LOT-20310105-001"); // 001~020 블록 예약
+        assertThat(service.nextBlock(DocumentType.LOT, date, 5)).containsExactly(
+                "LOT-20310105-021", "LOT-20310105-022", "LOT-20310105-023", "LOT-20310105-024", "LOT-20310105-025");
+        assertThat(service.next(DocumentType.LOT, date)).isEqualTo("LOT-20310105-002");
+        assertThat(service.nextBlock(DocumentType.LOT, date, 0)).isEmpty();
+    }
+
+    @Test
+    void crossingMidnightStartsNewDayAndKeepsItForBackDatedRequests() {
+        LocalDate yesterday = LocalDate.of(2031, 1, 6);
+        LocalDate today = yesterday.plusDays(1);
+        DocumentNumberService service = service(rawOutboundRepository, new SimpleMeterRegistry());
+
+        assertThat(service.next(DocumentType.LOT, yesterday)).isEqualTo("LOT-20310106-001");
+        assertThat(service.next(DocumentType.LOT, today)).isEqualTo("LOT-20310107-001");
+
+        // 전일 블록은 자정 이후 정리되어 새 블록에서 발급, 당일 블록은 그대로 유지
+        assertThat(service.next(DocumentType.LOT, yesterday)).isEqualTo("LOT-20310106-021");
+        assertThat(service.next(DocumentType.LOT, today)).isEqualTo("LOT-20310107-002");
+    }
+
+    private DocumentNumberService service(RawOutboundRepository rawOutbound, SimpleMeterRegistry meterRegistry) {
+        DocumentNumberService service = new DocumentNumberService(orderInboundRepository, materialInboundRepository,
+                orderOutboundRepository, rawOutbound, dataSourceProperties, meterRegistry, 20, 2);
+        services.add(service);
+        return service;
+    }
+
+    private void seedMaterialInbound(String inboundNo, LocalDate date) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Company purchaser = Company.builder()
+                    .type(CompanyType.PURCHASER)
+                    .companyName("채번매입처")
+                    .ceoName("대표")
+                    .address("주소")
+                    .bizRegNo("123-45-67890")
+                    .status("Y")
+                    .build();
+            em.persist(purchaser);
+
+            MaterialItem materialItem = new MaterialItem();
+            materialItem.setCompany(purchaser);
+            materialItem.setItemName("채번원자재");
+            materialItem.setItemCode("DN-" + inboundNo);
+            materialItem.setCategory(MaterialCategory.PAINT);
+            materialItem.setSpecQty(20L);
+            materialItem.setSpecUnit("KG");
+            materialItem.setManufacturer("제조사");
+            materialItem.setUseYn("Y");
+            em.persist(materialItem);
+
+            em.persist(MaterialInbound.builder()
+                    .materialItem(materialItem)
+                    .supplierName(purchaser.getCompanyName())
+                    .itemName(materialItem.getItemName())
+                    .itemCode(materialItem.getItemCode())
+                    .specQty(materialItem.getSpecQty())
+                    .specUnit(materialItem.getSpecUnit())
+                    .manufacturer(materialItem.getManufacturer())
+                    .manufacteDate(date)
+                    .qty(1L)
+                    .inboundDate(date)
+                    .inboundNo(inboundNo)
+                    .totalQty(20L)
+                    .build());
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.SheetFormat;
+import com.mes_back.exception.InvalidImportFileException;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 업로드 파일 행 reader - CSV 상태 기계(따옴표/줄바꿈/BOM), XLSX SAX 셀 이벤트 → 행 변환.
+ */
+class ImportSheetReaderTest {
+
+    private record ReadRow(int line, List<String> cells) {
+    }
+
+    @Test
+    void csvHandlesQuotesEscapedQuotesAndEmbeddedLineBreaks() throws IOException {
+        String csv = "\uFEFF품목코드,입고수량,비고\r\n" +
+                "P-1,\"1,200\",\"따옴표 \"\"안\"\" 값\"\r\n" +
+                "P-2,5,\"여러\n줄\"\n" +
+                "P-3,,";
+
+        List<ReadRow> rows = read(SheetFormat.CSV, csv.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(rows).containsExactly(
+                new ReadRow(1, List.of("품목코드", "입고수량", "비고")),
+                new ReadRow(2, List.of("P-1", "1,200", "따옴표 \"안\" 값")),
+                new ReadRow(3, List.of("P-2", "5", "여러\n줄")),
+                new ReadRow(4, List.of("P-3", "", "")));
+    }
+
+    @Test
+    void csvCountsBlankLinesAndIgnoresTrailingNewline() throws IOException {
+        List<ReadRow> rows = read(SheetFormat.CSV, "a,b\n\nc,d\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(rows).containsExactly(
+                new ReadRow(1, List.of("a", "b")),
+                new ReadRow(2, List.of("")),
+                new ReadRow(3, List.of("c", "d")));
+    }
+
+    @Test
+    void xlsxReadsFirstSheetFillsSkippedCellsAndFormatsDatesAsIso() throws IOException {
+        byte[] xlsx;
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            XSSFSheet sheet = workbook.createSheet("입고");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy\"년\" m\"월\" d\"일\""));
+
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("품목코드");
+            header.createCell(1).setCellValue("입고수량");
+            header.createCell(2).setCellValue("입고일자");
+
+            Row data = sheet.createRow(2); // 2행은 비어 있음
+            data.createCell(0).setCellValue("P-1");
+            data.createCell(2).setCellValue(LocalDate.of(2025, 10, 18)); // B열 생략
+            data.getCell(2).setCellStyle(dateStyle);
+
+            workbook.createSheet("두번째").createRow(0).createCell(0).setCellValue("무시");
+            workbook.write(out);
+            xlsx = out.toByteArray();
+        }
+
+        List<ReadRow> rows = read(SheetFormat.XLSX, xlsx);
+
+        assertThat(rows).containsExactly(
+                new ReadRow(1, List.of("품목코드", "입고수량", "입고일자")),
+                new ReadRow(3, List.of("P-1", "", "2025-10-18")));
+    }
+
+    @Test
+    void unreadableXlsxIsAnInvalidImportFile() {
+        byte[] notXlsx = "품목코드,입고수량".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> read(SheetFormat.XLSX, notXlsx)).isInstanceOf(InvalidImportFileException.class);
+    }
+
+    private static List<ReadRow> read(SheetFormat format, byte[] content) throws IOException {
+        List<ReadRow> rows = new ArrayList<>();
+        ImportSheetReader.read(format, new ByteArrayInputStream(content), (line, cells) -> rows.add(new ReadRow(line, cells)));
+        return rows;
+    }
+}
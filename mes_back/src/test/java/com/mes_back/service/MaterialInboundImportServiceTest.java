@@ -0,0 +1,195 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.CompanyType;
+import com.mes_back.constant.MaterialCategory;
+import com.mes_back.dto.ImportLineErrorDTO;
+import com.mes_back.dto.MaterialInboundImportResultDTO;
+import com.mes_back.entity.Company;
+import com.mes_back.entity.MaterialItem;
+import com.mes_back.exception.InvalidImportFileException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 원자재 입고 파일 업로드 - 행별 검증/실패 사유, 청크 단위 커밋, 파일 형식 오류(400).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MaterialInboundImportServiceTest {
+
+    private static final String HEADER = "품목코드,입고수량,입고일자,제조일자,매입처명\n";
+
+    @Autowired
+    private MaterialInboundImportService importService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long materialItemId;
+
+    @BeforeAll
+    void seed() {
+        materialItemId = new TransactionTemplate(transactionManager).execute(status -> {
+            Company purchaser = Company.builder()
+                    .type(CompanyType.PURCHASER)
+                    .companyName("업로드매입처")
+                    .ceoName("대표")
+                    .address("주소")
+                    .bizRegNo("123-45-67890")
+                    .status("Y")
+                    .build();
+            em.persist(purchaser);
+
+            MaterialItem item = new MaterialItem();
+            item.setCompany(purchaser);
+            item.setItemName("업로드원자재");
+            item.setItemCode("IMP-1");
+            item.setCategory(MaterialCategory.THINNER);
+            item.setSpecQty(20L);
+            item.setSpecUnit("L");
+            item.setManufacturer("제조사");
+            item.setUseYn("Y");
+            em.persist(item);
+            return item.getMaterialItemId();
+        });
+    }
+
+    @Test
+    void invalidRowsAreSkippedWithReasonsAndValidRowsImported() throws IOException {
+        long before = inboundCount();
+
+        MaterialInboundImportResultDTO result = importCsv(HEADER +
+                "IMP-1,3,2025-10-18,2025-10-01,\n" +      // 2행: 매입처 비우면 품목 업체명
+                "NOPE,3,2025-10-18,2025-10-01,\n" +       // 3행: 없는 품목
+                "IMP-1,세개,2025-10-18,2025-10-01,\n" +    // 4행: 수량 형식
+                "\n" +                                    // 5행: 빈 행은 무시
+                "IMP-1,3,18/10/2025,2025-10-01,\n" +      // 6행: 날짜 형식
+                "IMP-1,\"1,000\",2025.10.18,2025/10/01,직납처\n");
+
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(ImportLineErrorDTO::getLine).containsExactly(3, 4, 6);
+        assertThat(result.getErrors().get(0).getMessage()).contains("NOPE");
+        assertThat(inboundCount()).isEqualTo(before + 2);
+
+        Map<String, Object> defaulted = jdbcTemplate.queryForMap(
+                "SELECT supplier_name, total_qty FROM material_inbound WHERE inbound_no = ?", result.getFirstInboundNo());
+        assertThat(defaulted.get("supplier_name")).isEqualTo("업로드매입처");
+        assertThat(((Number) defaulted.get("total_qty")).longValue()).isEqualTo(60L); // 수량 * 규격
+
+        Map<String, Object> explicit = jdbcTemplate.queryForMap(
+                "SELECT supplier_name, total_qty FROM material_inbound WHERE inbound_no = ?", result.getLastInboundNo());
+        assertThat(explicit.get("supplier_name")).isEqualTo("직납처");
+        assertThat(((Number) explicit.get("total_qty")).longValue()).isEqualTo(20_000L);
+    }
+
+    @Test
+    void largeFilesAreImportedInChunksWithStockAndLedgerRows() throws IOException {
+        long before = inboundCount();
+        long stockBefore = count("SELECT COUNT(*) FROM material_stock ms JOIN material_inbound mi ON mi.id = ms.material_inbound_id " +
+                "WHERE mi.material_item_id = ?");
+        long ledgerBefore = count("SELECT COUNT(*) FROM material_stock_movement WHERE material_item_id = ?");
+
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 450; i++) {
+            csv.append("IMP-1,1,2025-10-18,2025-10-01,\n");
+        }
+        MaterialInboundImportResultDTO result = importCsv(csv.toString());
+
+        assertThat(result.getImportedRows()).isEqualTo(450);
+        assertThat(result.getFailedRows()).isZero();
+        assertThat(inboundCount()).isEqualTo(before + 450);
+        assertThat(count("SELECT COUNT(*) FROM material_stock ms JOIN material_inbound mi ON mi.id = ms.material_inbound_id " +
+                "WHERE mi.material_item_id = ?")).isEqualTo(stockBefore + 450);
+        assertThat(count("SELECT COUNT(*) FROM material_stock_movement WHERE material_item_id = ?")).isEqualTo(ledgerBefore + 450);
+    }
+
+    @Test
+    void chunksCommittedBeforeAFailingChunkAreKept() {
+        long before = inboundCount();
+
+        // 검증은 통과하지만 insert 에서 실패하는 행 (매입처명 컬럼 길이 초과)을 두 번째 청크에 둠
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 250; i++) {
+            String supplier = i == 230 ? "가".repeat(300) : "";
+            csv.append("IMP-1,1,2025-10-18,2025-10-01,").append(supplier).append('\n');
+        }
+
+        assertThatThrownBy(() -> importCsv(csv.toString())).isInstanceOf(RuntimeException.class);
+        assertThat(inboundCount()).isEqualTo(before + 200);
+    }
+
+    @Test
+    void unreadableFilesAreRejectedBeforeAnyRowIsImported() {
+        long before = inboundCount();
+
+        assertThatThrownBy(() -> importCsv("품목코드,입고수량\nIMP-1,3\n"))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("입고일자")
+                .hasMessageContaining("제조일자")
+                .extracting("line").isEqualTo(1);
+        assertThatThrownBy(() -> importCsv("\n\n")).isInstanceOf(InvalidImportFileException.class);
+        assertThatThrownBy(() -> importService.importFile("inbound.txt", new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(InvalidImportFileException.class);
+
+        assertThat(inboundCount()).isEqualTo(before);
+    }
+
+    @Test
+    void missingColumnsAnswer400WithTheReason() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "inbound.csv", "text/csv",
+                "품목코드,입고수량,입고일자\nIMP-1,3,2025-10-18\n".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/materials/inbound/import").file(file))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.importedRows").value(0))
+                .andExpect(jsonPath("$.errors[0].line").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("필수 컬럼이 없습니다: 제조일자"));
+    }
+
+    private MaterialInboundImportResultDTO importCsv(String csv) throws IOException {
+        return importService.importFile("inbound.csv", new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private long inboundCount() {
+        return count("SELECT COUNT(*) FROM material_inbound WHERE material_item_id = ?");
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, materialItemId);
+    }
+}
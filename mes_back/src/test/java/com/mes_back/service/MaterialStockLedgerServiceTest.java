@@ -0,0 +1,238 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.CompanyType;
+import com.mes_back.constant.MaterialCategory;
+import com.mes_back.constant.StockMovementType;
+import com.mes_back.entity.Company;
+import com.mes_back.entity.MaterialInbound;
+import com.mes_back.entity.MaterialItem;
+import com.mes_back.entity.MaterialStock;
+import com.mes_back.repository.MaterialStockMovementRepository.ItemStockBalance;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원자재 재고 원장 - 스냅샷 + 꼬리 변동분 집계, OPENING 기초 재고, 마감 중복 방지, 최근 입고 LOT 선택.
+ * 변동 일자는 DB 가 채우므로 지난 일자 변동은 SQL 로 직접 넣는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MaterialStockLedgerServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MaterialStockLedgerService ledgerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long movementId = 9_000_000L;
+
+    private Long itemA;
+    private Long itemB;
+    private Long itemC;
+    private Long lotATieLow;  // 입고일 D-2, id 작음
+    private Long lotATieHigh; // 입고일 D-2, id 큼
+    private Long lotAEarly;   // 입고일 D-5, id 가장 큼 (나중에 등록)
+    private Long lotC;
+
+    @BeforeAll
+    void seed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Company purchaser = Company.builder()
+                    .type(CompanyType.PURCHASER)
+                    .companyName("원장매입처")
+                    .ceoName("대표")
+                    .address("주소")
+                    .bizRegNo("123-45-67890")
+                    .status("Y")
+                    .build();
+            em.persist(purchaser);
+
+            MaterialItem a = materialItem(purchaser, "LG-A");
+            MaterialItem b = materialItem(purchaser, "LG-B");
+            MaterialItem c = materialItem(purchaser, "LG-C");
+            itemA = a.getMaterialItemId();
+            itemB = b.getMaterialItemId();
+            itemC = c.getMaterialItemId();
+
+            // 등록 순서(id 순)와 입고일 순서를 다르게 둠
+            lotATieLow = materialInbound(a, TODAY.minusDays(2), "MINC-LG-A1").getId();
+            lotATieHigh = materialInbound(a, TODAY.minusDays(2), "MINC-LG-A2").getId();
+            lotAEarly = materialInbound(a, TODAY.minusDays(5), "MINC-LG-A3").getId();
+            Long lotB = materialInbound(b, TODAY.minusDays(4), "MINC-LG-B1").getId();
+
+            MaterialInbound inboundC = materialInbound(c, TODAY.minusDays(10), "MINC-LG-C1");
+            lotC = inboundC.getId();
+            MaterialStock stockC = new MaterialStock();
+            stockC.setMaterialInbound(inboundC);
+            stockC.setTotalQty(70L);
+            stockC.setUnit("KG");
+            em.persist(stockC);
+            em.flush();
+
+            insertMovement(itemA, lotAEarly, StockMovementType.INBOUND, 50, TODAY.minusDays(5));
+            insertMovement(itemA, lotATieLow, StockMovementType.INBOUND, 30, TODAY.minusDays(2));
+            insertMovement(itemA, lotATieHigh, StockMovementType.INBOUND, 20, TODAY.minusDays(2));
+            insertMovement(itemA, lotAEarly, StockMovementType.OUTBOUND, -15, TODAY.minusDays(1));
+            insertMovement(itemB, lotB, StockMovementType.INBOUND, 40, TODAY.minusDays(4));
+            insertMovement(itemB, lotB, StockMovementType.OUTBOUND, -10, TODAY.minusDays(3));
+
+            // V5 와 같은 방식: 원장 도입일(오늘)에 LOT 잔량을 OPENING 으로 옮김 (이전 이력 없음)
+            insertMovement(itemC, lotC, StockMovementType.OPENING, stockC.getTotalQty(), TODAY);
+        });
+
+        // 오늘 변동은 서비스로 기록 (DB 일자)
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ledgerService.record(em.find(MaterialInbound.class, lotATieLow), -5, StockMovementType.OUTBOUND);
+            ledgerService.record(em.find(MaterialInbound.class, lotC), -20, StockMovementType.OUTBOUND);
+        });
+
+        // D-3 마감 스냅샷 (A=50, B=30)
+        assertThat(new TransactionTemplate(transactionManager).execute(status -> ledgerService.snapshot(TODAY.minusDays(3))))
+                .isPositive();
+    }
+
+    @Test
+    void currentBalanceIsSnapshotPlusTail() {
+        Map<Long, ItemStockBalance> balances = byItem(ledgerService.currentBalances());
+
+        assertThat(balances.get(itemA).getQty()).isEqualTo(80L); // 50 + 30 + 20 - 15 - 5
+        assertThat(balances.get(itemB).getQty()).isEqualTo(30L);
+        assertThat(balances.get(itemA).getUnit()).isEqualTo("KG");
+        assertThat(balances.get(itemA).getCompanyName()).isEqualTo("원장매입처");
+    }
+
+    @Test
+    void pastBalancesBeforeOnAndAfterTheSnapshotDate() {
+        // 스냅샷 이전 → 원장 처음부터 합산
+        Map<Long, ItemStockBalance> beforeSnapshot = byItem(ledgerService.balancesAsOf(TODAY.minusDays(4)));
+        assertThat(beforeSnapshot.get(itemA).getQty()).isEqualTo(50L);
+        assertThat(beforeSnapshot.get(itemB).getQty()).isEqualTo(40L);
+
+        // 마감일 당일 → 스냅샷 값 그대로
+        Map<Long, ItemStockBalance> onSnapshot = byItem(ledgerService.balancesAsOf(TODAY.minusDays(3)));
+        assertThat(onSnapshot.get(itemA).getQty()).isEqualTo(50L);
+        assertThat(onSnapshot.get(itemB).getQty()).isEqualTo(30L);
+
+        // 스냅샷 + 기준일까지의 꼬리 (오늘 변동은 제외)
+        Map<Long, ItemStockBalance> yesterday = byItem(ledgerService.balancesAsOf(TODAY.minusDays(1)));
+        assertThat(yesterday.get(itemA).getQty()).isEqualTo(85L);
+        assertThat(yesterday.get(itemB).getQty()).isEqualTo(30L);
+
+        // 원장에 아직 없는 일자 → 품목 없음
+        assertThat(byItem(ledgerService.balancesAsOf(TODAY.minusDays(6)))).doesNotContainKeys(itemA, itemB);
+    }
+
+    @Test
+    void openingRowsStartTheLedgerOnTheirDay() {
+        assertThat(byItem(ledgerService.currentBalances()).get(itemC).getQty()).isEqualTo(50L); // 70 - 20
+        assertThat(byItem(ledgerService.balancesAsOf(TODAY.minusDays(1)))).doesNotContainKey(itemC);
+    }
+
+    @Test
+    void snapshotClosedDayIsIdempotent() {
+        // 이미 마감된 일자는 다시 만들지 않음
+        assertThat(new TransactionTemplate(transactionManager).execute(status -> ledgerService.snapshot(TODAY.minusDays(3))))
+                .isZero();
+        assertThat(snapshotRows(TODAY.minusDays(3))).isEqualTo(2);
+
+        ledgerService.snapshotClosedDay();
+        int rows = snapshotRows(TODAY.minusDays(2));
+        ledgerService.snapshotClosedDay();
+
+        assertThat(snapshotRows(TODAY.minusDays(2))).isEqualTo(rows).isGreaterThanOrEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT qty FROM material_stock_snapshot WHERE snapshot_date = ? AND material_item_id = ?",
+                Long.class, TODAY.minusDays(2), itemA)).isEqualTo(100L);
+
+        // 마감 후에도 조회 결과는 같음
+        assertThat(byItem(ledgerService.currentBalances()).get(itemA).getQty()).isEqualTo(80L);
+    }
+
+    @Test
+    void lastMaterialInboundIsTheLatestInboundDateNotTheLargestId() {
+        assertThat(lotAEarly).isGreaterThan(lotATieHigh).isGreaterThan(lotATieLow);
+
+        // 입고일이 가장 늦은 LOT, 같은 입고일이면 id 큰 쪽
+        assertThat(byItem(ledgerService.currentBalances()).get(itemA).getLastMaterialInboundId()).isEqualTo(lotATieHigh);
+        // 기준일 이후 입고된 LOT 은 제외
+        assertThat(byItem(ledgerService.balancesAsOf(TODAY.minusDays(3))).get(itemA).getLastMaterialInboundId())
+                .isEqualTo(lotAEarly);
+        assertThat(byItem(ledgerService.currentBalances()).get(itemC).getLastMaterialInboundId()).isEqualTo(lotC);
+    }
+
+    private int snapshotRows(LocalDate date) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM material_stock_snapshot WHERE snapshot_date = ? AND material_item_id IN (?, ?, ?)",
+                Integer.class, date, itemA, itemB, itemC);
+    }
+
+    private static Map<Long, ItemStockBalance> byItem(List<ItemStockBalance> balances) {
+        return balances.stream().collect(Collectors.toMap(ItemStockBalance::getMaterialItemId, Function.identity()));
+    }
+
+    private void insertMovement(Long materialItemId, Long materialInboundId, StockMovementType type, long delta, LocalDate date) {
+        jdbcTemplate.update("INSERT INTO material_stock_movement " +
+                        "(id, material_item_id, material_inbound_id, movement_type, delta, movement_date, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                ++movementId, materialItemId, materialInboundId, type.name(), delta, date, date.atStartOfDay());
+    }
+
+    private MaterialItem materialItem(Company purchaser, String itemCode) {
+        MaterialItem item = new MaterialItem();
+        item.setCompany(purchaser);
+        item.setItemName("원장원자재-" + itemCode);
+        item.setItemCode(itemCode);
+        item.setCategory(MaterialCategory.PAINT);
+        item.setSpecQty(20L);
+        item.setSpecUnit("KG");
+        item.setManufacturer("제조사");
+        item.setUseYn("Y");
+        em.persist(item);
+        return item;
+    }
+
+    private MaterialInbound materialInbound(MaterialItem item, LocalDate inboundDate, String inboundNo) {
+        MaterialInbound inbound = MaterialInbound.builder()
+                .materialItem(item)
+                .supplierName(item.getCompany().getCompanyName())
+                .itemName(item.getItemName())
+                .itemCode(item.getItemCode())
+                .specQty(item.getSpecQty())
+                .specUnit(item.getSpecUnit())
+                .manufacturer(item.getManufacturer())
+                .manufacteDate(inboundDate)
+                .qty(1L)
+                .inboundDate(inboundDate)
+                .inboundNo(inboundNo)
+                .totalQty(100L)
+                .build();
+        em.persist(inbound);
+        return inbound;
+    }
+}
@@ -0,0 +1,188 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.CompanyType;
+import com.mes_back.constant.OrderCategory;
+import com.mes_back.constant.PaintType;
+import com.mes_back.dto.OrderInboundBulkResultDTO;
+import com.mes_back.dto.OrderInboundDTO;
+import com.mes_back.entity.Company;
+import com.mes_back.entity.OrderItem;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 입고 등록 - 전체 검증 후 전부 등록 또는 전부 미등록, 행별 결과, 연속 LOT번호.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderInboundBulkTest {
+
+    @Autowired
+    private OrderInboundService orderInboundService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long orderItemId;
+
+    @BeforeAll
+    void seed() {
+        orderItemId = new TransactionTemplate(transactionManager).execute(status -> {
+            Company customer = Company.builder()
+                    .type(CompanyType.CUSTOMER)
+                    .companyName("일괄고객사")
+                    .ceoName("대표")
+                    .address("주소")
+                    .bizRegNo("123-45-67890")
+                    .status("Y")
+                    .build();
+            em.persist(customer);
+
+            OrderItem item = new OrderItem();
+            item.setCompany(customer);
+            item.setItemName("일괄품목");
+            item.setItemCode("BK-1");
+            item.setCategory(OrderCategory.AUTOMOTIVE);
+            item.setColor("BLACK");
+            item.setUnitPrice(1000L);
+            item.setPaintType(PaintType.LIQUID);
+            item.setUseYn("Y");
+            item.setStatus("Y");
+            em.persist(item);
+            return item.getOrderItemId();
+        });
+    }
+
+    @Test
+    void invalidLinesRejectTheWholeBatchWithPerLineReasons() {
+        long before = inboundCount();
+
+        List<OrderInboundBulkResultDTO> results = orderInboundService.saveAll(List.of(
+                line(orderItemId, 10L),
+                line(null, 10L),
+                line(-1L, 10L),
+                line(orderItemId, 0L),
+                line(orderItemId, 5L, null)));
+
+        assertThat(results).extracting(OrderInboundBulkResultDTO::getLine).containsExactly(1, 2, 3, 4, 5);
+        assertThat(results).extracting(OrderInboundBulkResultDTO::isSuccess).containsExactly(true, false, false, false, false);
+        assertThat(results).extracting(OrderInboundBulkResultDTO::getMessage).containsExactly(
+                null,
+                "수주 품목이 지정되지 않았습니다.",
+                "존재하지 않는 수주 품목입니다.",
+                "입고 수량은 1 이상이어야 합니다.",
+                "입고일자가 없습니다.");
+        assertThat(results).extracting(OrderInboundBulkResultDTO::getLotNo).containsOnlyNulls();
+        assertThat(inboundCount()).isEqualTo(before);
+    }
+
+    @Test
+    void invalidLinesAnswer400WithPerLineReasons() throws Exception {
+        long before = inboundCount();
+
+        mockMvc.perform(post("/orders/inbound/items/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"order_item_id\":" + orderItemId + ",\"qty\":10,\"inbound_date\":\"2025-10-18\"}," +
+                                "{\"order_item_id\":" + orderItemId + ",\"qty\":-3,\"inbound_date\":\"2025-10-18\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].line").value(2))
+                .andExpect(jsonPath("$[1].message").value("입고 수량은 1 이상이어야 합니다."));
+
+        assertThat(inboundCount()).isEqualTo(before);
+    }
+
+    @Test
+    void validBatchGetsContiguousLotNumbersAndItemDefaults() {
+        long before = inboundCount();
+
+        List<OrderInboundBulkResultDTO> results = orderInboundService.saveAll(List.of(
+                line(orderItemId, 10L), line(orderItemId, 20L), line(orderItemId, 30L)));
+
+        assertThat(results).allMatch(OrderInboundBulkResultDTO::isSuccess);
+        assertThat(results).allMatch(r -> r.getOrderInboundId() != null);
+        assertThat(inboundCount()).isEqualTo(before + 3);
+
+        // 같은 일자 접두어 + 연속 번호
+        String prefix = results.get(0).getLotNo().substring(0, results.get(0).getLotNo().lastIndexOf('-') + 1);
+        long first = Long.parseLong(results.get(0).getLotNo().substring(prefix.length()));
+        assertThat(results).extracting(OrderInboundBulkResultDTO::getLotNo).containsExactly(
+                String.format("%s%03d", prefix, first),
+                String.format("%s%03d", prefix, first + 1),
+                String.format("%s%03d", prefix, first + 2));
+
+        // 품목 정보가 빠진 행은 수주 품목 기준으로 채움
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT category FROM order_inbound WHERE order_inbound_id = ?", String.class, results.get(0).getOrderInboundId()))
+                .containsExactly("AUTOMOTIVE");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT customer_name FROM order_inbound WHERE order_inbound_id = ?", String.class, results.get(0).getOrderInboundId()))
+                .containsExactly("일괄고객사");
+    }
+
+    @Test
+    void emptyAndOversizedBatchesAreRejected() {
+        long before = inboundCount();
+
+        assertThatThrownBy(() -> orderInboundService.saveAll(List.of())).isInstanceOf(IllegalArgumentException.class);
+
+        List<OrderInboundDTO> oversized = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            oversized.add(line(orderItemId, 1L));
+        }
+        assertThatThrownBy(() -> orderInboundService.saveAll(oversized))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("500");
+
+        assertThat(inboundCount()).isEqualTo(before);
+    }
+
+    private long inboundCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_inbound WHERE order_item_id = ?", Long.class, orderItemId);
+    }
+
+    private static OrderInboundDTO line(Long orderItemId, Long qty) {
+        return line(orderItemId, qty, LocalDate.now());
+    }
+
+    private static OrderInboundDTO line(Long orderItemId, Long qty, LocalDate inboundDate) {
+        OrderInboundDTO dto = new OrderInboundDTO();
+        dto.setOrderItemId(orderItemId);
+        dto.setQty(qty);
+        dto.setInboundDate(inboundDate);
+        return dto;
+    }
+}
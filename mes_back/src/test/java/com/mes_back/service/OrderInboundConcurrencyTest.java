@@ -0,0 +1,144 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.CompanyType;
+import com.mes_back.constant.OrderCategory;
+import com.mes_back.constant.PaintType;
+import com.mes_back.dto.OrderInboundDTO;
+import com.mes_back.dto.OrderOutboundDto;
+import com.mes_back.entity.Company;
+import com.mes_back.entity.OrderInbound;
+import com.mes_back.entity.OrderItem;
+import com.mes_back.repository.OrderInboundRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 입고 수정 트랜잭션이 입고 행을 읽어 둔 사이에 다른 스레드의 출고가 커밋되는 경우.
+ * 입고 수정이 읽어 둔 누적 출고수량으로 행을 덮어쓰면 출고가 유실되어 잔여수량이 늘어난다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderInboundConcurrencyTest {
+
+    @Autowired
+    private OrderInboundService orderInboundService;
+
+    @Autowired
+    private OrderOutboundService orderOutboundService;
+
+    @Autowired
+    private OrderInboundRepository orderInboundRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void outboundCommittedDuringUpdateIsNotLost() {
+        Long id = seedInbound(100L);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 수정 트랜잭션이 먼저 입고 행을 읽음 (누적 출고 0)
+            assertThat(orderInboundRepository.findById(id).orElseThrow().getShippedQty()).isZero();
+
+            // 그 사이 다른 스레드에서 30 출고 커밋
+            CompletableFuture.runAsync(() -> orderOutboundService.addOrderOutbound(outbound(id, 30L))).join();
+
+            orderInboundService.updateInbound(id, inbound(90L));
+        });
+
+        OrderInbound saved = orderInboundRepository.findById(id).orElseThrow();
+        assertThat(saved.getQty()).isEqualTo(90L);
+        assertThat(saved.getShippedQty()).isEqualTo(30L);
+        assertThat(saved.getRemainingQty()).isEqualTo(60L);
+    }
+
+    @Test
+    void lowerBelowShippedCommittedDuringUpdateIsRejected() {
+        Long id = seedInbound(100L);
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(orderInboundRepository.findById(id).orElseThrow().getShippedQty()).isZero();
+
+            CompletableFuture.runAsync(() -> orderOutboundService.addOrderOutbound(outbound(id, 50L))).join();
+
+            orderInboundService.updateInbound(id, inbound(40L));
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        OrderInbound saved = orderInboundRepository.findById(id).orElseThrow();
+        assertThat(saved.getQty()).isEqualTo(100L);
+        assertThat(saved.getShippedQty()).isEqualTo(50L);
+    }
+
+    private Long seedInbound(long qty) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Company customer = Company.builder()
+                    .type(CompanyType.CUSTOMER)
+                    .companyName("동시성고객사")
+                    .ceoName("대표")
+                    .address("주소")
+                    .bizRegNo("123-45-67890")
+                    .status("Y")
+                    .build();
+            em.persist(customer);
+
+            OrderItem item = new OrderItem();
+            item.setCompany(customer);
+            item.setItemName("동시성품목");
+            item.setItemCode("CC-1");
+            item.setCategory(OrderCategory.GENERAL);
+            item.setColor("WHITE");
+            item.setUnitPrice(1000L);
+            item.setPaintType(PaintType.POWDER);
+            item.setUseYn("Y");
+            item.setStatus("Y");
+            em.persist(item);
+
+            OrderInbound inbound = OrderInbound.builder()
+                    .orderItem(item)
+                    .company(customer)
+                    .customerName(customer.getCompanyName())
+                    .itemName(item.getItemName())
+                    .itemCode(item.getItemCode())
+                    .qty(qty)
+                    .category(OrderCategory.GENERAL)
+                    .inboundDate(LocalDate.now())
+                    .lotNo("LOT-CC-" + System.nanoTime() % 100000)
+                    .paintType(PaintType.POWDER)
+                    .build();
+            em.persist(inbound);
+            return inbound.getOrderInboundId();
+        });
+    }
+
+    private static OrderInboundDTO inbound(long qty) {
+        OrderInboundDTO dto = new OrderInboundDTO();
+        dto.setQty(qty);
+        dto.setInboundDate(LocalDate.now());
+        return dto;
+    }
+
+    private static OrderOutboundDto outbound(Long orderInboundId, long qty) {
+        return OrderOutboundDto.builder()
+                .orderInboundId(orderInboundId)
+                .customerName("동시성고객사")
+                .itemName("동시성품목")
+                .itemCode("CC-1")
+                .qty(qty)
+                .category(OrderCategory.GENERAL)
+                .build();
+    }
+}
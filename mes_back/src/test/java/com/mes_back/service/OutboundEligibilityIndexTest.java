@@ -0,0 +1,234 @@
+package com.mes_back.service;
+
+import com.mes_back.constant.CompanyType;
+import com.mes_back.constant.OrderCategory;
+import com.mes_back.constant.PaintType;
+import com.mes_back.dto.OrderInboundDTO;
+import com.mes_back.dto.OrderOutboundDto;
+import com.mes_back.dto.ProcessTrackingDTO;
+import com.mes_back.entity.*;
+import com.mes_back.repository.OrderInboundRepository;
+import com.mes_back.repository.OutboundIndexChangeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출고 대상 인메모리 인덱스가 DB 후보 쿼리(findInboundHistoriesForOutbound) 결과와 같은지.
+ * 같은 인스턴스는 커밋 후 갱신 표시로, 다른 인스턴스는 변경 로그 폴링으로 따라와야 한다.
+ * 다른 인스턴스는 이벤트를 받지 않는 별도 인덱스 객체로 흉내 낸다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboundEligibilityIndexTest {
+
+    @Autowired
+    private OutboundEligibilityIndex outboundEligibilityIndex;
+
+    @Autowired
+    private OrderInboundRepository orderInboundRepository;
+
+    @Autowired
+    private OutboundIndexChangeRepository changeRepository;
+
+    @Autowired
+    private OrderInboundService orderInboundService;
+
+    @Autowired
+    private OrderOutboundService orderOutboundService;
+
+    @Autowired
+    private OrderInboundProcessTrackingService processTrackingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void indexesFollowTheDatabaseOnThisAndOtherInstances() {
+        Seed seed = seed();
+
+        // 테스트 데이터는 이벤트 없이 넣었으므로 전체 재적재
+        outboundEligibilityIndex.rebuild();
+        OutboundEligibilityIndex otherInstance = new OutboundEligibilityIndex(orderInboundRepository, changeRepository,
+                Duration.ofSeconds(30));
+        assertMatchesDatabase(otherInstance.findAll());
+        otherInstance.pollChanges(); // 폴링 시작점
+
+        assertMatchesDatabase(outboundEligibilityIndex.findAll());
+        assertThat(ids(outboundEligibilityIndex.findAll()))
+                .contains(seed.completed, seed.toDelete, seed.toShip)
+                .doesNotContain(seed.inProgress);
+
+        // 1) 진행 중 공정 완료 → 출고 대상 추가
+        ProcessTrackingDTO done = new ProcessTrackingDTO();
+        done.setId(seed.inProgressStep);
+        done.setProcessStatus(2);
+        processTrackingService.updateProcessTracking(done);
+
+        // 2) 출고 등록 2건 + 1건 삭제 → 잔여 수량 변경
+        Long firstOutbound = orderOutboundService.addOrderOutbound(outbound(seed.toShip, 30L)).getId();
+        orderOutboundService.addOrderOutbound(outbound(seed.toShip, 20L));
+        orderOutboundService.deleteOrderOutbound(firstOutbound);
+
+        // 3) 입고 삭제 → 출고 대상 제외
+        orderInboundService.softDeleteById(seed.toDelete);
+
+        List<OrderInboundDTO> local = outboundEligibilityIndex.findAll();
+        assertMatchesDatabase(local);
+        assertThat(ids(local)).contains(seed.inProgress).doesNotContain(seed.toDelete);
+        assertThat(local).filteredOn(dto -> dto.getOrderInboundId().equals(seed.toShip))
+                .extracting(OrderInboundDTO::getQty).containsExactly(80L);
+
+        // 다른 인스턴스는 폴링 전까지 이전 상태, 폴링 후 같은 결과
+        assertThat(ids(otherInstance.findAll())).contains(seed.toDelete).doesNotContain(seed.inProgress);
+        otherInstance.pollChanges();
+        assertMatchesDatabase(otherInstance.findAll());
+
+        // 4) 늦게 커밋된 변경 로그 (이미 읽은 시각보다 이전 created_at) → commit-grace 구간을 겹쳐 읽어 반영
+        LocalDateTime watermark = changeRepository.findLatestCreatedAt().orElseThrow();
+        jdbcTemplate.update("UPDATE order_inbound SET shipped_qty = shipped_qty + 10 WHERE order_inbound_id = ?", seed.completed);
+        jdbcTemplate.update("INSERT INTO outbound_index_change (order_inbound_id, created_at) VALUES (?, ?)",
+                seed.completed, watermark.minusSeconds(5));
+
+        otherInstance.pollChanges();
+        List<OrderInboundDTO> remote = otherInstance.findAll();
+        assertMatchesDatabase(remote);
+        assertThat(remote).filteredOn(dto -> dto.getOrderInboundId().equals(seed.completed))
+                .extracting(OrderInboundDTO::getQty).containsExactly(90L);
+
+        // 5) 전체 재적재 후에도 같은 결과
+        outboundEligibilityIndex.rebuild();
+        assertMatchesDatabase(outboundEligibilityIndex.findAll());
+    }
+
+    private void assertMatchesDatabase(List<OrderInboundDTO> indexed) {
+        List<OrderInboundDTO> expected = orderInboundRepository.findInboundHistoriesForOutbound().stream()
+                .sorted(Comparator.comparing(OrderInboundDTO::getOrderInboundId))
+                .toList();
+        assertThat(indexed).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(expected);
+    }
+
+    private static List<Long> ids(List<OrderInboundDTO> rows) {
+        return rows.stream().map(OrderInboundDTO::getOrderInboundId).toList();
+    }
+
+    private record Seed(Long completed, Long inProgress, Long inProgressStep, Long toDelete, Long toShip) {
+    }
+
+    // 공정 2단계 품목 + LOT 4건 (inProgress 만 마지막 시작 공정이 진행 중)
+    private Seed seed() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Company customer = Company.builder()
+                    .type(CompanyType.CUSTOMER)
+                    .companyName("인덱스고객사")
+                    .ceoName("대표")
+                    .address("주소")
+                    .bizRegNo("123-45-67890")
+                    .status("Y")
+                    .build();
+            em.persist(customer);
+
+            OrderItem item = new OrderItem();
+            item.setCompany(customer);
+            item.setItemName("인덱스품목");
+            item.setItemCode("IX-1");
+            item.setCategory(OrderCategory.GENERAL);
+            item.setColor("WHITE");
+            item.setUnitPrice(1000L);
+            item.setPaintType(PaintType.POWDER);
+            item.setUseYn("Y");
+            item.setStatus("Y");
+            em.persist(item);
+
+            OrderItemRouting[] steps = new OrderItemRouting[2];
+            for (int s = 0; s < steps.length; s++) {
+                Routing routing = new Routing();
+                routing.setProcessCode("IX-" + (s + 1));
+                routing.setProcessName("인덱스공정" + (s + 1));
+                routing.setProcessTime(10);
+                em.persist(routing);
+
+                steps[s] = new OrderItemRouting();
+                steps[s].setOrderItem(item);
+                steps[s].setRouting(routing);
+                steps[s].setProcessNo((long) s + 1);
+                em.persist(steps[s]);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            Long completed = lot(customer, item, "LOT-IX-1").getOrderInboundId();
+            OrderInbound inProgress = lot(customer, item, "LOT-IX-2");
+            Long toDelete = lot(customer, item, "LOT-IX-3").getOrderInboundId();
+            Long toShip = lot(customer, item, "LOT-IX-4").getOrderInboundId();
+
+            Long inProgressStep = null;
+            for (OrderInbound lot : List.of(em.find(OrderInbound.class, completed), inProgress,
+                    em.find(OrderInbound.class, toDelete), em.find(OrderInbound.class, toShip))) {
+                tracking(lot, steps[0], 2, now.minusMinutes(2));
+                ProcessTracking last = tracking(lot, steps[1], lot == inProgress ? 1 : 2, now.minusMinutes(1));
+                if (lot == inProgress) {
+                    inProgressStep = last.getId();
+                }
+            }
+            em.flush();
+            return new Seed(completed, inProgress.getOrderInboundId(), inProgressStep, toDelete, toShip);
+        });
+    }
+
+    private OrderInbound lot(Company customer, OrderItem item, String lotNo) {
+        OrderInbound inbound = OrderInbound.builder()
+                .orderItem(item)
+                .company(customer)
+                .customerName(customer.getCompanyName())
+                .itemName(item.getItemName())
+                .itemCode(item.getItemCode())
+                .qty(100L)
+                .category(OrderCategory.GENERAL)
+                .inboundDate(LocalDate.now())
+                .lotNo(lotNo)
+                .paintType(PaintType.POWDER)
+                .build();
+        em.persist(inbound);
+        return inbound;
+    }
+
+    private ProcessTracking tracking(OrderInbound lot, OrderItemRouting step, int processStatus, LocalDateTime startTime) {
+        ProcessTracking pt = new ProcessTracking();
+        pt.setOrderInbound(lot);
+        pt.setOrderItemRouting(step);
+        pt.setProcessStatus(processStatus);
+        pt.setProcessStartTime(startTime);
+        em.persist(pt);
+        return pt;
+    }
+
+    private static OrderOutboundDto outbound(Long orderInboundId, long qty) {
+        return OrderOutboundDto.builder()
+                .orderInboundId(orderInboundId)
+                .customerName("인덱스고객사")
+                .itemName("인덱스품목")
+                .itemCode("IX-1")
+                .qty(qty)
+                .category(OrderCategory.GENERAL)
+                .build();
+    }
+}
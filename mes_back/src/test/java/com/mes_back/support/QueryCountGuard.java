@@ -0,0 +1,45 @@
+package com.mes_back.support;
+
+import com.mes_back.config.QueryCountHeaderAdvice;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 수 상한 검증 (N+1 회귀 방지).
+ * - MockMvc: andExpect(maxQueries(n)) → 응답 헤더 X-Query-Count 기준
+ * - 서비스 직접 호출: assertMaxQueries(n, () -> service.find...())
+ */
+public final class QueryCountGuard {
+
+    private QueryCountGuard() {
+    }
+
+    public static ResultMatcher maxQueries(int max) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryCountHeaderAdvice.QUERY_COUNT_HEADER);
+            assertThat(header)
+                    .as("%s 헤더가 없습니다 (query-count.enabled 가 꺼져 있거나 @ResponseBody 응답이 아님)", QueryCountHeaderAdvice.QUERY_COUNT_HEADER)
+                    .isNotNull();
+            assertThat(Long.parseLong(header))
+                    .as("%s %s 쿼리 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(max);
+        };
+    }
+
+    public static <T> T assertMaxQueries(int max, Supplier<T> action) {
+        QueryCountHolder.clear();
+        try {
+            T result = action.get();
+            assertThat(QueryCountHolder.getGrandTotal().getTotal())
+                    .as("쿼리 수")
+                    .isLessThanOrEqualTo(max);
+            return result;
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+}
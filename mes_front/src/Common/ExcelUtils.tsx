@@ -31,3 +31,27 @@ export function exportToExcel<T extends object>(
   // 4️⃣ 실제 엑셀 파일 다운로드
   XLSX.writeFile(workbook, fileName);
 }
+
+// =============================
+// 📥 서버 스트리밍 다운로드 유틸
+// =============================
+// 백엔드 /export/** 엔드포인트에서 바로 내려받음 (전체 목록을 브라우저로 가져오지 않음)
+// path: "/export/orders/inbound" 등
+// params: 목록 화면 검색 조건 (customerName, itemCode, itemName, documentNo, fromDate, toDate)
+export function downloadServerExport(
+  path: string,
+  params: Record<string, string | undefined> = {},
+  format: "XLSX" | "CSV" = "XLSX"
+): void {
+  const query = new URLSearchParams({ format });
+  Object.entries(params).forEach(([key, value]) => {
+    if (value) query.append(key, value);
+  });
+
+  // 브라우저가 응답을 파일로 직접 저장하도록 링크 클릭으로 요청
+  const link = document.createElement("a");
+  link.href = `${import.meta.env.VITE_API_URL}${path}?${query.toString()}`;
+  document.body.appendChild(link);
+  link.click();
+  link.remove();
+}
@@ -22,7 +22,7 @@ import {
   ArrowDownward,
   FileDownload as FileDownloadIcon,
 } from "@mui/icons-material";
-import { exportToExcel } from "../../../Common/ExcelUtils";
+import { downloadServerExport } from "../../../Common/ExcelUtils";
 import type { OrderInbound, OrderItems, RoutingFormData } from "../../../type";
 import {
   deleteInboundHistory,
@@ -167,7 +167,17 @@ export default function InboundHistoryPage() {
   /** -----------------------------
    * 📌 엑셀 다운로드
    * ----------------------------- */
-  const handleExcelDownload = () => exportToExcel(sortedData, "입고이력");
+  const handleExcelDownload = () => {
+    const inboundDate = searchValues.inbound_date?.format("YYYY-MM-DD");
+    downloadServerExport("/export/orders/inbound", {
+      customerName: searchValues.customer_name,
+      itemCode: searchValues.item_code,
+      itemName: searchValues.item_name,
+      documentNo: searchValues.lot_no,
+      fromDate: inboundDate,
+      toDate: inboundDate,
+    });
+  };
 
   /** -----------------------------
    * 📌 수정 / 삭제
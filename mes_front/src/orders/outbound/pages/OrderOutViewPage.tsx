@@ -27,7 +27,7 @@ import {
   getOrderOutbound,
   updateOrderOutbound,
 } from "../api/orderOutbound";
-import { exportToExcel } from "../../../Common/ExcelUtils";
+import { downloadServerExport } from "../../../Common/ExcelUtils";
 import FileDownloadIcon from "@mui/icons-material/FileDownload";
 // import EditOrderOutModal from "./EditOrderOutModal"; // Removed
 import { usePagination } from "../../../Common/usePagination";
@@ -187,7 +187,13 @@ export default function OrderOutViewPage() {
       }
     };
 
-  const handleExcelDownload = () => exportToExcel(sortedRows, "출고목록");
+  const handleExcelDownload = () =>
+    downloadServerExport("/export/orders/outbound", {
+      customerName: search.customerName,
+      itemCode: search.itemCode,
+      itemName: search.itemName,
+      documentNo: search.outboundNo,
+    });
 
   // ✅ 삭제
   const handleDelete = (id: number) => {
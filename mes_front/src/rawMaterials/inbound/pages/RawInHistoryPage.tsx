@@ -25,10 +25,12 @@ import {
   ArrowUpward as ArrowUpwardIcon,
   ArrowDownward as ArrowDownwardIcon,
 } from "@mui/icons-material";
+import FileDownloadIcon from "@mui/icons-material/FileDownload";
 
 import type { MaterialInbound } from "../../../type";
 import { getMaterialInbound, updateMaterialInbound, deleteMaterailInbound } from "../api/rawInboundApi";
 import { usePagination } from "../../../Common/usePagination";
+import { downloadServerExport } from "../../../Common/ExcelUtils";
 
 // Helper function to filter history
 const filterInboundHistory = (
@@ -139,6 +141,19 @@ export default function RawInHistoryPage() {
     setAppliedSearchValues(searchValues);
   };
 
+  // 검색된 조건 기준으로 서버에서 내려받음
+  const handleExcelDownload = () => {
+    const inboundDate = appliedSearchValues.inboundDate?.format("YYYY-MM-DD");
+    downloadServerExport("/export/materials/inbound", {
+      customerName: appliedSearchValues.supplierName,
+      itemCode: appliedSearchValues.itemCode,
+      itemName: appliedSearchValues.itemName,
+      documentNo: appliedSearchValues.inboundNo,
+      fromDate: inboundDate,
+      toDate: inboundDate,
+    });
+  };
+
   const handleUpdate = (row: MaterialInbound) => {
     setEditRowId(row.id);
     setEditableRowData(row);
@@ -342,6 +357,15 @@ export default function RawInHistoryPage() {
             {sortAsc ? <ArrowUpwardIcon /> : <ArrowDownwardIcon />}
           </IconButton>
         </Tooltip>
+        <Button
+          color="success"
+          variant="outlined"
+          endIcon={<FileDownloadIcon />}
+          onClick={handleExcelDownload}
+          sx={{ ml: "auto" }}
+        >
+          엑셀 다운로드
+        </Button>
       </Box>
 
       {loading ? (
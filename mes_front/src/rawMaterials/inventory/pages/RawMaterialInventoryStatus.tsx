@@ -20,7 +20,7 @@ import {
   ArrowDownward as ArrowDownwardIcon,
 } from "@mui/icons-material";
 
-import { exportToExcel } from "../../../Common/ExcelUtils";
+import { downloadServerExport } from "../../../Common/ExcelUtils";
 import { usePagination } from "../../../Common/usePagination";
 import type { RawMaterialInventoryStatus } from "../../../type";
 import { fetchRawMaterialInventory } from "../api/RawMaterialApi";
@@ -126,7 +126,13 @@ export default function RawMaterialInventoryStatus() {
           color="success"
           variant="outlined"
           endIcon={<FileDownloadIcon />}
-          onClick={() => exportToExcel(filteredData, "원자재재고_총량")}
+          onClick={() =>
+            downloadServerExport("/export/materials/stock", {
+              customerName: searchParams.company_name,
+              itemCode: searchParams.item_code,
+              itemName: searchParams.item_name,
+            })
+          }
         >
           엑셀 다운로드
         </Button>
@@ -15,7 +15,7 @@ import {
   IconButton,
 } from "@mui/material";
 import FileDownloadIcon from "@mui/icons-material/FileDownload";
-import { exportToExcel } from "../../../Common/ExcelUtils";
+import { downloadServerExport } from "../../../Common/ExcelUtils";
 import RawOutRegisterModal from "./RawOutRegisterModal";
 import type { RawMaterialOutItems } from "../../../type";
 import {
@@ -109,6 +109,18 @@ export default function RawMaterialOutViewPage() {
   const { currentPage, setCurrentPage, totalPages, paginatedData } =
     usePagination(sortedRows, 20);
 
+  const handleExcelDownload = () => {
+    const outboundDate = searchDate?.format("YYYY-MM-DD");
+    downloadServerExport("/export/materials/outbound", {
+      customerName: searchValues.company_name,
+      itemCode: searchValues.item_code,
+      itemName: searchValues.item_name,
+      documentNo: searchValues.outbound_no,
+      fromDate: outboundDate,
+      toDate: outboundDate,
+    });
+  };
+
   const handleDelete = async (id: number) => {
     if (!window.confirm("이 출고 정보를 삭제하시겠습니까?")) return;
     await deleteRawMaterialOutbound(id);
@@ -197,7 +209,7 @@ export default function RawMaterialOutViewPage() {
               color="success"
               variant="outlined"
               endIcon={<FileDownloadIcon />}
-              onClick={() => exportToExcel(displayedItems, "원자재출고이력")}
+              onClick={handleExcelDownload}
             >
               엑셀 다운로드
             </Button>